@@ -19,9 +19,21 @@ CREATE TABLE product_stock (
                                product_id BIGINT NOT NULL,
                                size INT NOT NULL,
                                stock_quantity INT NOT NULL,
+                               shard_count INT NOT NULL DEFAULT 0,
                                updated_at DATETIME NOT NULL
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
+-- ProductStockShard (product_stock.shard_count > 0 인 한정 발매 SKU의 재고를 나눠 담는다)
+CREATE TABLE product_stock_shard (
+                                     id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                     product_id BIGINT NOT NULL,
+                                     size INT NOT NULL,
+                                     shard_no INT NOT NULL,
+                                     stock_quantity INT NOT NULL,
+                                     updated_at DATETIME NOT NULL,
+                                     CONSTRAINT uq_product_size_shard UNIQUE (product_id, size, shard_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
 -- Balance
 CREATE TABLE balance (
                          id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -53,13 +65,14 @@ CREATE TABLE coupon_issue (
                               is_used BOOLEAN NOT NULL
     -- CONSTRAINT fk_coupon FOREIGN KEY (coupon_id) REFERENCES coupon(id) 제거
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
--- Orders
+-- Orders (id: UUIDv7 을 BINARY(16) 으로 저장. 시간 순으로 증가하고 16바이트 고정 길이라 PK/보조 인덱스가 작다)
 CREATE TABLE orders (
-                        id VARCHAR(64) PRIMARY KEY,
+                        id BINARY(16) PRIMARY KEY,
                         user_id BIGINT NOT NULL,
                         total_amount BIGINT NOT NULL,
                         status VARCHAR(20) NOT NULL, -- ENUM: CREATED, CONFIRMED, CANCELLED
-                        created_at DATETIME NOT NULL
+                        created_at DATETIME NOT NULL,
+                        coupon_issue_id BIGINT NULL
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
 -- OrderItem
@@ -69,14 +82,14 @@ CREATE TABLE order_item (
                             quantity INT NOT NULL,
                             size INT NOT NULL,
                             price BIGINT NOT NULL,
-                            order_id VARCHAR(64) -- FK 제거됨
+                            order_id BINARY(16) -- FK 제거됨
     --  CONSTRAINT fk_order FOREIGN KEY (order_id) REFERENCES orders(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
 -- OrderHistory
 CREATE TABLE order_history (
                                id BIGINT AUTO_INCREMENT PRIMARY KEY,
-                               order_id VARCHAR(64) NOT NULL,
+                               order_id BINARY(16) NOT NULL,
                                status VARCHAR(20) NOT NULL,
                                memo TEXT,
                                changed_at DATETIME NOT NULL
@@ -84,8 +97,8 @@ CREATE TABLE order_history (
 
 -- Payment
 CREATE TABLE payment (
-                         id VARCHAR(64) PRIMARY KEY,
-                         order_id VARCHAR(64) NOT NULL,
+                         id BINARY(16) PRIMARY KEY,
+                         order_id BINARY(16) NOT NULL,
                          amount BIGINT NOT NULL,
                          status VARCHAR(20) NOT NULL, -- ENUM: SUCCESS, FAILURE
                          method VARCHAR(50) NOT NULL,
@@ -122,8 +135,41 @@ CREATE TABLE product_statistics (
                                     PRIMARY KEY (product_id, stat_date)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
+-- IdempotencyKey (key_id = 범위:키, 처리 결과 응답을 함께 저장)
+CREATE TABLE idempotency_key (
+                                 key_id VARCHAR(120) PRIMARY KEY,
+                                 scope VARCHAR(20) NOT NULL,
+                                 request_hash CHAR(64) NOT NULL,
+                                 response_body LONGTEXT,
+                                 created_at DATETIME NOT NULL,
+                                 started_at DATETIME(6) NOT NULL,
+                                 INDEX idx_idempotency_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- IdGenerator (order_item, balance 등 JDBC 배치 INSERT 대상 테이블의 id 블록 할당용)
+-- 엔티티마다 행을 따로 둔다. 행 하나를 같이 쓰면 모든 블록 할당이 같은 행 잠금을 두고 경합한다.
+-- 블록 할당은 호출 트랜잭션과 별도 커넥션으로 실행되므로 커넥션 풀 크기는 application.yml 주석을 따른다.
+CREATE TABLE id_generator (
+                              name VARCHAR(64) PRIMARY KEY,
+                              next_val BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
 --
 ALTER TABLE product_stock ADD CONSTRAINT uq_product_size UNIQUE (product_id, size);
+
+-- 상품 목록 키셋(커서) 페이지네이션용 복합 인덱스 (정렬 키 + id tie-breaker)
+CREATE INDEX idx_product_price_id_desc ON product (price DESC, id DESC);
+CREATE INDEX idx_product_created_at_id_desc ON product (created_at DESC, id DESC);
+
+-- 인기 상품 집계용 커버링 인덱스 (기간 범위 스캔 + 상품별 합계)
+CREATE INDEX idx_stat_date_product_sales ON product_statistics (stat_date, product_id, sales_count);
+
+-- 만료된 미결제 주문 회수용 (status, created_at) 인덱스
+CREATE INDEX idx_orders_status_created_at ON orders (status, created_at);
+
+-- 사용자 주문 목록 키셋 페이지네이션용 (user_id, created_at, id) 인덱스와 주문 상품 일괄 조회용 인덱스
+CREATE INDEX idx_orders_user_created_id ON orders (user_id, created_at DESC, id DESC);
+CREATE INDEX idx_order_item_order_id ON order_item (order_id);
 ALTER DATABASE hhplus
   CHARACTER SET = utf8mb4
   COLLATE = utf8mb4_general_ci;
@@ -58,28 +58,28 @@ VALUES
     (1, 100, 1, NOW(), false),
     (2, 100, 2, NOW(), false);
 
--- Orders
+-- Orders (id: UUIDv7 을 BINARY(16) 으로 저장)
 INSERT INTO orders (id, user_id, total_amount, status, created_at)
 VALUES
-    ('order-1', 100, 398000, 'CONFIRMED', NOW()),
-    ('order-2', 101, 169000, 'CREATED', NOW());
+    (UUID_TO_BIN('01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d'), 100, 398000, 'CONFIRMED', NOW()),
+    (UUID_TO_BIN('01928f4e-6a10-7b3c-9d4e-5f6a7b8c9d0e'), 101, 169000, 'CREATED', NOW());
 
 
 -- Order Item
 INSERT INTO order_item (id, product_id, quantity, size, price, order_id)
 VALUES
-    (1, 1, 1, 270, 199000, 'order-1'),
-    (2, 2, 1, 275, 169000, 'order-1');
+    (1, 1, 1, 270, 199000, UUID_TO_BIN('01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d')),
+    (2, 2, 1, 275, 169000, UUID_TO_BIN('01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d'));
 
 -- Payment
 INSERT INTO payment (id, order_id, amount, status, method, created_at)
 VALUES
-    ('pay-1', 'order-1', 398000, 'SUCCESS', 'CARD', NOW());
+    (UUID_TO_BIN('01928f4e-6a3b-7c1d-9e2f-3a4b5c6d7e8f'), UUID_TO_BIN('01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d'), 398000, 'SUCCESS', 'CARD', NOW());
 
 -- Order Event
 INSERT INTO order_event (id, aggregate_type, event_type, payload, status, created_at)
 VALUES
-    (UUID_TO_BIN(UUID()), 'ORDER', 'PAYMENT_COMPLETED', '{"orderId":"order-1"}', 'PENDING', NOW());
+    (UUID_TO_BIN(UUID()), 'ORDER', 'PAYMENT_COMPLETED', '{"orderId":"01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d"}', 'PENDING', NOW());
 
 -- Product Statistics
 INSERT INTO product_statistics (product_id, stat_date, sales_count, sales_amount)
@@ -168,7 +168,7 @@ WHERE RAND() < 0.2;
 -- Orders (10만 건)
 INSERT INTO orders (id, user_id, total_amount, status, created_at)
 SELECT
-    CONCAT('order-', UUID()),
+    UUID_TO_BIN(UUID(), 1), -- 시간 비트를 앞으로 옮겨 삽입 순서대로 쌓이게 한다
     FLOOR(1 + RAND() * 50000), -- 5만 명 유저
     FLOOR(50000 + RAND() * 200000),
     ELT(FLOOR(1 + RAND() * 3), 'CREATED', 'CONFIRMED', 'CANCELLED'),
@@ -225,4 +225,12 @@ FROM (
 SET NAMES utf8mb4;
 SET character_set_client = utf8mb4;
 SET character_set_connection = utf8mb4;
-SET character_set_results = utf8mb4;
\ No newline at end of file
+SET character_set_results = utf8mb4;
+
+-- id 블록 할당 시작값 (시드 데이터의 최대 id 다음부터)
+INSERT INTO id_generator (name, next_val)
+SELECT 'order_item', COALESCE(MAX(id), 0) + 1 FROM order_item
+UNION ALL SELECT 'order_history', COALESCE(MAX(id), 0) + 1 FROM order_history
+UNION ALL SELECT 'balance', COALESCE(MAX(id), 0) + 1 FROM balance
+UNION ALL SELECT 'balance_history', COALESCE(MAX(id), 0) + 1 FROM balance_history
+UNION ALL SELECT 'coupon_issue', COALESCE(MAX(id), 0) + 1 FROM coupon_issue;
@@ -0,0 +1,122 @@
+package kr.hhplus.be.server.application.balance;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.balance.Balance;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 같은 사용자의 동시 충전 묶음 처리.
+ * 요청은 사용자별 대기열에 쌓이고, 사용자 잠금을 먼저 잡은 스레드가 쌓인 요청을 한꺼번에 꺼내
+ * 트랜잭션 하나(잔액 UPDATE 한 번 + 이력 배치 INSERT)로 처리한다.
+ * 잠금을 기다리던 스레드는 자기 요청이 이미 처리됐으면 결과만 받아 가므로, 몰린 요청이 버전 충돌 없이 한 번의 쓰기로 합쳐진다.
+ */
+@Component
+public class BalanceChargeCombiner {
+
+    static final int MAX_BATCH_SIZE = 500;
+
+    private final BalanceUseCase balanceUseCase;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary batchSize;
+    private final ConcurrentHashMap<Long, UserChargeQueue> queues = new ConcurrentHashMap<>();
+
+    public BalanceChargeCombiner(BalanceUseCase balanceUseCase,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry) {
+        this.balanceUseCase = balanceUseCase;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = DistributionSummary.builder("balance.charge.batch.size")
+                .description("한 번의 잔액 UPDATE 로 묶인 충전 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 충전 요청을 대기열에 넣고 처리될 때까지 기다린다.
+     * 다른 요청과 같은 트랜잭션으로 커밋되므로 호출하는 쪽 트랜잭션 안에서 부르면 안 된다.
+     */
+    public BalanceInfo charge(ChargeBalanceCommand command) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("묶음 충전은 트랜잭션 밖에서 호출해야 합니다.");
+        }
+        Balance.Policy.validateMinimumCharge(Money.wons(command.amount()));
+
+        PendingCharge mine = new PendingCharge(command, new CompletableFuture<>());
+        UserChargeQueue queue = queues.computeIfAbsent(command.userId(), userId -> new UserChargeQueue());
+        queue.pending().add(mine);
+
+        while (!mine.result().isDone()) {
+            queue.lock().lock();
+            try {
+                if (!mine.result().isDone()) {
+                    combine(command.userId(), queue);
+                }
+            } finally {
+                queue.lock().unlock();
+            }
+        }
+        if (queue.pending().isEmpty()) {
+            // 그 사이 들어온 요청은 꺼낸 큐의 잠금을 직접 잡아 처리하므로 지워도 유실되지 않는다
+            queues.remove(command.userId(), queue);
+        }
+        return await(mine.result());
+    }
+
+    private void combine(Long userId, UserChargeQueue queue) {
+        List<PendingCharge> batch = new ArrayList<>();
+        PendingCharge next;
+        while (batch.size() < MAX_BATCH_SIZE && (next = queue.pending().poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSize.record(batch.size());
+
+        try {
+            List<ChargeBalanceCommand> commands = batch.stream().map(PendingCharge::command).toList();
+            List<BalanceInfo> results = transactionTemplate.execute(status -> balanceUseCase.chargeCombined(userId, commands));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        } finally {
+            batch.stream()
+                    .filter(pending -> !pending.result().isDone())
+                    .forEach(pending -> pending.result().completeExceptionally(new IllegalStateException("충전 처리 중단")));
+        }
+    }
+
+    private BalanceInfo await(CompletableFuture<BalanceInfo> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record PendingCharge(ChargeBalanceCommand command, CompletableFuture<BalanceInfo> result) {
+    }
+
+    private record UserChargeQueue(Queue<PendingCharge> pending, ReentrantLock lock) {
+        UserChargeQueue() {
+            this(new ConcurrentLinkedQueue<>(), new ReentrantLock());
+        }
+    }
+}
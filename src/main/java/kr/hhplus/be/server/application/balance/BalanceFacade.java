@@ -2,30 +2,50 @@ package kr.hhplus.be.server.application.balance;
 
 import kr.hhplus.be.server.common.rate.InMemoryRateLimiter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 @Service
 @RequiredArgsConstructor
 public class BalanceFacade {
+    public static final String ATOMIC_CHARGE_MODE = "atomic";
+    public static final String COMBINING_CHARGE_MODE = "combining";
 
     private final BalanceRetryService retryService;
+    private final BalanceUseCase balanceUseCase;
     private final BalanceHistoryUseCase historyUseCase;
     private final InMemoryRateLimiter rateLimiter;
-
-
-
-    @Transactional
+    private final BalanceChargeCombiner chargeCombiner;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * atomic(기본): amount = amount + ? UPDATE 한 번으로 충전한다. 같은 사용자의 동시 충전은 행 잠금 순서대로 반영된다.
+     * optimistic-retry: 엔티티를 읽어 충전하고 버전 충돌 시 재시도한다.
+     * combining: 같은 사용자의 동시 충전을 모아 UPDATE 한 번과 이력 배치 INSERT 로 처리한다.
+     */
+    @Value("${balance.charge-mode:atomic}")
+    private String chargeMode;
+
+    /**
+     * combining 모드는 묶음 처리기가 트랜잭션과 이력 저장을 맡으므로, 충전과 이력 저장을 묶는 트랜잭션은 나머지 모드에서만 연다.
+     */
     public BalanceResult charge(ChargeBalanceCriteria criteria) {
         rateLimiter.validate(criteria.userId());
 
         ChargeBalanceCommand command = ChargeBalanceCommand.from(criteria);
-        BalanceInfo info = retryService.chargeWithRetry(command);
-        historyUseCase.recordHistory(RecordBalanceHistoryCommand.of(criteria));
-        return BalanceResult.fromInfo(info);
+        if (COMBINING_CHARGE_MODE.equals(chargeMode)) {
+            return BalanceResult.fromInfo(chargeCombiner.charge(command));
+        }
+        return transactionTemplate.execute(status -> {
+            BalanceInfo info = ATOMIC_CHARGE_MODE.equals(chargeMode)
+                    ? balanceUseCase.chargeAtomically(command)
+                    : retryService.chargeWithRetry(command);
+            historyUseCase.recordHistory(RecordBalanceHistoryCommand.of(criteria));
+            return BalanceResult.fromInfo(info);
+        });
     }
 
 
 }
-
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.application.balance;
 
 import kr.hhplus.be.server.domain.balance.Balance;
+import kr.hhplus.be.server.domain.balance.BalanceHistory;
 import kr.hhplus.be.server.domain.balance.BalanceException;
 import kr.hhplus.be.server.domain.balance.BalanceHistoryRepository;
 import kr.hhplus.be.server.domain.balance.BalanceRepository;
@@ -11,6 +12,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
 
 @Service
 @RequiredArgsConstructor
@@ -40,6 +49,60 @@ public class BalanceService implements BalanceUseCase {
 
 
 
+    @Override
+    public BalanceInfo chargeAtomically(ChargeBalanceCommand command) {
+        if (balanceHistoryRepository.existsByRequestId(command.requestId())) {
+            log.warn("이미 처리된 충전 요청입니다: userId={}, requestId={}", command.userId(), command.requestId());
+            return BalanceInfo.from(balanceRepository.findByUserId(command.userId()).orElseThrow());
+        }
+        Balance.Policy.validateMinimumCharge(Money.wons(command.amount()));
+
+        if (balanceRepository.increase(command.userId(), command.amount()) == 0) {
+            throw new BalanceException.NotFoundException(command.userId());
+        }
+        // 방금 갱신해 잠근 행을 읽으므로 다른 충전이 끼어들지 않은 결과다
+        Balance charged = balanceRepository.findByUserId(command.userId()).orElseThrow();
+        return BalanceInfo.from(charged);
+    }
+
+    @Override
+    public List<BalanceInfo> chargeCombined(Long userId, List<ChargeBalanceCommand> commands) {
+        Set<String> seen = new HashSet<>(balanceHistoryRepository.findExistingRequestIds(
+                commands.stream().map(ChargeBalanceCommand::requestId).toList()));
+        List<ChargeBalanceCommand> toApply = new ArrayList<>();
+        for (ChargeBalanceCommand command : commands) {
+            Balance.Policy.validateMinimumCharge(Money.wons(command.amount()));
+            if (seen.add(command.requestId())) {
+                toApply.add(command);
+            } else {
+                log.warn("이미 처리된 충전 요청입니다: userId={}, requestId={}", userId, command.requestId());
+            }
+        }
+
+        long total = toApply.stream().mapToLong(ChargeBalanceCommand::amount).sum();
+        if (!toApply.isEmpty() && balanceRepository.increase(userId, total) == 0) {
+            throw new BalanceException.NotFoundException(userId);
+        }
+        Balance balance = balanceRepository.findByUserId(userId)
+                .orElseThrow(() -> new BalanceException.NotFoundException(userId));
+
+        // 요청 순서대로 한 건씩 충전했을 때의 잔액을 요청마다 돌려준다
+        Map<String, BalanceInfo> charged = new HashMap<>();
+        long running = balance.getAmount() - total;
+        for (ChargeBalanceCommand command : toApply) {
+            running += command.amount();
+            charged.put(command.requestId(), new BalanceInfo(userId, running, balance.getUpdatedAt()));
+        }
+        balanceHistoryRepository.saveAll(toApply.stream()
+                .map(command -> BalanceHistory.charge(userId, command.amount(), command.reason(), command.requestId()))
+                .toList());
+
+        BalanceInfo current = BalanceInfo.from(balance);
+        return commands.stream()
+                .map(command -> charged.getOrDefault(command.requestId(), current))
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public BalanceResult getBalance(Long userId) {
@@ -60,4 +123,36 @@ public class BalanceService implements BalanceUseCase {
 
         return true;
     }
+
+    @Override
+    public void decreaseBalanceIfEnough(DecreaseBalanceCommand command) {
+        if (balanceRepository.decreaseIfEnough(command.userId(), command.amount()) == 1) {
+            return;
+        }
+        if (balanceRepository.findByUserId(command.userId()).isEmpty()) {
+            throw new BalanceException.NotFoundException(command.userId());
+        }
+        throw new BalanceException.NotEnoughBalanceException();
+    }
+
+    @Override
+    public void refundAll(List<RefundBalanceCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        // user_id 순서로 갱신해 동시에 도는 환불끼리 교착되지 않게 한다
+        Map<Long, Long> amountsByUserId = new TreeMap<>();
+        commands.forEach(command -> amountsByUserId.merge(command.userId(), command.amount(), Long::sum));
+        int[] updated = balanceRepository.increaseInBatch(amountsByUserId);
+        int row = 0;
+        for (Long userId : amountsByUserId.keySet()) {
+            // 잔액 행이 없으면 환불이 사라지므로 예외로 취소 트랜잭션 전체를 되돌린다
+            if (updated[row++] == 0) {
+                throw new BalanceException.NotFoundException(userId);
+            }
+        }
+
+        commands.forEach(command -> balanceHistoryRepository.save(
+                BalanceHistory.refund(command.userId(), command.amount(), "주문 취소 환불", command.requestId())));
+    }
 }
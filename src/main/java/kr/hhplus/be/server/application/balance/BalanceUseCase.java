@@ -1,11 +1,24 @@
 package kr.hhplus.be.server.application.balance;
 
+import java.util.List;
+
 public interface BalanceUseCase {
     /**
      * 사용자 잔액을 충전합니다.
      */
     BalanceInfo charge(ChargeBalanceCommand command);
 
+    /**
+     * 엔티티를 읽어 고치지 않고 UPDATE 한 번으로 잔액을 충전합니다. 같은 사용자의 동시 충전이 충돌 없이 차례로 반영됩니다.
+     */
+    BalanceInfo chargeAtomically(ChargeBalanceCommand command);
+
+    /**
+     * 한 사용자의 충전 요청 여러 건을 잔액 UPDATE 한 번과 이력 배치 INSERT 로 처리합니다.
+     * 결과는 요청 순서대로, 요청별로 하나씩 충전했을 때의 잔액을 담아 돌려줍니다. 이미 처리된 requestId 는 다시 충전하지 않습니다.
+     */
+    List<BalanceInfo> chargeCombined(Long userId, List<ChargeBalanceCommand> commands);
+
     /**
      * 사용자의 현재 잔액을 조회합니다.
      */
@@ -16,4 +29,14 @@ public interface BalanceUseCase {
      * @return 차감 성공 여부
      */
     boolean decreaseBalance(DecreaseBalanceCommand command);
+
+    /**
+     * 엔티티를 읽지 않고 조건부 UPDATE 한 번으로 잔액을 차감합니다. 잔액이 부족하면 예외가 발생합니다.
+     */
+    void decreaseBalanceIfEnough(DecreaseBalanceCommand command);
+
+    /**
+     * 주문 취소 환불을 사용자별로 합산해 잔액에 되돌리고 환불 이력을 남깁니다.
+     */
+    void refundAll(List<RefundBalanceCommand> commands);
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.application.balance;
+
+import java.util.UUID;
+
+/**
+ * 취소된 주문의 결제 금액을 잔액으로 돌려준다. 주문당 한 번만 환불되도록 주문 ID로 요청 ID를 만든다.
+ */
+public record RefundBalanceCommand(
+        Long userId,
+        UUID orderId,
+        long amount
+) {
+    public RefundBalanceCommand {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("환불 금액은 0보다 커야 합니다.");
+        }
+    }
+
+    public static RefundBalanceCommand of(Long userId, UUID orderId, long amount) {
+        return new RefundBalanceCommand(userId, orderId, amount);
+    }
+
+    public String requestId() {
+        return "refund-" + orderId;
+    }
+}
@@ -2,6 +2,7 @@ package kr.hhplus.be.server.application.coupon;
 
 import kr.hhplus.be.server.common.vo.Money;
 import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponIssue;
 import kr.hhplus.be.server.domain.coupon.CouponType;
 
 
@@ -9,14 +10,16 @@ public record ApplyCouponResult(
         String couponCode,
         CouponType couponType,
         int discountRate,
-        Money discountAmount
+        Money discountAmount,
+        Long couponIssueId
 ) {
-    public static ApplyCouponResult from(Coupon coupon, Money discountAmount) {
+    public static ApplyCouponResult from(Coupon coupon, CouponIssue issue, Money discountAmount) {
         return new ApplyCouponResult(
                 coupon.getCode(),
                 coupon.getType(),
                 coupon.getDiscountRate(),
-                discountAmount
+                discountAmount,
+                issue.getId()
         );
     }
 }
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
+import java.util.Collection;
 
 @Service
 @RequiredArgsConstructor
@@ -57,6 +58,11 @@ public class CouponService implements CouponUseCase {
         // 사용 처리
         issue.markAsUsed();
 
-        return ApplyCouponResult.from(coupon, discount);
+        return ApplyCouponResult.from(coupon, issue, discount);
+    }
+
+    @Override
+    public void restoreUsage(Collection<Long> couponIssueIds) {
+        couponIssueRepository.markUnusedAll(couponIssueIds);
     }
 }
@@ -1,5 +1,7 @@
 package kr.hhplus.be.server.application.coupon;
 
+import java.util.Collection;
+
 public interface CouponUseCase {
 
     /**
@@ -11,5 +13,10 @@ public interface CouponUseCase {
      * 주문 시 쿠폰의 유효성을 검증하고 할인 금액을 계산합니다.
      */
     ApplyCouponResult applyCoupon(ApplyCouponCommand command);
+
+    /**
+     * 취소된 주문에 사용했던 쿠폰들을 미사용 상태로 되돌립니다.
+     */
+    void restoreUsage(Collection<Long> couponIssueIds);
 }
 
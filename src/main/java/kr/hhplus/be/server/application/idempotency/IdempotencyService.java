@@ -0,0 +1,232 @@
+package kr.hhplus.be.server.application.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.cache.LocalCache;
+import kr.hhplus.be.server.domain.idempotency.IdempotencyException;
+import kr.hhplus.be.server.domain.idempotency.IdempotencyRecord;
+import kr.hhplus.be.server.domain.idempotency.IdempotencyRepository;
+import kr.hhplus.be.server.domain.idempotency.IdempotencyScope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 중복 요청 방지.
+ * 최근 키는 프로세스 내 캐시에서 바로 응답하고, 없으면 키 테이블에 INSERT 한 뒤 같은 트랜잭션에서 업무를 실행해 응답을 저장한다.
+ * 같은 키의 동시 요청은 프로세스 안에서는 먼저 온 요청의 결과를 기다리고,
+ * 다른 인스턴스 사이에서는 키 테이블의 유니크 키 잠금에서 먼저 온 트랜잭션이 끝나기를 기다린다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final LocalCache<String, StoredResponse> recent;
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Duration retention;
+    private final Duration inProgressLease;
+
+    public IdempotencyService(IdempotencyRepository repository,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              Clock clock,
+                              MeterRegistry meterRegistry,
+                              @Value("${idempotency.cache-size:10000}") int cacheSize,
+                              @Value("${idempotency.cache-ttl:PT10M}") Duration cacheTtl,
+                              @Value("${idempotency.retention:P1D}") Duration retention,
+                              @Value("${idempotency.in-progress-lease:PT1M}") Duration inProgressLease) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.recent = new LocalCache<>("idempotency", cacheSize, cacheTtl, clock, meterRegistry);
+        this.retention = retention;
+        this.inProgressLease = inProgressLease;
+    }
+
+    /**
+     * 처음 보는 키면 action을 실행하고 결과를 저장한다. 이미 처리된 키면 action 없이 저장된 결과를 돌려준다.
+     * 키가 없으면(null) 멱등성 없이 그대로 실행한다.
+     */
+    public <T> T execute(IdempotencyScope scope, String key, Object request, Class<T> responseType, Supplier<T> action) {
+        return execute(scope, key, request, responseType, action, false);
+    }
+
+    /**
+     * 외부 시스템 호출처럼 DB 트랜잭션을 잡은 채 기다리면 안 되는 action 용.
+     * 키 INSERT 와 응답 저장을 각각 짧은 트랜잭션으로 나누고 action 은 트랜잭션 밖에서 실행한다.
+     * 처리 중인 키로 다른 인스턴스에 들어온 요청은 기다리지 않고 거절하며, action 이 실패하면 키를 지워 다시 시도할 수 있게 한다.
+     * 프로세스가 죽거나 응답 저장에 실패해 처리 중 표시가 남으면, 임대 시간(idempotency.in-progress-lease)이 지난 뒤 같은 요청이 이어받는다.
+     */
+    public <T> T executeOutsideTransaction(IdempotencyScope scope, String key, Object request, Class<T> responseType,
+                                           Supplier<T> action) {
+        return execute(scope, key, request, responseType, action, true);
+    }
+
+    private <T> T execute(IdempotencyScope scope, String key, Object request, Class<T> responseType, Supplier<T> action,
+                          boolean outsideTransaction) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyException.InvalidKeyException(MAX_KEY_LENGTH);
+        }
+
+        String id = IdempotencyRecord.idOf(scope, key);
+        String requestHash = hash(request);
+
+        StoredResponse cached = recent.getIfPresent(id);
+        if (cached != null) {
+            return replay(cached, key, requestHash, responseType);
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> existing = inFlight.putIfAbsent(id, mine);
+        if (existing != null) {
+            return replay(await(existing), key, requestHash, responseType);
+        }
+
+        try {
+            StoredResponse response = outsideTransaction
+                    ? executeOnceOutsideTransaction(scope, key, requestHash, action)
+                    : executeOnce(scope, key, requestHash, action);
+            recent.put(id, response);
+            mine.complete(response);
+            return replay(response, key, requestHash, responseType);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, mine);
+        }
+    }
+
+    private <T> StoredResponse executeOnce(IdempotencyScope scope, String key, String requestHash, Supplier<T> action) {
+        String id = IdempotencyRecord.idOf(scope, key);
+        try {
+            return transactionTemplate.execute(status -> {
+                IdempotencyRecord record = IdempotencyRecord.start(scope, key, requestHash, LocalDateTime.now(clock));
+                repository.insert(record);
+                String body = toJson(action.get());
+                record.complete(body);
+                return new StoredResponse(requestHash, body);
+            });
+        } catch (DataIntegrityViolationException duplicate) {
+            // 다른 인스턴스가 같은 키를 먼저 커밋했다
+            IdempotencyRecord record = repository.findById(id).orElseThrow(() -> duplicate);
+            return new StoredResponse(record.getRequestHash(), record.getResponseBody());
+        }
+    }
+
+    private <T> StoredResponse executeOnceOutsideTransaction(IdempotencyScope scope, String key, String requestHash,
+                                                              Supplier<T> action) {
+        String id = IdempotencyRecord.idOf(scope, key);
+        // startedAt 을 임대 식별값으로 비교하므로 DATETIME(6) 정밀도에 맞춘다
+        LocalDateTime startedAt = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MICROS);
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    repository.insert(IdempotencyRecord.start(scope, key, requestHash, startedAt)));
+        } catch (DataIntegrityViolationException duplicate) {
+            IdempotencyRecord record = repository.findById(id).orElseThrow(() -> duplicate);
+            if (!record.getRequestHash().equals(requestHash)) {
+                throw new IdempotencyException.KeyReusedException(key);
+            }
+            if (record.getResponseBody() != null) {
+                return new StoredResponse(record.getRequestHash(), record.getResponseBody());
+            }
+            if (!repository.takeOver(id, startedAt.minus(inProgressLease), startedAt)) {
+                throw new IdempotencyException.InProgressException(key);
+            }
+            log.warn("[멱등성 키] 임대가 만료된 처리 중 키를 이어받음 - key={}, 이전 시작 시각={}", id, record.getStartedAt());
+        }
+
+        String body;
+        try {
+            body = toJson(action.get());
+        } catch (RuntimeException e) {
+            repository.deleteInProgress(id, startedAt);
+            throw e;
+        }
+        if (!repository.complete(id, startedAt, body)) {
+            log.warn("[멱등성 키] 임대가 다른 요청으로 넘어가 응답을 저장하지 못함 - key={}", id);
+        }
+        return new StoredResponse(requestHash, body);
+    }
+
+    /**
+     * 보관 기간이 지난 키를 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:3600000}")
+    public void deleteExpiredKeys() {
+        int deleted = repository.deleteCreatedBefore(LocalDateTime.now(clock).minus(retention));
+        if (deleted > 0) {
+            log.info("[멱등성 키] 만료된 키 {}건 삭제", deleted);
+        }
+    }
+
+    private <T> T replay(StoredResponse response, String key, String requestHash, Class<T> responseType) {
+        if (!response.requestHash().equals(requestHash)) {
+            throw new IdempotencyException.KeyReusedException(key);
+        }
+        try {
+            return objectMapper.readValue(response.body(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답 역직렬화 실패", e);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(toJson(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 응답 직렬화 실패", e);
+        }
+    }
+
+    private record StoredResponse(String requestHash, String body) {
+    }
+}
@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.application.order;
+
+import java.util.UUID;
+
+public record CancelOrderCommand(
+        UUID orderId,
+        Long userId
+) {
+    public static CancelOrderCommand of(UUID orderId, Long userId) {
+        return new CancelOrderCommand(orderId, userId);
+    }
+}
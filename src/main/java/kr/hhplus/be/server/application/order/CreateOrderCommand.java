@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.application.order;
 
+import kr.hhplus.be.server.application.product.DecreaseStockCommand;
 
 import java.util.List;
 
@@ -12,6 +13,19 @@ public record CreateOrderCommand(
         return couponCode != null && !couponCode.isBlank();
     }
 
+    public List<Long> productIds() {
+        return items.stream()
+                .map(OrderItemCommand::productId)
+                .distinct()
+                .toList();
+    }
+
+    public List<DecreaseStockCommand> toDecreaseStockCommands() {
+        return items.stream()
+                .map(item -> DecreaseStockCommand.of(item.productId(), item.size(), item.quantity()))
+                .toList();
+    }
+
     public record OrderItemCommand(
             Long productId,
             int quantity,
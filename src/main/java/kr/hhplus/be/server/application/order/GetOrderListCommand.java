@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+
+/**
+ * 사용자 주문 목록 조회. cursor가 비어 있으면 가장 최근 주문부터 조회한다.
+ */
+public record GetOrderListCommand(
+        Long userId,
+        String cursor,
+        int size
+) {
+    public static final int MAX_SIZE = 100;
+
+    public GetOrderListCommand {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "페이지 크기는 1~" + MAX_SIZE + " 사이여야 합니다.");
+        }
+    }
+
+    public static GetOrderListCommand of(Long userId, String cursor, int size) {
+        return new GetOrderListCommand(userId, cursor, size);
+    }
+}
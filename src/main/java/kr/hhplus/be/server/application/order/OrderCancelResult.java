@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.application.order;
+
+/**
+ * 일괄 취소 결과. 이미 취소되었거나 없는 주문은 건너뛰므로 같은 목록으로 다시 실행해도 안전하다.
+ */
+public record OrderCancelResult(
+        int requested,
+        int cancelled,
+        long refundedAmount
+) {
+}
@@ -0,0 +1,150 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.application.balance.BalanceUseCase;
+import kr.hhplus.be.server.application.balance.RefundBalanceCommand;
+import kr.hhplus.be.server.application.coupon.CouponUseCase;
+import kr.hhplus.be.server.application.payment.PaymentProcessor;
+import kr.hhplus.be.server.application.payment.PaymentProcessorRegistry;
+import kr.hhplus.be.server.application.payment.PaymentUseCase;
+import kr.hhplus.be.server.application.product.StockService;
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderException;
+import kr.hhplus.be.server.domain.order.OrderItem;
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.product.StockQuantityDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.UUID;
+
+/**
+ * 주문 취소와 보상 처리.
+ * 취소된 주문들의 재고 복원, 결제 취소와 잔액 환불, 쿠폰 사용 취소를 한 트랜잭션에서 주문 단위가 아닌 묶음 단위로 실행한다.
+ * 잔액 결제는 잔액으로 환불하고, 외부 결제(카드)는 취소가 커밋된 뒤 해당 결제 수단의 프로세서로 승인을 취소한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderCancelService {
+
+    public static final int MAX_BULK_SIZE = 1_000;
+
+    private final OrderRepository orderRepository;
+    private final StockService stockService;
+    private final PaymentUseCase paymentUseCase;
+    private final BalanceUseCase balanceUseCase;
+    private final CouponUseCase couponUseCase;
+    private final PaymentProcessorRegistry processorRegistry;
+
+    /**
+     * 사용자가 자신의 주문을 취소한다. 다른 사용자의 주문은 없는 주문으로 취급한다.
+     */
+    @Transactional
+    public OrderResult cancel(CancelOrderCommand command) {
+        Order order = orderRepository.findAllWithItemsForUpdate(List.of(command.orderId())).stream()
+                .filter(found -> found.getUserId().equals(command.userId()))
+                .findFirst()
+                .orElseThrow(() -> new OrderException.NotFoundException(command.orderId()));
+
+        order.cancel();
+        compensate(List.of(order));
+        return OrderResult.from(order);
+    }
+
+    /**
+     * 여러 주문을 한 번에 취소한다(예: 실패한 발매의 주문 일괄 정리).
+     * 주문 행을 잠근 뒤 상태를 확인하므로 이미 취소된 주문은 건너뛰고, 목록이 크면 호출하는 쪽에서 나눠 보낸다.
+     */
+    @Transactional
+    public OrderCancelResult cancelAll(Collection<UUID> orderIds) {
+        if (orderIds.size() > MAX_BULK_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "한 번에 취소할 수 있는 주문은 최대 " + MAX_BULK_SIZE + "건입니다.");
+        }
+        LinkedHashSet<UUID> distinctIds = new LinkedHashSet<>(orderIds);
+        List<Order> cancellable = orderRepository.findAllWithItemsForUpdate(distinctIds).stream()
+                .filter(order -> order.getStatus().canCancel())
+                .toList();
+
+        long refunded = cancelLocked(cancellable);
+        return new OrderCancelResult(distinctIds.size(), cancellable.size(), refunded);
+    }
+
+    /**
+     * 호출하는 쪽 트랜잭션에서 이미 잠그고 취소 가능 여부를 확인한 주문들을 취소하고 보상한다.
+     * 재고 보유 시간이 지난 미결제 주문 회수도 이 경로를 쓰므로, 주문에 쓴 쿠폰까지 함께 되돌아간다.
+     * @return 잔액으로 환불한 총 금액
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long cancelLocked(List<Order> orders) {
+        orders.forEach(Order::cancel);
+        return compensate(orders);
+    }
+
+    /**
+     * @return 잔액으로 환불한 총 금액
+     */
+    private long compensate(List<Order> cancelled) {
+        if (cancelled.isEmpty()) {
+            return 0;
+        }
+
+        List<StockQuantityDelta> released = new ArrayList<>();
+        List<Long> couponIssueIds = new ArrayList<>();
+        for (Order order : cancelled) {
+            for (OrderItem item : order.getItems()) {
+                released.add(new StockQuantityDelta(item.getProductId(), item.getSize(), item.getQuantity()));
+            }
+            if (order.hasCoupon()) {
+                couponIssueIds.add(order.getCouponIssueId());
+            }
+        }
+        stockService.restoreAll(released);
+        couponUseCase.restoreUsage(couponIssueIds);
+
+        Map<UUID, Order> ordersById = cancelled.stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        List<RefundBalanceCommand> refunds = new ArrayList<>();
+        for (Payment payment : paymentUseCase.cancelSucceeded(ordersById.keySet())) {
+            PaymentProcessor processor = processorRegistry.get(payment.getMethod());
+            if (processor.isExternal()) {
+                // 대행사 승인 취소는 되돌릴 수 없으므로 주문 취소가 커밋된 뒤에 요청한다
+                afterCommit(() -> processor.compensate(payment));
+            } else {
+                refunds.add(toRefund(ordersById.get(payment.getOrderId()), payment));
+            }
+        }
+        balanceUseCase.refundAll(refunds);
+
+        return refunds.stream().mapToLong(RefundBalanceCommand::amount).sum();
+    }
+
+    private RefundBalanceCommand toRefund(Order order, Payment payment) {
+        return RefundBalanceCommand.of(order.getUserId(), order.getId(), payment.getAmount());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.common.dto.CursorCodec;
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.domain.order.OrderPageKey;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * 사용자 주문 목록 커서. 마지막으로 내려준 주문의 (생성 시각, id)를 담는다.
+ */
+public final class OrderCursor {
+
+    private static final int FIELD_COUNT = 2;
+
+    private OrderCursor() {
+    }
+
+    public static String encode(OrderPageKey last) {
+        return CursorCodec.encode(last.createdAt().toString(), last.orderId().toString());
+    }
+
+    /**
+     * 비어 있으면 첫 페이지(null).
+     */
+    public static OrderPageKey decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] values = CursorCodec.decode(cursor, FIELD_COUNT);
+        try {
+            return new OrderPageKey(UUID.fromString(values[1]), LocalDateTime.parse(values[0]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package kr.hhplus.be.server.application.order;
 
+import kr.hhplus.be.server.application.balance.BalanceUseCase;
+import kr.hhplus.be.server.application.balance.DecreaseBalanceCommand;
 import kr.hhplus.be.server.application.coupon.ApplyCouponCommand;
 import kr.hhplus.be.server.application.coupon.ApplyCouponResult;
 import kr.hhplus.be.server.application.coupon.CouponUseCase;
+import kr.hhplus.be.server.application.payment.BalancePaymentProcessor;
+import kr.hhplus.be.server.application.payment.PaymentCommand;
+import kr.hhplus.be.server.application.payment.PaymentUseCase;
 import kr.hhplus.be.server.application.product.*;
 import kr.hhplus.be.server.common.vo.Money;
 import org.springframework.aop.framework.AopContext;
@@ -15,6 +20,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -25,48 +31,82 @@ public class OrderFacadeService {
     private final OrderEventUseCase orderEventService;
     private final CouponUseCase couponUseCase;
     private final StockService stockService;
+    private final BalanceUseCase balanceUseCase;
+    private final PaymentUseCase paymentUseCase;
 
     @Transactional
     public OrderResult createOrder(CreateOrderCommand command) {
+        // 1~5. 가격 계산, 재고 차감, 쿠폰 할인 적용
+        PricedOrder priced = priceAndReserve(command);
+
+        // 6. 주문 생성 및 저장 (취소 시 되돌릴 쿠폰 발급 ID 포함)
+        Order order = orderService.createOrder(command.userId(), priced.items(), priced.total(), priced.couponIssueId());
+
+        // 7. 결제 완료 이벤트 발행 (Outbox 패턴 기반 처리)
+        orderEventService.recordPaymentCompletedEvent(order);
+
+        // 8. 응답 객체 반환
+        return OrderResult.from(order);
+    }
+
+    /**
+     * 주문 생성과 잔액 결제를 한 트랜잭션에서 처리한다.
+     * 재고 → 쿠폰 → 잔액 순서로 차감(주문 취소 보상과 같은 순서)하고, 주문은 결제 완료 상태로 바로 저장하므로
+     * createOrder 후 결제 요청에서 주문을 다시 잠그고 읽는 단계가 없다.
+     */
+    @Transactional
+    public OrderResult checkout(CreateOrderCommand command) {
+        // 1~5. 가격 계산, 재고 차감, 쿠폰 할인 적용
+        PricedOrder priced = priceAndReserve(command);
+
+        // 6. 잔액 차감
+        balanceUseCase.decreaseBalance(new DecreaseBalanceCommand(command.userId(), priced.total().value()));
+
+        // 7. 결제 완료 상태로 주문 생성 및 결제 기록
+        Order order = orderService.createConfirmedOrder(
+                command.userId(), priced.items(), priced.total(), priced.couponIssueId());
+        paymentUseCase.recordSuccess(new PaymentCommand(order.getId(), priced.total(), BalancePaymentProcessor.METHOD));
+
+        // 8. 결제 완료 이벤트 발행
+        orderEventService.recordPaymentCompletedEvent(order);
+
+        return OrderResult.from(order);
+    }
+
+    private PricedOrder priceAndReserve(CreateOrderCommand command) {
         // 1. 초기화 - 전체 금액 및 주문 아이템 리스트 준비
         Money total = Money.wons(0L);
         List<OrderItem> orderItems = new ArrayList<>();
 
-        // 2. 각 상품에 대해 주문 상세 구성
-        for (CreateOrderCommand.OrderItemCommand item : command.items()) {
-            // 2-1. 재고 차감
-            stockService.decrease(DecreaseStockCommand.of(item.productId(), item.size(), item.quantity()));
+        // 2. 주문 상품 가격을 한 번에 조회 (출시 여부 검증 포함)
+        Map<Long, Long> prices = productService.getOrderablePrices(command.productIds());
 
-            // 2-2. 상품 상세 조회 (가격 포함)
-            ProductDetailResult product = productService.getProductDetail(
-                    GetProductDetailCommand.of(item.productId(), item.size())
-            );
-            // 2-3. 주문 상품 가격 계산
-            Money itemPrice = Money.wons(product.product().price());
+        // 3. 모든 주문 줄의 재고를 (상품, 사이즈) 순서로 한 번에 차감
+        stockService.decreaseAll(command.toDecreaseStockCommands());
+
+        // 4. 각 상품에 대해 주문 상세 구성
+        for (CreateOrderCommand.OrderItemCommand item : command.items()) {
+            // 4-1. 주문 상품 가격 계산
+            Money itemPrice = Money.wons(prices.get(item.productId()));
             Money itemTotal = itemPrice.multiply(item.quantity());
 
-            // 2-4. 주문 아이템으로 추가
+            // 4-2. 주문 아이템으로 추가
             orderItems.add(OrderItem.of(item.productId(), item.quantity(), item.size(), itemPrice));
             total = total.add(itemTotal);
         }
-        // 3. 쿠폰 할인 적용
+        // 5. 쿠폰 할인 적용
+        Long couponIssueId = null;
         if (command.hasCouponCode()) {
             ApplyCouponResult couponResult = couponUseCase.applyCoupon(
                     new ApplyCouponCommand(command.userId(), command.couponCode(), total)
             );
             total = total.subtract(couponResult.discountAmount());
+            couponIssueId = couponResult.couponIssueId();
         }
-
-
-        // 4. 주문 생성 및 저장
-        Order order = orderService.createOrder(command.userId(), orderItems, total);
-
-        // 5. 결제 완료 이벤트 발행 (Outbox 패턴 기반 처리)
-        orderEventService.recordPaymentCompletedEvent(order);
-
-        // 6. 응답 객체 반환
-        return OrderResult.from(order);
+        return new PricedOrder(orderItems, total, couponIssueId);
     }
 
+    private record PricedOrder(List<OrderItem> items, Money total, Long couponIssueId) {
+    }
 }
 
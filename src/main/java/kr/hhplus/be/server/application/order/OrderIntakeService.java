@@ -0,0 +1,177 @@
+package kr.hhplus.be.server.application.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
+import kr.hhplus.be.server.domain.order.OrderException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+/**
+ * 비동기 주문 접수.
+ * 요청 스레드는 주문을 고정 크기 대기열에 넣고 티켓만 돌려주며,
+ * 정해진 수의 워커가 DB가 감당할 수 있는 속도로 대기열을 비우면서 주문을 생성한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "order.intake.async-enabled", havingValue = "true")
+public class OrderIntakeService {
+
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    private final OrderFacadeService orderFacadeService;
+    private final Clock clock;
+    private final BlockingQueue<QueuedOrder> queue;
+    private final Map<String, OrderIntakeTicket> tickets = new ConcurrentHashMap<>();
+    private final int workerCount;
+    private final ExecutorService workers;
+    private final Duration ticketRetention;
+    private final Timer waitTimer;
+    private final Timer processTimer;
+    private final Counter rejected;
+    private volatile boolean running = true;
+
+    public OrderIntakeService(OrderFacadeService orderFacadeService,
+                              MeterRegistry meterRegistry,
+                              Clock clock,
+                              @Value("${order.intake.queue-capacity:1000}") int queueCapacity,
+                              @Value("${order.intake.workers:4}") int workerCount,
+                              @Value("${order.intake.ticket-retention:PT10M}") Duration ticketRetention) {
+        this.orderFacadeService = orderFacadeService;
+        this.clock = clock;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.ticketRetention = ticketRetention;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount,
+                runnable -> new Thread(runnable, "order-intake-" + sequence.incrementAndGet()));
+
+        Gauge.builder("order.intake.queue.depth", queue, BlockingQueue::size)
+                .description("처리를 기다리는 주문 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("order.intake.wait")
+                .description("접수부터 워커가 꺼낼 때까지의 대기 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.processTimer = Timer.builder("order.intake.process")
+                .description("워커의 주문 생성 처리 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("order.intake.rejected")
+                .description("대기열이 가득 차 거절된 주문 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::drain);
+        }
+    }
+
+    /**
+     * 주문을 대기열에 넣고 티켓을 발급한다. 대기열이 가득 차면 즉시 거절한다.
+     */
+    public OrderIntakeTicket submit(CreateOrderCommand command) {
+        OrderIntakeTicket ticket = OrderIntakeTicket.queued(TimeOrderedIds.nextString(), LocalDateTime.now(clock));
+        tickets.put(ticket.ticketId(), ticket);
+        if (!running || !queue.offer(new QueuedOrder(ticket.ticketId(), command, System.nanoTime()))) {
+            tickets.remove(ticket.ticketId());
+            rejected.increment();
+            throw new OrderException.IntakeQueueFullException();
+        }
+        return ticket;
+    }
+
+    public OrderIntakeTicket getTicket(String ticketId) {
+        OrderIntakeTicket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new OrderException.TicketNotFoundException(ticketId);
+        }
+        return ticket;
+    }
+
+    /**
+     * 처리가 끝난 뒤 보관 기간이 지난 티켓을 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${order.intake.ticket-cleanup-interval-ms:60000}")
+    public void evictFinishedTickets() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(ticketRetention);
+        tickets.values().removeIf(ticket -> ticket.isFinishedBefore(cutoff));
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            QueuedOrder next;
+            try {
+                next = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (next != null) {
+                process(next);
+            }
+        }
+    }
+
+    private void process(QueuedOrder queued) {
+        waitTimer.record(System.nanoTime() - queued.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+        tickets.computeIfPresent(queued.ticketId(), (id, ticket) -> ticket.processing());
+        processTimer.record(() -> {
+            try {
+                OrderResult result = orderFacadeService.createOrder(queued.command());
+                finish(queued.ticketId(), ticket -> ticket.completed(result.orderId(), LocalDateTime.now(clock)));
+            } catch (BusinessException e) {
+                finish(queued.ticketId(), ticket -> ticket.failed(e.getErrorCode(), e.getMessage(), LocalDateTime.now(clock)));
+            } catch (RuntimeException e) {
+                log.error("[주문 접수] 주문 생성 실패 - ticketId={}", queued.ticketId(), e);
+                finish(queued.ticketId(), ticket -> ticket.failed(ErrorCode.INTERNAL_SERVER_ERROR,
+                        ErrorCode.INTERNAL_SERVER_ERROR.getMessage(), LocalDateTime.now(clock)));
+            }
+        });
+    }
+
+    private void finish(String ticketId, UnaryOperator<OrderIntakeTicket> transition) {
+        tickets.computeIfPresent(ticketId, (id, ticket) -> transition.apply(ticket));
+    }
+
+    /**
+     * 종료 시 새 접수를 막고, 이미 대기열에 들어온 주문은 처리한 뒤 워커를 내린다.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("[주문 접수] 종료 대기 시간 초과 - 남은 주문 {}건", queue.size());
+            workers.shutdownNow();
+        }
+    }
+
+    private record QueuedOrder(String ticketId, CreateOrderCommand command, long enqueuedAtNanos) {
+    }
+}
@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.application.order;
+
+public enum OrderIntakeStatus {
+    QUEUED,
+    PROCESSING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
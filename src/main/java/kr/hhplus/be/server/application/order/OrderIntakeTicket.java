@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.common.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 비동기 주문 접수 티켓. 상태가 바뀔 때마다 새 인스턴스로 교체된다.
+ */
+public record OrderIntakeTicket(
+        String ticketId,
+        OrderIntakeStatus status,
+        UUID orderId,
+        ErrorCode errorCode,
+        String errorMessage,
+        LocalDateTime acceptedAt,
+        LocalDateTime finishedAt
+) {
+    public static OrderIntakeTicket queued(String ticketId, LocalDateTime acceptedAt) {
+        return new OrderIntakeTicket(ticketId, OrderIntakeStatus.QUEUED, null, null, null, acceptedAt, null);
+    }
+
+    public OrderIntakeTicket processing() {
+        return new OrderIntakeTicket(ticketId, OrderIntakeStatus.PROCESSING, null, null, null, acceptedAt, null);
+    }
+
+    public OrderIntakeTicket completed(UUID orderId, LocalDateTime finishedAt) {
+        return new OrderIntakeTicket(ticketId, OrderIntakeStatus.COMPLETED, orderId, null, null, acceptedAt, finishedAt);
+    }
+
+    public OrderIntakeTicket failed(ErrorCode errorCode, String errorMessage, LocalDateTime finishedAt) {
+        return new OrderIntakeTicket(ticketId, OrderIntakeStatus.FAILED, null, errorCode, errorMessage, acceptedAt, finishedAt);
+    }
+
+    public boolean isFinishedBefore(LocalDateTime cutoff) {
+        return status.isFinished() && finishedAt.isBefore(cutoff);
+    }
+}
@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.application.order;
+
+import java.util.List;
+
+public record OrderListResult(
+        List<OrderResult> orders,
+        String nextCursor
+) {
+    public static OrderListResult of(List<OrderResult> orders, String nextCursor) {
+        return new OrderListResult(orders, nextCursor);
+    }
+}
@@ -6,9 +6,10 @@ import kr.hhplus.be.server.domain.order.OrderStatus;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 public record OrderResult(
-        String orderId,
+        UUID orderId,
         Long userId,
         List<OrderItemResult> items,
         long totalAmount,
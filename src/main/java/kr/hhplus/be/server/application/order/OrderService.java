@@ -4,12 +4,20 @@ import kr.hhplus.be.server.common.vo.Money;
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.order.OrderException;
 import kr.hhplus.be.server.domain.order.OrderItem;
+import kr.hhplus.be.server.domain.order.OrderPageKey;
 import kr.hhplus.be.server.domain.order.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.UUID;
 
 
 @Service
@@ -17,14 +25,28 @@ import java.util.List;
 public class OrderService implements OrderUseCase {
 
     private final OrderRepository orderRepository;
+    private final Clock clock;
 
     public Order createOrder(Long userId, List<OrderItem> items, Money totalAmount) {
-        Order order = Order.create(userId, items, totalAmount);
+        return createOrder(userId, items, totalAmount, null);
+    }
+
+    @Override
+    public Order createOrder(Long userId, List<OrderItem> items, Money totalAmount, Long couponIssueId) {
+        Order order = Order.create(userId, items, totalAmount, couponIssueId, LocalDateTime.now(clock));
+        orderRepository.save(order);
+        return order;
+    }
+
+    @Override
+    public Order createConfirmedOrder(Long userId, List<OrderItem> items, Money totalAmount, Long couponIssueId) {
+        Order order = Order.create(userId, items, totalAmount, couponIssueId, LocalDateTime.now(clock));
+        order.markConfirmed();
         orderRepository.save(order);
         return order;
     }
     @Transactional(readOnly = true)
-    public Order getOrderForPayment(String orderId) {
+    public Order getOrderForPayment(UUID orderId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderException.NotFoundException(orderId));
         order.validatePayable();
@@ -37,11 +59,52 @@ public class OrderService implements OrderUseCase {
     }
 
     @Transactional
-    public Order getOrderForPaymentWithLock(String orderId) {
+    public Order getOrderForPaymentWithLock(UUID orderId) {
         Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new OrderException.NotFoundException(orderId));
         order.validatePayable();
         return order;
     }
+
+    /**
+     * 반영된 행이 없을 때만 주문을 다시 읽어 실패 이유(없음, 상태 불일치)를 구분한다.
+     */
+    @Override
+    @Transactional
+    public void confirmIfPayable(UUID orderId) {
+        if (orderRepository.confirmIfCreated(orderId) == 1) {
+            return;
+        }
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderException.NotFoundException(orderId));
+        throw new OrderException.InvalidStateException(order.getStatus(), "payment");
+    }
+
+    /**
+     * 1단계로 인덱스에서 이번 페이지의 주문 키만 최신순으로 뽑고, 2단계로 그 주문들을 상품과 함께 한 번에 읽는다.
+     * 한 건을 더 조회해 다음 페이지 존재 여부를 판단한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public OrderListResult getOrders(GetOrderListCommand command) {
+        List<OrderPageKey> keys = orderRepository.findKeysByUserId(
+                command.userId(), OrderCursor.decode(command.cursor()), command.size() + 1);
+
+        boolean hasNext = keys.size() > command.size();
+        List<OrderPageKey> pageKeys = hasNext ? keys.subList(0, command.size()) : keys;
+
+        Map<UUID, Order> ordersById = orderRepository.findAllWithItems(
+                        pageKeys.stream().map(OrderPageKey::orderId).toList()).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        // 두 조회 사이에 삭제된 주문은 건너뛴다. 다음 커서는 키 기준이라 그대로 이어진다.
+        List<OrderResult> orders = pageKeys.stream()
+                .map(key -> ordersById.get(key.orderId()))
+                .filter(Objects::nonNull)
+                .map(OrderResult::from)
+                .toList();
+        String nextCursor = hasNext ? OrderCursor.encode(pageKeys.get(pageKeys.size() - 1)) : null;
+        return OrderListResult.of(orders, nextCursor);
+    }
 }
 
@@ -5,6 +5,7 @@ import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.order.OrderItem;
 
 import java.util.List;
+import java.util.UUID;
 
 public interface OrderUseCase {
 
@@ -13,15 +14,35 @@ public interface OrderUseCase {
      */
     Order createOrder(Long userId, List<OrderItem> items, Money totalAmount);
 
+    /**
+     * 쿠폰을 사용한 주문을 생성하고 사용한 쿠폰 발급 ID를 함께 저장
+     */
+    Order createOrder(Long userId, List<OrderItem> items, Money totalAmount, Long couponIssueId);
+
+    /**
+     * 결제까지 함께 끝난 주문을 결제 완료 상태로 바로 저장 (원스텝 구매)
+     */
+    Order createConfirmedOrder(Long userId, List<OrderItem> items, Money totalAmount, Long couponIssueId);
+
     /**
      * 결제를 시도하기 전에 해당 주문이 존재하고, 결제 가능한 상태인지 검증한 뒤 반환
      */
-    Order getOrderForPayment(String orderId);
+    Order getOrderForPayment(UUID orderId);
 
     /**
      * 주문을 결제 완료 상태로 변경
      */
     void markConfirmed(Order order);
 
-    Order getOrderForPaymentWithLock(String orderId); // 주문을 잠금 처리하여 동시성 문제를 방지
+    Order getOrderForPaymentWithLock(UUID orderId); // 주문을 잠금 처리하여 동시성 문제를 방지
+
+    /**
+     * 주문 행을 잠그지 않고 결제 가능한(CREATED) 주문만 조건부 UPDATE로 결제 완료 처리
+     */
+    void confirmIfPayable(UUID orderId);
+
+    /**
+     * 사용자의 주문을 최신순으로 커서 기반 페이지 조회
+     */
+    OrderListResult getOrders(GetOrderListCommand command);
 }
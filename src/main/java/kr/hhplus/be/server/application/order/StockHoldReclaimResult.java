@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.domain.order.OrderPageKey;
+
+/**
+ * 만료 주문 회수 한 페이지의 결과. last는 다음 페이지 조회의 시작점이다.
+ */
+public record StockHoldReclaimResult(
+        int scanned,
+        int cancelled,
+        OrderPageKey last
+) {
+    public static StockHoldReclaimResult empty() {
+        return new StockHoldReclaimResult(0, 0, null);
+    }
+}
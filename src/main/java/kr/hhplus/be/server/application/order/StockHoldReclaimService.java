@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderPageKey;
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제되지 않은 채 재고 보유 시간이 지난 주문을 취소하고 차감했던 재고와 사용한 쿠폰을 되돌린다.
+ * 보상은 OrderCancelService 의 취소 경로를 그대로 쓴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockHoldReclaimService {
+
+    private final OrderRepository orderRepository;
+    private final OrderCancelService orderCancelService;
+
+    @Value("${order.stock-hold.ttl:PT15M}")
+    private Duration holdTtl;
+
+    /**
+     * now 기준으로 만료된 미결제 주문 한 페이지를 처리한다.
+     * 인덱스로 키만 읽은 뒤 주문 행을 잠그고 상태를 다시 확인하므로, 그 사이 결제된 주문은 건너뛴다.
+     */
+    @Transactional
+    public StockHoldReclaimResult reclaimPage(LocalDateTime now, OrderPageKey after, int limit) {
+        LocalDateTime cutoff = now.minus(holdTtl);
+        List<OrderPageKey> keys = orderRepository.findKeysByStatusCreatedBefore(OrderStatus.CREATED, cutoff, after, limit);
+        if (keys.isEmpty()) {
+            return StockHoldReclaimResult.empty();
+        }
+
+        List<Order> expired = orderRepository.findAllWithItemsForUpdate(keys.stream().map(OrderPageKey::orderId).toList())
+                .stream()
+                .filter(order -> order.isStockHoldExpired(holdTtl, now))
+                .toList();
+        orderCancelService.cancelLocked(expired);
+
+        return new StockHoldReclaimResult(keys.size(), expired.size(), keys.get(keys.size() - 1));
+    }
+}
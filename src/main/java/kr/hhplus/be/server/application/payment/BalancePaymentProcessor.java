@@ -9,16 +9,24 @@ import org.springframework.stereotype.Component;
 
 /**
  * BalancePaymentProcessor는  결제 수단에 대한 처리만 한다 (잔액 차감만).
+ * 기록된 결제 금액만큼 차감하며, 결제 트랜잭션 안에서 실행된다.
  */
 @Component
 @RequiredArgsConstructor
 public class BalancePaymentProcessor implements PaymentProcessor {
 
+    public static final String METHOD = "BALANCE";
+
     private final BalanceUseCase balanceUseCase;
 
+    @Override
+    public String method() {
+        return METHOD;
+    }
+
     @Override
     public boolean process(RequestPaymentCommand command, Order order, Payment payment) {
-        DecreaseBalanceCommand decreaseCommand = command.toDecreaseBalanceCommand(order.getTotalAmount());
+        DecreaseBalanceCommand decreaseCommand = command.toDecreaseBalanceCommand(payment.getAmount());
         return balanceUseCase.decreaseBalance(decreaseCommand);
     }
 }
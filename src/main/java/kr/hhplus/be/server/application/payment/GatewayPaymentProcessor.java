@@ -0,0 +1,177 @@
+package kr.hhplus.be.server.application.payment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentException;
+import kr.hhplus.be.server.infrastructure.external.PaymentGatewayClient;
+import kr.hhplus.be.server.infrastructure.external.PaymentGatewayRequest;
+import kr.hhplus.be.server.infrastructure.external.PaymentGatewayResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 카드 결제. 외부 결제 대행사 호출을 이 결제 수단 전용 스레드 풀에서 실행한다.
+ * 풀 크기 + 대기열 크기가 동시 호출 상한(벌크헤드)이어서 넘치는 요청은 기다리지 않고 거절하고,
+ * 각 호출은 timeout 만큼만 기다리므로 대행사가 느려져도 요청 스레드가 무기한 묶이지 않는다.
+ * 승인 취소는 결제 풀이 가득 차 있어도 거절되면 안 되므로 대기열 제한이 없는 별도 풀에서 실행한다.
+ */
+@Slf4j
+@Component
+public class GatewayPaymentProcessor implements PaymentProcessor {
+
+    public static final String METHOD = "CARD";
+
+    private final PaymentGatewayClient gatewayClient;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor cancelExecutor;
+    private final Duration timeout;
+    private final Timer callTimer;
+    private final Counter rejected;
+    private final Counter timedOut;
+
+    public GatewayPaymentProcessor(PaymentGatewayClient gatewayClient,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${payment.gateway.max-concurrent-calls:8}") int maxConcurrentCalls,
+                                   @Value("${payment.gateway.queue-capacity:16}") int queueCapacity,
+                                   @Value("${payment.gateway.timeout:PT3S}") Duration timeout,
+                                   @Value("${payment.gateway.cancel-threads:2}") int cancelThreads) {
+        this.gatewayClient = gatewayClient;
+        this.timeout = timeout;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrentCalls, maxConcurrentCalls, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "payment-gateway-" + sequence.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+        AtomicInteger cancelSequence = new AtomicInteger();
+        this.cancelExecutor = new ThreadPoolExecutor(cancelThreads, cancelThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> new Thread(runnable, "payment-gateway-cancel-" + cancelSequence.incrementAndGet()));
+
+        Gauge.builder("payment.gateway.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("진행 중인 결제 대행사 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.gateway.queue.depth", executor, e -> e.getQueue().size())
+                .description("실행을 기다리는 결제 대행사 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.gateway.cancel.queue.depth", cancelExecutor, e -> e.getQueue().size())
+                .description("실행을 기다리는 결제 대행사 승인 취소 수")
+                .register(meterRegistry);
+        this.callTimer = Timer.builder("payment.gateway.call")
+                .description("결제 대행사 호출 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("payment.gateway.rejected")
+                .description("동시 호출 한도를 넘어 거절된 결제 수")
+                .register(meterRegistry);
+        this.timedOut = Counter.builder("payment.gateway.timeout")
+                .description("응답 시간 초과로 실패한 결제 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String method() {
+        return METHOD;
+    }
+
+    @Override
+    public boolean isExternal() {
+        return true;
+    }
+
+    @Override
+    public boolean process(RequestPaymentCommand command, Order order, Payment payment) {
+        PaymentGatewayRequest request = new PaymentGatewayRequest(
+                payment.getId(), order.getId(), command.userId(), payment.getAmount());
+        Future<PaymentGatewayResponse> future = submit(() -> callTimer.recordCallable(() -> gatewayClient.approve(request)));
+        try {
+            PaymentGatewayResponse response = await(future);
+            if (!response.approved()) {
+                log.info("[카드 결제] 승인 거절 - paymentId={}, reason={}", payment.getId(), response.reason());
+            }
+            return response.approved();
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            // 대행사에서는 승인됐을 수 있으므로 취소를 요청해 둔다
+            compensate(payment);
+            throw new PaymentException.ExternalSystemException("결제 대행사 응답 시간이 초과되었습니다.");
+        }
+    }
+
+    /**
+     * 승인 취소는 응답을 기다리지 않는다. 결제 호출 한도와 무관한 취소 전용 풀에 넣으므로 한도 초과로 버려지지 않고,
+     * 취소 요청마저 실패하면 대사(reconciliation)로 처리할 수 있도록 로그를 남긴다.
+     */
+    @Override
+    public void compensate(Payment payment) {
+        try {
+            cancelExecutor.execute(() -> {
+                try {
+                    gatewayClient.cancel(payment.getId());
+                } catch (RuntimeException e) {
+                    log.error("[카드 결제] 승인 취소 실패 - paymentId={}", payment.getId(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.error("[카드 결제] 승인 취소 요청 거절(종료 중) - paymentId={}", payment.getId());
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> call) {
+        try {
+            return executor.submit(call);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PaymentException.GatewayBusyException();
+        }
+    }
+
+    private <T> T await(Future<T> future) throws TimeoutException {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            log.warn("[카드 결제] 결제 대행사 호출 실패", e.getCause());
+            throw new PaymentException.ExternalSystemException("결제 대행사 호출에 실패했습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new PaymentException.ExternalSystemException("결제 대행사 응답 대기 중 중단되었습니다.");
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // 결제 호출이 타임아웃으로 끝나며 취소를 넣을 수 있으므로 결제 풀을 먼저 비운다
+        shutdown(executor, "호출");
+        shutdown(cancelExecutor, "승인 취소");
+    }
+
+    private void shutdown(ThreadPoolExecutor pool, String name) throws InterruptedException {
+        pool.shutdown();
+        if (!pool.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("[카드 결제] 종료 대기 시간 초과 - 남은 {} {}건", name, pool.getQueue().size());
+            pool.shutdownNow();
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package kr.hhplus.be.server.application.payment;
 
 import kr.hhplus.be.server.common.vo.Money;
+import java.util.UUID;
 
 public record PaymentCommand(
-        String orderId,
+        UUID orderId,
         Money amount,
         String method
 ) {
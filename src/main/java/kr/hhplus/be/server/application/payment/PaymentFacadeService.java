@@ -6,40 +6,126 @@ import kr.hhplus.be.server.application.order.OrderUseCase;
 import kr.hhplus.be.server.common.vo.Money;
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentException;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class PaymentFacadeService {
+    public static final String CONDITIONAL_UPDATE_MODE = "conditional-update";
+
     private final PaymentUseCase paymentUseCase;
     private final OrderUseCase orderUseCase;
     private final BalanceUseCase balanceUseCase;
+    private final PaymentProcessorRegistry processorRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * locking(기본): 주문 행을 PESSIMISTIC_WRITE로 잠그고 엔티티를 읽어 변경한다.
+     * conditional-update: 잠금 조회 없이 조건부 UPDATE의 반영 행 수로 결과를 판단한다. (잔액 결제 전용)
+     */
+    @Value("${payment.mode:locking}")
+    private String mode;
 
-    // PaymentFacadeService.java
-    @Transactional
+    /**
+     * 결제 수단의 PaymentProcessor로 결제한다.
+     * 내부 결제 수단은 한 트랜잭션에서 처리하고, 외부 결제 수단은 대행사 호출 동안 트랜잭션(DB 커넥션)을 잡지 않는다.
+     */
     public PaymentResult requestPayment(RequestPaymentCommand command) {
-        Money amount = Money.wons(command.amount());
+        PaymentProcessor processor = processorRegistry.get(command.method());
+        if (processor.isExternal()) {
+            return requestExternalPayment(command, processor);
+        }
+        if (CONDITIONAL_UPDATE_MODE.equals(mode)) {
+            return transactionTemplate.execute(status -> requestPaymentWithConditionalUpdates(command));
+        }
+        return transactionTemplate.execute(status -> requestPaymentWithLock(command, processor));
+    }
 
+    /**
+     * 호출하는 쪽이 결제를 트랜잭션 밖에서 실행해야 하는지(외부 결제 수단인지) 확인한다.
+     */
+    public boolean isExternalMethod(String method) {
+        return processorRegistry.get(method).isExternal();
+    }
+
+    private PaymentResult requestPaymentWithLock(RequestPaymentCommand command, PaymentProcessor processor) {
         // 1. 주문을 가져온다.(주문이 존재하는지, 결제 가능한 상태인지 검증)
-//        Order order = orderUseCase.getOrderForPayment(command.orderId());
         Order order = orderUseCase.getOrderForPaymentWithLock(command.orderId());
 
-        // 2. 잔액 차감
-        balanceUseCase.decreaseBalance(
-                new DecreaseBalanceCommand(command.userId(), amount.value())
-        );
-
-        // 3. 결제 성공 처리
+        // 2. 결제 성공 기록 (이후 단계가 실패하면 함께 롤백된다)
         Payment payment = paymentUseCase.recordSuccess(
                 PaymentCommand.from(command)
         );
 
+        // 3. 결제 수단별 처리 (잔액 결제는 결제 금액만큼 잔액 차감)
+        if (!processor.process(command, order, payment)) {
+            throw new PaymentException.ProcessingFailedException(command.method());
+        }
+
         // 4. 주문 상태를 결제 완료로 변경
         orderUseCase.markConfirmed(order);
 
         return PaymentResult.from(payment);
     }
 
+    /**
+     * 외부 결제 수단(카드 등). 주문 확인과 결과 반영만 짧은 트랜잭션으로 나누고, 대행사 호출은 트랜잭션 밖에서 기다린다.
+     * 호출 중 주문이 취소되거나 다른 결제가 먼저 끝나면 결과 반영 단계에서 실패하므로 승인을 취소한다.
+     */
+    private PaymentResult requestExternalPayment(RequestPaymentCommand command, PaymentProcessor processor) {
+        // 1. 결제 가능한 주문인지 확인 (잠그지 않는다)
+        Order order = orderUseCase.getOrderForPayment(command.orderId());
+        Payment payment = Payment.create(order.getId(), Money.wons(command.amount()), PaymentStatus.INITIATED, command.method());
+
+        // 2. 대행사 승인 요청
+        if (!processor.process(command, order, payment)) {
+            payment.markFailure();
+            transactionTemplate.execute(status -> {
+                paymentUseCase.record(payment);
+                return null;
+            });
+            return PaymentResult.from(payment);
+        }
+
+        // 3. 주문 결제 완료 전이와 결제 기록
+        payment.markSuccess();
+        try {
+            transactionTemplate.execute(status -> {
+                orderUseCase.confirmIfPayable(order.getId());
+                paymentUseCase.record(payment);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            processor.compensate(payment);
+            throw e;
+        }
+        return PaymentResult.from(payment);
+    }
+
+    /**
+     * 주문 상태 전이와 잔액 차감을 각각 조건부 UPDATE 한 문장으로 처리한다.
+     * 주문 행은 UPDATE 시점부터 커밋까지만 잠기므로, 다른 트랜잭션이 주문을 오래 잡고 있어도 조회 단계에서 기다리지 않는다.
+     * 같은 주문의 중복 결제는 먼저 커밋한 쪽만 CREATED 조건을 통과한다.
+     */
+    private PaymentResult requestPaymentWithConditionalUpdates(RequestPaymentCommand command) {
+        // 1. 결제 가능한 주문만 결제 완료로 전이
+        orderUseCase.confirmIfPayable(command.orderId());
+
+        // 2. 잔액이 충분할 때만 차감 (부족하면 예외로 1단계까지 롤백)
+        balanceUseCase.decreaseBalanceIfEnough(
+                new DecreaseBalanceCommand(command.userId(), command.amount())
+        );
+
+        // 3. 결제 성공 기록
+        Payment payment = paymentUseCase.recordSuccess(
+                PaymentCommand.from(command)
+        );
+        return PaymentResult.from(payment);
+    }
+
 }
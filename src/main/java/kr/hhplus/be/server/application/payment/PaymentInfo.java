@@ -3,10 +3,11 @@ package kr.hhplus.be.server.application.payment;
 import kr.hhplus.be.server.domain.payment.Payment;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public record PaymentInfo(
-        String paymentId,
-        String orderId,
+        UUID paymentId,
+        UUID orderId,
         String method,
         String status,
         Long amount,
@@ -4,6 +4,25 @@ import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.payment.Payment;
 
 public interface PaymentProcessor {
+
+    /**
+     * 처리하는 결제 수단 (RequestPaymentCommand.method 값, 예: "BALANCE")
+     */
+    String method();
+
     boolean process(RequestPaymentCommand command, Order order, Payment payment);
-}
 
+    /**
+     * 외부 시스템을 호출하는 결제 수단이면 true. 이 경우 결제 요청은 DB 트랜잭션 밖에서 처리된다.
+     */
+    default boolean isExternal() {
+        return false;
+    }
+
+    /**
+     * 승인 후 주문 반영에 실패했거나 결제된 주문이 취소됐을 때 승인을 되돌린다.
+     * 트랜잭션 안에서 처리하는 결제 수단은 롤백이나 잔액 환불로 되돌리므로 아무것도 하지 않는다.
+     */
+    default void compensate(Payment payment) {
+    }
+}
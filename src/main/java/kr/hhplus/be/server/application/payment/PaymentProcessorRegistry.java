@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.application.payment;
+
+import kr.hhplus.be.server.domain.payment.PaymentException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 결제 수단별 PaymentProcessor 조회. 새 결제 수단은 PaymentProcessor 빈을 추가하면 등록된다.
+ */
+@Component
+public class PaymentProcessorRegistry {
+
+    private final Map<String, PaymentProcessor> processors = new HashMap<>();
+
+    public PaymentProcessorRegistry(List<PaymentProcessor> processors) {
+        for (PaymentProcessor processor : processors) {
+            PaymentProcessor duplicate = this.processors.put(normalize(processor.method()), processor);
+            if (duplicate != null) {
+                throw new IllegalStateException("결제 수단 " + processor.method() + " 의 프로세서가 중복 등록되었습니다.");
+            }
+        }
+    }
+
+    public PaymentProcessor get(String method) {
+        PaymentProcessor processor = method == null ? null : processors.get(normalize(method));
+        if (processor == null) {
+            throw new PaymentException.UnsupportedMethodException(method);
+        }
+        return processor;
+    }
+
+    private static String normalize(String method) {
+        return method.trim().toUpperCase(Locale.ROOT);
+    }
+}
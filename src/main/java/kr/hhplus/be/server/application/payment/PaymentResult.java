@@ -3,9 +3,10 @@ package kr.hhplus.be.server.application.payment;
 import kr.hhplus.be.server.domain.payment.Payment;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 public record PaymentResult(
-        String paymentId,
-        String orderId,
+        UUID paymentId,
+        UUID orderId,
         long amount,
         String method,
         String status,
@@ -5,6 +5,10 @@ import kr.hhplus.be.server.domain.payment.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class PaymentService implements PaymentUseCase {
@@ -17,5 +21,19 @@ public class PaymentService implements PaymentUseCase {
         return payment;
     }
 
+    @Override
+    public void record(Payment payment) {
+        paymentRepository.save(payment);
+    }
+
+    @Override
+    public List<Payment> cancelSucceeded(Collection<UUID> orderIds) {
+        List<Payment> succeeded = paymentRepository.findAllByOrderIds(orderIds).stream()
+                .filter(Payment::isSuccess)
+                .toList();
+        succeeded.forEach(Payment::cancel);
+        return succeeded;
+    }
+
 
 }
@@ -3,8 +3,22 @@ package kr.hhplus.be.server.application.payment;
 
 import kr.hhplus.be.server.domain.payment.Payment;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 public interface PaymentUseCase {
 
     Payment recordSuccess(PaymentCommand command);
 
+    /**
+     * 외부 결제처럼 트랜잭션 밖에서 결과가 정해진 결제를 저장한다.
+     */
+    void record(Payment payment);
+
+    /**
+     * 주문들의 성공한 결제를 취소 처리하고, 취소한 결제 목록을 반환한다. 결제 수단별 환불은 호출하는 쪽에서 처리한다.
+     */
+    List<Payment> cancelSucceeded(Collection<UUID> orderIds);
+
 }
@@ -3,10 +3,11 @@ package kr.hhplus.be.server.application.payment;
 
 import kr.hhplus.be.server.application.balance.DecreaseBalanceCommand;
 import kr.hhplus.be.server.interfaces.payment.PaymentRequest;
+import java.util.UUID;
 
 
 public record RequestPaymentCommand(
-        String orderId,
+        UUID orderId,
         Long userId,
         long amount,  // 결제 금액
         String method  // 예: "BALANCE", "CARD"
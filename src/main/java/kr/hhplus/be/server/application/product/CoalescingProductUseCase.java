@@ -0,0 +1,107 @@
+package kr.hhplus.be.server.application.product;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.domain.product.Product;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ProductUseCase 앞단의 single-flight 계층.
+ * 같은 (상품 ID, 사이즈) 상세 조회가 동시에 들어오면 먼저 온 요청 하나만 로딩하고 나머지는 그 결과를 공유한다.
+ * 트랜잭션 안의 호출은 다른 트랜잭션의 결과를 받지 않도록 그대로 위임한다.
+ */
+@Primary
+@Service
+public class CoalescingProductUseCase implements ProductUseCase {
+
+    private final ProductService delegate;
+    private final ConcurrentHashMap<GetProductDetailCommand, CompletableFuture<ProductDetailResult>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loads;
+    private final Counter coalesced;
+
+    public CoalescingProductUseCase(ProductService delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.loads = Counter.builder("product.detail.singleflight")
+                .tag("result", "load")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("product.detail.singleflight")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ProductDetailResult getProductDetail(GetProductDetailCommand command) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return delegate.getProductDetail(command);
+        }
+
+        CompletableFuture<ProductDetailResult> mine = new CompletableFuture<>();
+        CompletableFuture<ProductDetailResult> existing = inFlight.putIfAbsent(command, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        loads.increment();
+        try {
+            ProductDetailResult result = delegate.getProductDetail(command);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(command, mine);
+        }
+    }
+
+    private ProductDetailResult await(CompletableFuture<ProductDetailResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public ProductListResult getProductList(GetProductListCommand command) {
+        return delegate.getProductList(command);
+    }
+
+    @Override
+    public ProductListResult getProductListByCursor(GetProductCursorListCommand command) {
+        return delegate.getProductListByCursor(command);
+    }
+
+    @Override
+    public boolean decreaseStock(DecreaseStockCommand command) {
+        return delegate.decreaseStock(command);
+    }
+
+    @Override
+    public Product findProduct(Long productId) {
+        return delegate.findProduct(productId);
+    }
+
+    @Override
+    public List<Product> findProducts(List<Long> productIds) {
+        return delegate.findProducts(productIds);
+    }
+
+    @Override
+    public Map<Long, Long> getOrderablePrices(Collection<Long> productIds) {
+        return delegate.getOrderablePrices(productIds);
+    }
+}
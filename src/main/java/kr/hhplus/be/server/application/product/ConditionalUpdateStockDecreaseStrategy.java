@@ -0,0 +1,66 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.ProductException;
+import kr.hhplus.be.server.domain.product.ProductStockChangedEvent;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.StockDecreaseFailure;
+import kr.hhplus.be.server.domain.product.StockQuantityDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조건부 UPDATE 재고 차감 방식 (stock.decrease-strategy=conditional-update).
+ * UPDATE ... WHERE stock_quantity >= ? 한 문장으로 검증과 차감을 동시에 처리하고, 반영된 행 수로 성공 여부를 판단한다.
+ * 여러 줄은 (product_id, size) 순서의 UPDATE 배치 하나로 보내 줄마다 반영된 행 수를 확인한다.
+ * 엔티티를 읽지 않으므로 재고 변경 이벤트는 직접 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.decrease-strategy", havingValue = "conditional-update")
+public class ConditionalUpdateStockDecreaseStrategy implements StockDecreaseStrategy {
+
+    private final ProductStockRepository productStockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void decrease(DecreaseStockCommand command) {
+        int updated = productStockRepository.decreaseIfEnough(command.productId(), command.size(), command.quantity());
+        if (updated == 0) {
+            if (!productStockRepository.existsByProductIdAndSize(command.productId(), command.size())) {
+                throw new ProductException.NotFoundException(command.productId());
+            }
+            throw new ProductException.InsufficientStockException();
+        }
+        eventPublisher.publishEvent(new ProductStockChangedEvent(command.productId(), command.size()));
+    }
+
+    @Override
+    public void decreaseAll(List<DecreaseStockCommand> commands) {
+        int[] updated = productStockRepository.decreaseIfEnoughInBatch(StockKey.toLines(commands));
+
+        List<StockDecreaseFailure> failures = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            if (updated[i] == 0) {
+                DecreaseStockCommand command = commands.get(i);
+                failures.add(productStockRepository.existsByProductIdAndSize(command.productId(), command.size())
+                        ? StockDecreaseFailure.insufficient(command.productId(), command.size(), command.quantity())
+                        : StockDecreaseFailure.notFound(command.productId(), command.size(), command.quantity()));
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new ProductException.StockDecreaseFailedException(failures);
+        }
+        commands.forEach(command -> eventPublisher.publishEvent(new ProductStockChangedEvent(command.productId(), command.size())));
+    }
+
+    @Override
+    public void restoreAll(List<StockQuantityDelta> lines) {
+        productStockRepository.increaseInBatch(lines);
+        lines.forEach(line -> eventPublisher.publishEvent(new ProductStockChangedEvent(line.productId(), line.size())));
+    }
+}
@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.domain.product.ProductSortKey;
+import kr.hhplus.be.server.interfaces.product.ProductRequest;
+
+/**
+ * 커서 기반 상품 목록 조회. cursor가 비어 있으면 sort 기준 첫 페이지, 있으면 커서에 담긴 정렬을 이어간다.
+ */
+public record GetProductCursorListCommand(
+        String cursor,
+        int size,
+        String sort
+) {
+    public static final int MAX_SIZE = 100;
+
+    public GetProductCursorListCommand {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "페이지 크기는 1~" + MAX_SIZE + " 사이여야 합니다.");
+        }
+    }
+
+    public static GetProductCursorListCommand fromRequest(ProductRequest.CursorListRequest request) {
+        return new GetProductCursorListCommand(request.cursor(), request.size(), request.sort());
+    }
+
+    public ProductCursor toCursor() {
+        if (cursor != null && !cursor.isBlank()) {
+            return ProductCursor.decode(cursor);
+        }
+        if (sort == null || sort.isEmpty()) {
+            return ProductCursor.first(ProductSortKey.ID, false);
+        }
+        String[] parts = sort.split(",");
+        boolean descending = parts.length > 1 && parts[1].equals("desc");
+        return ProductCursor.first(ProductSortKey.from(parts[0]), descending);
+    }
+}
@@ -0,0 +1,75 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.ProductException;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockChangedEvent;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.StockDecreaseFailure;
+import kr.hhplus.be.server.domain.product.StockQuantityDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기본 재고 차감 방식. 재고 행에 PESSIMISTIC_WRITE 락을 걸고 엔티티를 읽어 검증 후 차감한다.
+ * 여러 줄은 SELECT ... FOR UPDATE 한 번으로 (product_id, size) 순서대로 락을 잡는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.decrease-strategy", havingValue = "pessimistic-lock", matchIfMissing = true)
+public class PessimisticLockStockDecreaseStrategy implements StockDecreaseStrategy {
+
+    private final ProductStockRepository productStockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void decrease(DecreaseStockCommand command) {
+        ProductStock stock = productStockRepository.findByProductIdAndSizeForUpdate(command.productId(), command.size())
+                .orElseThrow(() -> new ProductException.NotFoundException(command.productId()));
+        if (stock.getStockQuantity() < command.quantity()) {
+            throw new ProductException.InsufficientStockException();
+        }
+
+        stock.decreaseStock(command.quantity());
+
+        productStockRepository.save(stock); // saveAndFlush 필요 없음
+    }
+
+    @Override
+    public void decreaseAll(List<DecreaseStockCommand> commands) {
+        Map<StockKey, ProductStock> locked = productStockRepository.findAllForUpdate(StockKey.toLines(commands)).stream()
+                .collect(Collectors.toMap(stock -> new StockKey(stock.getProductId(), stock.getSize()), Function.identity()));
+
+        List<StockDecreaseFailure> failures = new ArrayList<>();
+        for (DecreaseStockCommand command : commands) {
+            ProductStock stock = locked.get(StockKey.of(command));
+            if (stock == null) {
+                failures.add(StockDecreaseFailure.notFound(command.productId(), command.size(), command.quantity()));
+            } else if (stock.getStockQuantity() < command.quantity()) {
+                failures.add(StockDecreaseFailure.insufficient(command.productId(), command.size(), command.quantity()));
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new ProductException.StockDecreaseFailedException(failures);
+        }
+
+        for (DecreaseStockCommand command : commands) {
+            ProductStock stock = locked.get(StockKey.of(command));
+            stock.decreaseStock(command.quantity());
+            productStockRepository.save(stock);
+        }
+    }
+
+    @Override
+    public void restoreAll(List<StockQuantityDelta> lines) {
+        productStockRepository.increaseInBatch(lines);
+        lines.forEach(line -> eventPublisher.publishEvent(new ProductStockChangedEvent(line.productId(), line.size())));
+    }
+}
@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.application.product;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.cache.LocalCache;
+import kr.hhplus.be.server.domain.product.Product;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 상품 메타데이터와 사이즈별 재고를 보관하는 로컬 캐시.
+ * 무효화는 ProductCacheEvictionListener가 도메인 이벤트를 받아 처리한다.
+ */
+@Component
+public class ProductCache {
+
+    private final LocalCache<Long, ProductSnapshot> products;
+    private final LocalCache<StockKey, Integer> stocks;
+
+    public ProductCache(MeterRegistry meterRegistry,
+                        Clock clock,
+                        @Value("${product.cache.max-size:10000}") int maxSize,
+                        @Value("${product.cache.ttl:PT30S}") Duration ttl) {
+        this.products = new LocalCache<>("product", maxSize, ttl, clock, meterRegistry);
+        this.stocks = new LocalCache<>("product-stock", maxSize, ttl, clock, meterRegistry);
+    }
+
+    public Optional<ProductSnapshot> getProduct(Long productId, Supplier<Optional<Product>> loader) {
+        if (inWriteTransaction()) {
+            // 쓰기 트랜잭션 안에서 읽은 값은 커밋 전 상태일 수 있으므로 캐시에 채우지 않는다
+            return Optional.ofNullable(products.getIfPresent(productId))
+                    .or(() -> loader.get().map(ProductSnapshot::from));
+        }
+        return Optional.ofNullable(products.get(productId,
+                id -> loader.get().map(ProductSnapshot::from).orElse(null)));
+    }
+
+    public Optional<Integer> getStock(Long productId, int size, Supplier<Optional<Integer>> loader) {
+        StockKey key = new StockKey(productId, size);
+        if (inWriteTransaction()) {
+            return Optional.ofNullable(stocks.getIfPresent(key))
+                    .or(loader);
+        }
+        return Optional.ofNullable(stocks.get(key, k -> loader.get().orElse(null)));
+    }
+
+    public void evictProduct(Long productId) {
+        products.evict(productId);
+    }
+
+    public void evictStock(Long productId, int size) {
+        stocks.evict(new StockKey(productId, size));
+    }
+
+    private boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private record StockKey(Long productId, int size) {
+    }
+}
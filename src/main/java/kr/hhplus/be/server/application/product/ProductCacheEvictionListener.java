@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.ProductChangedEvent;
+import kr.hhplus.be.server.domain.product.ProductStockChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품/재고 변경 이벤트를 받아 캐시를 무효화한다.
+ * 변경 직후 한 번, 트랜잭션 종료 후 한 번 더 비워 커밋 전 다른 요청이 채운 값도 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCacheEvictionListener {
+
+    private final ProductCache productCache;
+
+    @EventListener
+    public void on(ProductChangedEvent event) {
+        evictNowAndAfterCompletion(() -> productCache.evictProduct(event.productId()));
+    }
+
+    @EventListener
+    public void on(ProductStockChangedEvent event) {
+        evictNowAndAfterCompletion(() -> productCache.evictStock(event.productId(), event.size()));
+    }
+
+    private void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
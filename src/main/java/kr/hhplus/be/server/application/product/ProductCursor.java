@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.common.dto.CursorCodec;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductSortKey;
+
+/**
+ * 상품 목록 커서. 정렬 조건과 마지막 행의 (정렬 값, id)를 담는다.
+ * 정렬 조건을 커서에 함께 실어 다음 페이지 요청에서 정렬이 바뀌지 않도록 한다.
+ */
+public record ProductCursor(
+        ProductSortKey sortKey,
+        boolean descending,
+        String lastValue,
+        Long lastId
+) {
+    private static final int FIELD_COUNT = 4;
+
+    public static ProductCursor first(ProductSortKey sortKey, boolean descending) {
+        return new ProductCursor(sortKey, descending, null, null);
+    }
+
+    public static ProductCursor after(ProductSortKey sortKey, boolean descending, Product last) {
+        return new ProductCursor(sortKey, descending, sortKey.format(last), last.getId());
+    }
+
+    public static ProductCursor decode(String encoded) {
+        String[] values = CursorCodec.decode(encoded, FIELD_COUNT);
+        ProductSortKey sortKey = ProductSortKey.from(values[0]);
+        return new ProductCursor(sortKey, Boolean.parseBoolean(values[1]), values[2], (Long) ProductSortKey.ID.parse(values[3]));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(sortKey.property(), String.valueOf(descending), lastValue, String.valueOf(lastId));
+    }
+
+    public boolean isFirst() {
+        return lastId == null;
+    }
+
+    public Object typedLastValue() {
+        return isFirst() ? null : sortKey.parse(lastValue);
+    }
+}
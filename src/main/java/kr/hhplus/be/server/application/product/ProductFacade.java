@@ -1,11 +1,16 @@
 package kr.hhplus.be.server.application.product;
 
+import kr.hhplus.be.server.application.productstatistics.ProductSalesInfo;
 import kr.hhplus.be.server.application.productstatistics.ProductStatisticsUseCase;
 import kr.hhplus.be.server.domain.product.Product;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -15,11 +20,21 @@ public class ProductFacade {
     private final ProductStatisticsUseCase statisticsUseCase;
 
     public List<PopularProductResult> getPopularProducts(PopularProductCriteria criteria) {
-        return statisticsUseCase.getTopSellingProducts(criteria).stream()
-                .map(info -> {
-                    Product product = productUseCase.findProduct(info.productId());
-                    return PopularProductResult.from(product, info.salesCount());
-                })
+        Collection<ProductSalesInfo> ranking = statisticsUseCase.getTopSellingProducts(criteria);
+        if (ranking.isEmpty()) {
+            return List.of();
+        }
+
+        // 순위 상품을 한 번에 조회 (N+1 방지), 그 사이 삭제된 상품은 제외
+        List<Long> productIds = ranking.stream()
+                .map(ProductSalesInfo::productId)
+                .toList();
+        Map<Long, Product> products = productUseCase.findProducts(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity(), (first, second) -> first));
+
+        return ranking.stream()
+                .filter(info -> products.containsKey(info.productId()))
+                .map(info -> PopularProductResult.from(products.get(info.productId()), info.salesCount()))
                 .toList();
     }
 
@@ -3,9 +3,14 @@ package kr.hhplus.be.server.application.product;
 import java.util.List;
 
 public record ProductListResult(
-        List<ProductInfo> products
+        List<ProductInfo> products,
+        String nextCursor
 ) {
     public static ProductListResult from(List<ProductInfo> infos) {
-        return new ProductListResult(infos);
+        return new ProductListResult(infos, null);
+    }
+
+    public static ProductListResult of(List<ProductInfo> infos, String nextCursor) {
+        return new ProductListResult(infos, nextCursor);
     }
 }
@@ -6,7 +6,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -15,6 +21,8 @@ public class ProductService implements ProductUseCase {
 
     private final ProductRepository productRepository;
     private final ProductStockRepository productStockRepository;
+    private final ProductStockShardRepository productStockShardRepository;
+    private final ProductCache productCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -22,30 +30,75 @@ public class ProductService implements ProductUseCase {
         PageRequest pageRequest = PageRequest.of(command.page(), command.size(), command.getSort());
 
         var productPage = productRepository.findAll(pageRequest);
+        List<Product> products = productPage.getContent();
 
-        List<ProductInfo> infos = productPage.getContent().stream()
-                .map(product -> {
-                    List<ProductStock> stocks = productStockRepository.findAllByProductId(product.getId());
-                    int totalStock = stocks.stream()
-                            .mapToInt(ProductStock::getStockQuantity)
-                            .sum();
-                    return ProductInfo.from(product, totalStock);
-                })
+        // 페이지 내 상품들의 총 재고를 한 번의 집계 쿼리로 조회 (N+1 방지)
+        Map<Long, Integer> totalStocks = findTotalStocks(products);
+
+        List<ProductInfo> infos = products.stream()
+                .map(product -> ProductInfo.from(product, totalStocks.getOrDefault(product.getId(), 0)))
                 .toList();
         return ProductListResult.from(infos);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ProductListResult getProductListByCursor(GetProductCursorListCommand command) {
+        ProductCursor cursor = command.toCursor();
+        int size = command.size();
+
+        // 다음 페이지 존재 여부 판단을 위해 한 건 더 조회
+        List<Product> rows = productRepository.findAllByKeyset(
+                cursor.sortKey(), cursor.descending(), cursor.typedLastValue(), cursor.lastId(), size + 1);
+        boolean hasNext = rows.size() > size;
+        List<Product> products = hasNext ? rows.subList(0, size) : rows;
+
+        Map<Long, Integer> totalStocks = findTotalStocks(products);
+        List<ProductInfo> infos = products.stream()
+                .map(product -> ProductInfo.from(product, totalStocks.getOrDefault(product.getId(), 0)))
+                .toList();
+
+        String nextCursor = hasNext
+                ? ProductCursor.after(cursor.sortKey(), cursor.descending(), products.get(products.size() - 1)).encode()
+                : null;
+        return ProductListResult.of(infos, nextCursor);
+    }
+
+    private Map<Long, Integer> findTotalStocks(List<Product> products) {
+        if (products.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> productIds = products.stream()
+                .map(Product::getId)
+                .toList();
+
+        return productStockRepository.findStockSummariesByProductIds(productIds).stream()
+                .collect(Collectors.toMap(
+                        ProductStockSummary::productId,
+                        ProductStockSummary::totalStockAsInt
+                ));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ProductDetailResult getProductDetail(GetProductDetailCommand command) {
-        Product product = productRepository.findById(command.productId())
+        ProductSnapshot product = productCache.getProduct(command.productId(),
+                        () -> productRepository.findById(command.productId()))
                 .orElseThrow(() -> new ProductException.NotFoundException(command.productId()));
 
-        int stock = productStockRepository.findByProductIdAndSize(product.getId(), command.size())
-                .map(ProductStock::getStockQuantity)
+        int stock = productCache.getStock(product.id(), command.size(),
+                        () -> productStockRepository.findByProductIdAndSize(product.id(), command.size())
+                                .map(this::totalQuantity))
                 .orElse(0);
 
-        return ProductDetailResult.fromDomain(product, stock);
+        return ProductDetailResult.from(product.toInfo(stock));
+    }
+
+    private int totalQuantity(ProductStock stock) {
+        if (!stock.isSharded()) {
+            return stock.getStockQuantity();
+        }
+        return stock.getStockQuantity() + productStockShardRepository.sumQuantity(stock.getProductId(), stock.getSize());
     }
 
     @Override
@@ -68,5 +121,37 @@ public class ProductService implements ProductUseCase {
         return productRepository.findById(productId)
                 .orElseThrow(() -> new ProductException.NotFoundException(productId));
     }
-}
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findProducts(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> productsById = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return productIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getOrderablePrices(Collection<Long> productIds) {
+        Map<Long, Product> productsById = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        Map<Long, Long> prices = new HashMap<>();
+        for (Long productId : productIds) {
+            Product product = productsById.get(productId);
+            if (product == null) {
+                throw new ProductException.NotFoundException(productId);
+            }
+            product.validateReleased();
+            prices.put(productId, product.getPrice());
+        }
+        return prices;
+    }
+}
@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.Product;
+
+/**
+ * 캐시에 보관하는 상품 조회용 불변 스냅샷. 영속 엔티티를 캐시에 두지 않기 위해 사용한다.
+ */
+public record ProductSnapshot(
+        Long id,
+        String name,
+        Long price
+) {
+    public static ProductSnapshot from(Product product) {
+        return new ProductSnapshot(product.getId(), product.getName(), product.getPrice());
+    }
+
+    public ProductInfo toInfo(int stockQuantity) {
+        return new ProductInfo(id, name, price, stockQuantity);
+    }
+}
@@ -2,6 +2,10 @@ package kr.hhplus.be.server.application.product;
 
 import kr.hhplus.be.server.domain.product.Product;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 
 public interface ProductUseCase {
 
@@ -10,6 +14,11 @@ public interface ProductUseCase {
      */
     ProductListResult getProductList(GetProductListCommand command);
 
+    /**
+     * 커서 기반으로 상품 리스트를 조회한다. 다음 페이지가 있으면 nextCursor를 함께 반환한다.
+     */
+    ProductListResult getProductListByCursor(GetProductCursorListCommand command);
+
     /**
      * 단일 상품 상세 정보를 조회합니다.
      */
@@ -23,4 +32,15 @@ public interface ProductUseCase {
      *
      */
     Product findProduct(Long productId); // Info 생성을 위한 raw entity
+
+    /**
+     * 여러 상품을 한 번에 조회한다. 요청한 ID 순서를 유지하며, 존재하지 않는 상품은 제외한다.
+     */
+    List<Product> findProducts(List<Long> productIds);
+
+    /**
+     * 주문할 상품들의 가격을 한 번의 조회로 가져온다. 없는 상품이나 출시 전 상품이 있으면 예외.
+     * @return 상품 ID별 가격
+     */
+    Map<Long, Long> getOrderablePrices(Collection<Long> productIds);
 }
@@ -0,0 +1,97 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.ProductException;
+import kr.hhplus.be.server.domain.product.StockDecreaseFailure;
+import kr.hhplus.be.server.domain.product.StockQuantityDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인메모리 예약 기반 재고 차감 방식 (stock.decrease-strategy=reservation).
+ * DB 락 없이 StockReservationEngine에서 예약하고, 주문 트랜잭션이 커밋되면 확정, 롤백되면 예약을 되돌린다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.decrease-strategy", havingValue = "reservation")
+public class ReservationStockDecreaseStrategy implements StockDecreaseStrategy {
+
+    private final StockReservationEngine reservationEngine;
+
+    @Override
+    public void decrease(DecreaseStockCommand command) {
+        if (!reservationEngine.tryReserve(command.productId(), command.size(), command.quantity())) {
+            throw new ProductException.InsufficientStockException();
+        }
+
+        settleOnCompletion(List.of(command));
+    }
+
+    /**
+     * 모든 줄을 정렬된 순서로 예약하고, 하나라도 실패하면 이미 잡은 예약을 즉시 되돌린다.
+     */
+    @Override
+    public void decreaseAll(List<DecreaseStockCommand> commands) {
+        List<DecreaseStockCommand> reserved = new ArrayList<>();
+        List<StockDecreaseFailure> failures = new ArrayList<>();
+        for (DecreaseStockCommand command : commands) {
+            if (!reservationEngine.exists(command.productId(), command.size())) {
+                failures.add(StockDecreaseFailure.notFound(command.productId(), command.size(), command.quantity()));
+            } else if (reservationEngine.tryReserve(command.productId(), command.size(), command.quantity())) {
+                reserved.add(command);
+            } else {
+                failures.add(StockDecreaseFailure.insufficient(command.productId(), command.size(), command.quantity()));
+            }
+        }
+        if (!failures.isEmpty()) {
+            reserved.forEach(command -> reservationEngine.release(command.productId(), command.size(), command.quantity()));
+            throw new ProductException.StockDecreaseFailedException(failures);
+        }
+        settleOnCompletion(reserved);
+    }
+
+    /**
+     * DB 재고는 주문 취소와 같은 트랜잭션에서 되돌리고, 메모리의 가용 재고는 커밋된 뒤에 늘린다.
+     */
+    @Override
+    public void restoreAll(List<StockQuantityDelta> lines) {
+        reservationEngine.restore(lines);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reservationEngine.replenish(lines);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reservationEngine.replenish(lines);
+            }
+        });
+    }
+
+    private void settleOnCompletion(List<DecreaseStockCommand> reserved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reserved.forEach(this::confirm);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    reserved.forEach(ReservationStockDecreaseStrategy.this::confirm);
+                } else {
+                    reserved.forEach(command ->
+                            reservationEngine.release(command.productId(), command.size(), command.quantity()));
+                }
+            }
+        });
+    }
+
+    private void confirm(DecreaseStockCommand command) {
+        reservationEngine.confirm(command.productId(), command.size(), command.quantity());
+    }
+}
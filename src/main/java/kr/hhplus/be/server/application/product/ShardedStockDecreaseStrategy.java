@@ -0,0 +1,138 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.ProductException;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockChangedEvent;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.ProductStockShard;
+import kr.hhplus.be.server.domain.product.ProductStockShardRepository;
+import kr.hhplus.be.server.domain.product.StockDecreaseFailure;
+import kr.hhplus.be.server.domain.product.StockQuantityDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 샤딩 재고 차감 방식 (stock.decrease-strategy=sharded).
+ * 샤딩된 SKU는 락 없이 읽은 샤드 수량에서 혼자 감당할 수 있는 샤드 하나를 임의로 골라 조건부 UPDATE로 차감한다.
+ * 그런 샤드가 없으면 모든 샤드를 shard_no 순서로 잠그고 나눠서 차감한다.
+ * 고른 샤드의 UPDATE가 경합으로 실패하면 그 샤드 이상을 순서대로 잠그고, 모자라면 더 낮은 샤드 중
+ * 잠기지 않은 것을 SKIP LOCKED로 더해 나눠서 차감한다.
+ * 기다리는 락은 항상 shard_no 오름차순으로만 잡고 낮은 샤드는 기다리지 않으므로 주문끼리 교착되지 않는다.
+ * 샤딩되지 않은 SKU는 product_stock 행을 조건부 UPDATE로 차감한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.decrease-strategy", havingValue = "sharded")
+public class ShardedStockDecreaseStrategy implements StockDecreaseStrategy {
+
+    private final ProductStockRepository productStockRepository;
+    private final ProductStockShardRepository productStockShardRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void decrease(DecreaseStockCommand command) {
+        tryDecrease(command).ifPresent(failure -> {
+            if (failure.reason() == StockDecreaseFailure.Reason.NOT_FOUND) {
+                throw new ProductException.NotFoundException(command.productId());
+            }
+            throw new ProductException.InsufficientStockException();
+        });
+    }
+
+    @Override
+    public void decreaseAll(List<DecreaseStockCommand> commands) {
+        List<StockDecreaseFailure> failures = new ArrayList<>();
+        commands.forEach(command -> tryDecrease(command).ifPresent(failures::add));
+        if (!failures.isEmpty()) {
+            throw new ProductException.StockDecreaseFailedException(failures);
+        }
+    }
+
+    /**
+     * 샤딩된 SKU는 임의의 샤드에, 나머지는 product_stock 행에 배치 UPDATE로 되돌린다.
+     */
+    @Override
+    public void restoreAll(List<StockQuantityDelta> lines) {
+        List<StockQuantityDelta> unsharded = new ArrayList<>();
+        for (StockQuantityDelta line : lines) {
+            Optional<ProductStock> stock = productStockRepository.findByProductIdAndSize(line.productId(), line.size());
+            if (stock.isPresent() && stock.get().isSharded()) {
+                int shardNo = ThreadLocalRandom.current().nextInt(stock.get().getShardCount());
+                productStockShardRepository.increase(line.productId(), line.size(), shardNo, line.quantity());
+            } else {
+                unsharded.add(line);
+            }
+        }
+        if (!unsharded.isEmpty()) {
+            productStockRepository.increaseInBatch(unsharded);
+        }
+        lines.forEach(line -> eventPublisher.publishEvent(new ProductStockChangedEvent(line.productId(), line.size())));
+    }
+
+    private Optional<StockDecreaseFailure> tryDecrease(DecreaseStockCommand command) {
+        Optional<ProductStock> stock = productStockRepository.findByProductIdAndSize(command.productId(), command.size());
+        if (stock.isEmpty()) {
+            return Optional.of(StockDecreaseFailure.notFound(command.productId(), command.size(), command.quantity()));
+        }
+
+        boolean decreased = stock.get().isSharded()
+                ? decreaseShards(command)
+                : productStockRepository.decreaseIfEnough(command.productId(), command.size(), command.quantity()) == 1;
+        if (!decreased) {
+            return Optional.of(StockDecreaseFailure.insufficient(command.productId(), command.size(), command.quantity()));
+        }
+        eventPublisher.publishEvent(new ProductStockChangedEvent(command.productId(), command.size()));
+        return Optional.empty();
+    }
+
+    private boolean decreaseShards(DecreaseStockCommand command) {
+        List<ProductStockShard> hint = productStockShardRepository.findAll(command.productId(), command.size());
+        List<Integer> candidates = hint.stream()
+                .filter(shard -> shard.getStockQuantity() >= command.quantity())
+                .map(ProductStockShard::getShardNo)
+                .toList();
+        if (candidates.isEmpty()) {
+            return takeAcross(command, productStockShardRepository.findAllForUpdate(command.productId(), command.size()));
+        }
+
+        int shardNo = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        if (productStockShardRepository.decreaseIfEnough(command.productId(), command.size(), shardNo, command.quantity()) == 1) {
+            return true;
+        }
+        // 실패한 UPDATE 도 고른 샤드의 락을 쥐고 있으므로, 그 이상 샤드만 순서대로 기다려 잠근다.
+        List<ProductStockShard> shards = new ArrayList<>(
+                productStockShardRepository.findAllForUpdateFrom(command.productId(), command.size(), shardNo));
+        if (sum(shards) < command.quantity()) {
+            // 더 낮은 샤드는 기다리지 않고 지금 잠글 수 있는 것만 더한다. 잠긴 샤드의 재고는 그 주문이 가져간다.
+            shards.addAll(productStockShardRepository.findAllForUpdateBeforeSkipLocked(
+                    command.productId(), command.size(), shardNo));
+        }
+        return takeAcross(command, shards);
+    }
+
+    private boolean takeAcross(DecreaseStockCommand command, List<ProductStockShard> shards) {
+        if (sum(shards) < command.quantity()) {
+            return false;
+        }
+        int remaining = command.quantity();
+        for (ProductStockShard shard : shards) {
+            remaining -= shard.take(remaining);
+            if (remaining == 0) {
+                break;
+            }
+        }
+        productStockShardRepository.saveAll(shards);
+        return true;
+    }
+
+    private int sum(List<ProductStockShard> shards) {
+        return shards.stream().mapToInt(ProductStockShard::getStockQuantity).sum();
+    }
+}
@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.StockQuantityDelta;
+
+import java.util.List;
+
+/**
+ * 재고 차감 방식. stock.decrease-strategy 설정으로 구현체를 선택한다.
+ * 호출자의 트랜잭션 안에서 실행되며, 실패 시 예외를 던져 트랜잭션을 롤백시킨다.
+ */
+public interface StockDecreaseStrategy {
+
+    void decrease(DecreaseStockCommand command);
+
+    /**
+     * 여러 줄을 한 번에 차감한다. commands는 (productId, size) 순으로 정렬되고 같은 줄이 합쳐진 상태로 전달된다.
+     * 하나라도 실패하면 실패한 줄을 모두 담아 StockDecreaseFailedException을 던진다.
+     */
+    void decreaseAll(List<DecreaseStockCommand> commands);
+
+    /**
+     * 차감했던 수량을 재고에 되돌린다. lines는 (productId, size) 순으로 정렬되고 같은 줄이 합쳐진 상태로 전달된다.
+     */
+    void restoreAll(List<StockQuantityDelta> lines);
+}
@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.StockQuantityDelta;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * (상품, 사이즈) 재고 행 식별자. 여러 줄을 차감할 때 락 순서의 기준이 된다.
+ */
+record StockKey(Long productId, int size) {
+
+    static final Comparator<StockKey> CANONICAL_ORDER =
+            Comparator.comparing(StockKey::productId).thenComparingInt(StockKey::size);
+
+    static StockKey of(DecreaseStockCommand command) {
+        return new StockKey(command.productId(), command.size());
+    }
+
+    static List<StockQuantityDelta> toLines(List<DecreaseStockCommand> commands) {
+        return commands.stream()
+                .map(command -> new StockQuantityDelta(command.productId(), command.size(), command.quantity()))
+                .toList();
+    }
+}
@@ -0,0 +1,188 @@
+package kr.hhplus.be.server.application.product;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.domain.product.ProductException;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockChangedEvent;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.StockQuantityDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한정 발매용 인메모리 재고 예약 엔진 (stock.decrease-strategy=reservation).
+ * (상품, 사이즈)별 가용 재고를 AtomicInteger로 보관하고 CAS로 차감 여부를 결정한다.
+ * 커밋된 차감분만 모아 두었다가 주기적으로 조건부 배치 UPDATE로 DB에 반영한다.
+ * 가용 재고의 기준이 이 프로세스의 메모리이므로 단일 노드 배포를 전제로 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.decrease-strategy", havingValue = "reservation")
+public class StockReservationEngine {
+
+    private static final int PRELOAD_PAGE_SIZE = 1_000;
+
+    private final ProductStockRepository productStockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentHashMap<StockKey, AtomicInteger> available = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<StockKey, AtomicInteger> committed = new ConcurrentHashMap<>();
+
+    /**
+     * 재고 테이블 전체를 한 번에 올리지 않도록 id 순으로 나눠 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        long loaded = 0;
+        Long afterId = 0L;
+        List<ProductStock> page;
+        do {
+            page = productStockRepository.findAllAfter(afterId, PRELOAD_PAGE_SIZE);
+            page.forEach(stock -> available.putIfAbsent(
+                    new StockKey(stock.getProductId(), stock.getSize()),
+                    new AtomicInteger(stock.getStockQuantity())));
+            loaded += page.size();
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == PRELOAD_PAGE_SIZE);
+        log.info("[재고 예약] 재고 {}건 적재 완료", loaded);
+    }
+
+    /**
+     * 가용 재고에서 quantity만큼 예약한다. 기동 후 추가된 재고는 처음 요청될 때 DB에서 적재한다.
+     * @return 예약 성공 여부 (재고 행이 없으면 NotFoundException)
+     */
+    public boolean tryReserve(Long productId, int size, int quantity) {
+        AtomicInteger counter = counterOf(new StockKey(productId, size));
+        while (true) {
+            int current = counter.get();
+            if (current < quantity) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 재고 행이 있는지 확인한다. 메모리에 없으면 DB를 확인한다.
+     */
+    public boolean exists(Long productId, int size) {
+        StockKey key = new StockKey(productId, size);
+        return available.containsKey(key) || productStockRepository.existsByProductIdAndSize(productId, size);
+    }
+
+    /**
+     * 주문 트랜잭션이 롤백되어 예약을 되돌린다.
+     */
+    public void release(Long productId, int size, int quantity) {
+        counterOf(new StockKey(productId, size)).addAndGet(quantity);
+    }
+
+    /**
+     * 주문 트랜잭션이 커밋된 예약을 DB 반영 대기열에 올린다.
+     */
+    public void confirm(Long productId, int size, int quantity) {
+        committed.computeIfAbsent(new StockKey(productId, size), key -> new AtomicInteger())
+                .addAndGet(quantity);
+    }
+
+    /**
+     * 취소된 주문의 수량을 DB 재고에 되돌린다. 가용 재고는 호출자가 커밋 뒤 replenish로 늘린다.
+     */
+    public void restore(List<StockQuantityDelta> lines) {
+        productStockRepository.increaseInBatch(lines);
+        lines.forEach(line -> eventPublisher.publishEvent(new ProductStockChangedEvent(line.productId(), line.size())));
+    }
+
+    /**
+     * 되돌린 수량을 가용 재고에 더한다. 아직 적재되지 않은 키는 다음 적재 때 DB 값에 이미 포함되므로 건너뛴다.
+     */
+    public void replenish(List<StockQuantityDelta> lines) {
+        lines.forEach(line -> {
+            AtomicInteger counter = available.get(new StockKey(line.productId(), line.size()));
+            if (counter != null) {
+                counter.addAndGet(line.quantity());
+            }
+        });
+    }
+
+    public int availableQuantity(Long productId, int size) {
+        return counterOf(new StockKey(productId, size)).get();
+    }
+
+    @Scheduled(fixedDelayString = "${stock.reservation.flush-interval-ms:200}")
+    public synchronized void flush() {
+        List<StockQuantityDelta> deltas = new ArrayList<>();
+        for (Map.Entry<StockKey, AtomicInteger> entry : committed.entrySet()) {
+            int quantity = entry.getValue().getAndSet(0);
+            if (quantity > 0) {
+                deltas.add(new StockQuantityDelta(entry.getKey().productId(), entry.getKey().size(), quantity));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        int[] updated;
+        try {
+            updated = productStockRepository.decreaseIfEnoughInBatch(deltas);
+        } catch (RuntimeException e) {
+            log.warn("[재고 예약] DB 반영 실패, 다음 주기에 재시도합니다. 건수: {}", deltas.size(), e);
+            deltas.forEach(delta -> confirm(delta.productId(), delta.size(), delta.quantity()));
+            return;
+        }
+        for (int i = 0; i < deltas.size(); i++) {
+            StockQuantityDelta delta = deltas.get(i);
+            if (updated[i] == 0) {
+                blockOnMismatch(delta);
+                continue;
+            }
+            eventPublisher.publishEvent(new ProductStockChangedEvent(delta.productId(), delta.size()));
+        }
+    }
+
+    /**
+     * DB 재고가 이미 확정된 차감분보다 적다면 메모리 밖에서 재고가 줄어든 것이다.
+     * 재시도해도 반영되지 않으므로 대기열에 되돌리지 않고, 더 팔지 않도록 가용 재고를 0으로 막은 뒤 대사용 로그를 남긴다.
+     */
+    private void blockOnMismatch(StockQuantityDelta delta) {
+        AtomicInteger counter = available.get(new StockKey(delta.productId(), delta.size()));
+        if (counter != null) {
+            counter.set(0);
+        }
+        log.error("[재고 예약] DB 재고가 확정 차감분보다 적어 반영하지 못했습니다. 판매를 막습니다 - productId={}, size={}, quantity={}",
+                delta.productId(), delta.size(), delta.quantity());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private AtomicInteger counterOf(StockKey key) {
+        AtomicInteger counter = available.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        ProductStock stock = productStockRepository.findByProductIdAndSize(key.productId(), key.size())
+                .orElseThrow(() -> new ProductException.NotFoundException(key.productId()));
+        AtomicInteger loaded = new AtomicInteger(stock.getStockQuantity());
+        AtomicInteger existing = available.putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+}
@@ -1,28 +1,59 @@
 package kr.hhplus.be.server.application.product;
 
-import kr.hhplus.be.server.domain.product.*;
+import kr.hhplus.be.server.domain.product.StockQuantityDelta;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class StockService {
 
-    private final ProductRepository productRepository;
-    private final ProductStockRepository productStockRepository;
+    private final StockDecreaseStrategy stockDecreaseStrategy;
 
     @Transactional
     public void decrease(DecreaseStockCommand command) {
-        ProductStock stock = productStockRepository.findByProductIdAndSizeForUpdate(command.productId(), command.size())
-                .orElseThrow(() -> new ProductException.NotFoundException(command.productId()));
-        if (stock.getStockQuantity() < command.quantity()) {
-            throw new ProductException.InsufficientStockException();
+        stockDecreaseStrategy.decrease(command);
+    }
+
+    /**
+     * 주문의 모든 줄을 한 번에 차감한다.
+     * 같은 (상품, 사이즈) 줄은 합치고 (productId, size) 순으로 정렬해 모든 트랜잭션이 같은 순서로 재고 행을 잠그게 한다.
+     */
+    @Transactional
+    public void decreaseAll(List<DecreaseStockCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
         }
+        Map<StockKey, Integer> merged = new LinkedHashMap<>();
+        commands.forEach(command -> merged.merge(StockKey.of(command), command.quantity(), Integer::sum));
 
-        stock.decreaseStock(command.quantity());
+        List<DecreaseStockCommand> canonical = merged.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(StockKey.CANONICAL_ORDER))
+                .map(entry -> DecreaseStockCommand.of(entry.getKey().productId(), entry.getKey().size(), entry.getValue()))
+                .toList();
+        stockDecreaseStrategy.decreaseAll(canonical);
+    }
+
+    /**
+     * 취소된 주문들의 수량을 재고에 되돌린다. 차감과 같은 (productId, size) 순서로 합쳐서 보낸다.
+     */
+    @Transactional
+    public void restoreAll(List<StockQuantityDelta> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        Map<StockKey, Integer> merged = new LinkedHashMap<>();
+        lines.forEach(line -> merged.merge(new StockKey(line.productId(), line.size()), line.quantity(), Integer::sum));
 
-        productStockRepository.save(stock); // saveAndFlush 필요 없음
+        List<StockQuantityDelta> canonical = merged.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(StockKey.CANONICAL_ORDER))
+                .map(entry -> new StockQuantityDelta(entry.getKey().productId(), entry.getKey().size(), entry.getValue()))
+                .toList();
+        stockDecreaseStrategy.restoreAll(canonical);
     }
 }
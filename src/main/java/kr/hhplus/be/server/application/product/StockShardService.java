@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.ProductException;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.ProductStockShard;
+import kr.hhplus.be.server.domain.product.ProductStockShardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * SKU별 재고 샤드 수를 설정한다. 샤딩 재고 차감 방식(stock.decrease-strategy=sharded)에서만 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.decrease-strategy", havingValue = "sharded")
+public class StockShardService {
+
+    private final ProductStockRepository productStockRepository;
+    private final ProductStockShardRepository productStockShardRepository;
+
+    /**
+     * 재고 행과 기존 샤드를 모두 잠그고, 합친 재고를 shardCount개의 샤드로 다시 나눈다.
+     * shardCount가 1 이하이면 샤딩을 해제한다. 샤딩된 SKU를 입고한 뒤에도 호출해 입고분을 샤드에 나눠 담는다.
+     */
+    @Transactional
+    public void reshard(Long productId, int size, int shardCount) {
+        ProductStock stock = productStockRepository.findByProductIdAndSizeForUpdate(productId, size)
+                .orElseThrow(() -> new ProductException.NotFoundException(productId));
+        List<ProductStockShard> shards = productStockShardRepository.findAllForUpdate(productId, size);
+
+        int total = stock.getStockQuantity() + shards.stream().mapToInt(ProductStockShard::getStockQuantity).sum();
+        productStockShardRepository.deleteAll(shards);
+        productStockShardRepository.saveAll(stock.redistribute(total, shardCount));
+        productStockRepository.save(stock);
+    }
+}
@@ -2,11 +2,13 @@ package kr.hhplus.be.server.application.productstatistics;
 
 import kr.hhplus.be.server.application.product.PopularProductCriteria;
 import kr.hhplus.be.server.common.vo.Money;
-import kr.hhplus.be.server.domain.productstatistics.ProductStatistics;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.Collection;
 
@@ -15,23 +17,48 @@ import java.util.Collection;
 public class ProductStatisticsService implements ProductStatisticsUseCase {
 
     private final ProductStatisticsRepository repository;
+    private final SalesLeaderboard leaderboard;
+    private final SalesStatisticsBuffer salesBuffer;
+    private final Clock clock;
 
+    /**
+     * 판매 증분을 쓰기 지연 버퍼에 더한다. 통계 테이블 반영은 SalesStatisticsBuffer가 주기적으로 일괄 처리한다.
+     */
     @Override
     public void record(RecordSalesCommand command) {
-        LocalDate today = LocalDate.now();
-        ProductStatistics stats = repository.findByProductIdAndStatDate(command.productId(), today)
-                .orElseGet(() -> ProductStatistics.create(command.productId(), today));
-        stats.addSales(command.quantity(), Money.wons(command.amount()));
-        repository.save(stats);
+        LocalDate today = LocalDate.now(clock);
+        long salesAmount = Money.wons(command.amount()).multiply(command.quantity()).value();
+
+        // 커밋된 판매만 반영
+        afterCommit(() -> {
+            salesBuffer.add(command.productId(), today, command.quantity(), salesAmount);
+            leaderboard.record(command.productId(), today, command.quantity());
+        });
     }
 
     @Override
     public Collection<ProductSalesInfo> getTopSellingProducts(PopularProductCriteria criteria) {
-        LocalDate today = LocalDate.now();
+        if (leaderboard.supports(criteria.days())) {
+            return leaderboard.top(criteria.days(), criteria.limit());
+        }
+
+        LocalDate today = LocalDate.now(clock);
         LocalDate from = today.minusDays(criteria.days());
         int limit = criteria.limit();
 
         return repository.findTopSellingProducts(from, today, limit);
     }
 
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
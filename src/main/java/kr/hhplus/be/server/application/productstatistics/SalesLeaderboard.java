@@ -0,0 +1,178 @@
+package kr.hhplus.be.server.application.productstatistics;
+
+import kr.hhplus.be.server.domain.productstatistics.ProductStatistics;
+import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 인기 상품 조회용 인메모리 슬라이딩 윈도우 리더보드.
+ * 상품별로 최근 (windowDays + 1)일의 일별 판매량을 링 버퍼에 보관하고,
+ * 조회 기간(0 ~ windowDays일)마다 판매량 순 정렬 집합을 판매 기록 시점에 갱신해 상위 N개를 바로 꺼낸다.
+ * 기동 시 product_statistics로 재구성하고, 자정마다 윈도우를 한 칸 민다.
+ * 재구성은 웹 서버가 요청을 받기 시작한 뒤에 끝나므로, 그 전에 기록된 판매는 (상품, 날짜)별로 모아 두었다가
+ * 스냅샷을 적용한 직후 같은 락 안에서 더한다.
+ */
+@Slf4j
+@Component
+public class SalesLeaderboard {
+
+    private static final Comparator<Ranked> RANKING_ORDER = Comparator
+            .comparingLong(Ranked::salesCount).reversed()
+            .thenComparing(Ranked::productId);
+
+    private final ProductStatisticsRepository repository;
+    private final Clock clock;
+    private final int windowDays;
+
+    private final Map<Long, ProductCounts> counts = new HashMap<>();
+    private final List<TreeSet<Ranked>> rankings = new ArrayList<>();
+    private final Map<SaleKey, Long> recordedBeforeReady = new HashMap<>();
+    private LocalDate today;
+    private volatile boolean ready;
+
+    public SalesLeaderboard(ProductStatisticsRepository repository,
+                            Clock clock,
+                            @Value("${product.leaderboard.window-days:7}") int windowDays) {
+        this.repository = repository;
+        this.clock = clock;
+        this.windowDays = windowDays;
+        for (int days = 0; days <= windowDays; days++) {
+            rankings.add(new TreeSet<>(RANKING_ORDER));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDate now = LocalDate.now(clock);
+        List<ProductStatistics> rows = repository.findAllByStatDateBetween(now.minusDays(windowDays), now);
+
+        synchronized (this) {
+            counts.clear();
+            rankings.forEach(TreeSet::clear);
+            today = now;
+            rows.forEach(row -> apply(row.getProductId(), row.getStatDate(), row.getSalesCount()));
+            // 스냅샷 조회 전에 통계 테이블까지 반영된 판매는 두 번 더해질 수 있지만, 빠뜨려 계속 적게 세는 것보다 낫다
+            recordedBeforeReady.forEach((key, quantity) -> apply(key.productId(), key.date(), quantity));
+            recordedBeforeReady.clear();
+            ready = true;
+        }
+        log.info("[인기 상품 리더보드] 재구성 완료 - 기준일: {}, 상품 수: {}", now, counts.size());
+    }
+
+    @Scheduled(cron = "0 0 0 * * *", zone = "UTC") // 매일 자정 윈도우 이동
+    public synchronized void roll() {
+        rollTo(LocalDate.now(clock));
+    }
+
+    /**
+     * 해당 조회 기간을 리더보드로 응답할 수 있는지 여부. 재구성 전이거나 윈도우를 넘으면 DB로 조회해야 한다.
+     */
+    public boolean supports(int days) {
+        return ready && days >= 0 && days <= windowDays;
+    }
+
+    public synchronized void record(Long productId, LocalDate date, long quantity) {
+        if (!ready) {
+            recordedBeforeReady.merge(new SaleKey(productId, date), quantity, Long::sum);
+            return;
+        }
+        rollTo(LocalDate.now(clock));
+        apply(productId, date, quantity);
+    }
+
+    /**
+     * 오늘 포함 최근 days일(오늘 - days ~ 오늘) 판매량 상위 limit개.
+     */
+    public synchronized List<ProductSalesInfo> top(int days, int limit) {
+        rollTo(LocalDate.now(clock));
+        return rankings.get(days).stream()
+                .limit(limit)
+                .map(ranked -> new ProductSalesInfo(ranked.productId(), ranked.salesCount()))
+                .toList();
+    }
+
+    private void apply(Long productId, LocalDate date, long quantity) {
+        long age = ChronoUnit.DAYS.between(date, today);
+        if (quantity == 0 || age < 0 || age > windowDays) {
+            return;
+        }
+        ProductCounts productCounts = counts.computeIfAbsent(productId, id -> new ProductCounts(windowDays + 1));
+        productCounts.ring[slot(date)] += quantity;
+        for (int days = (int) age; days <= windowDays; days++) {
+            updateTotal(productId, productCounts, days, productCounts.totals[days] + quantity);
+        }
+    }
+
+    private void rollTo(LocalDate newToday) {
+        if (today == null || !newToday.isAfter(today)) {
+            return;
+        }
+        long shift = Math.min(ChronoUnit.DAYS.between(today, newToday), windowDays + 1L);
+        today = newToday;
+
+        // 새로 들어온 날짜의 슬롯은 윈도우 밖으로 밀려난 날짜의 슬롯이므로 비운다
+        for (int i = 0; i < shift; i++) {
+            int slot = slot(newToday.minusDays(i));
+            counts.values().forEach(productCounts -> productCounts.ring[slot] = 0);
+        }
+
+        rankings.forEach(TreeSet::clear);
+        counts.entrySet().removeIf(entry -> {
+            ProductCounts productCounts = entry.getValue();
+            long total = 0;
+            for (int days = 0; days <= windowDays; days++) {
+                total += productCounts.ring[slot(newToday.minusDays(days))];
+                productCounts.totals[days] = 0;
+                updateTotal(entry.getKey(), productCounts, days, total);
+            }
+            return total == 0;
+        });
+    }
+
+    private void updateTotal(Long productId, ProductCounts productCounts, int days, long newTotal) {
+        TreeSet<Ranked> ranking = rankings.get(days);
+        long oldTotal = productCounts.totals[days];
+        if (oldTotal > 0) {
+            ranking.remove(new Ranked(productId, oldTotal));
+        }
+        productCounts.totals[days] = newTotal;
+        if (newTotal > 0) {
+            ranking.add(new Ranked(productId, newTotal));
+        }
+    }
+
+    private int slot(LocalDate date) {
+        return (int) Math.floorMod(date.toEpochDay(), windowDays + 1L);
+    }
+
+    private static final class ProductCounts {
+        private final long[] ring;
+        private final long[] totals;
+
+        private ProductCounts(int size) {
+            this.ring = new long[size];
+            this.totals = new long[size];
+        }
+    }
+
+    private record Ranked(Long productId, long salesCount) {
+    }
+
+    private record SaleKey(Long productId, LocalDate date) {
+    }
+}
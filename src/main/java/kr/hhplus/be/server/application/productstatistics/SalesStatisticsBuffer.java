@@ -0,0 +1,85 @@
+package kr.hhplus.be.server.application.productstatistics;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsRepository;
+import kr.hhplus.be.server.domain.productstatistics.SalesDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 판매 통계 쓰기 지연(write-behind) 집계기.
+ * 판매마다 통계 행을 읽고 쓰는 대신 (상품, 날짜)별 LongAdder에 증분을 모아 두고,
+ * 주기적으로(그리고 종료 시) INSERT ... ON DUPLICATE KEY UPDATE 배치 한 번으로 반영한다.
+ * 반영에 실패한 증분은 다시 버퍼에 더해 다음 주기에 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesStatisticsBuffer {
+
+    private final ProductStatisticsRepository repository;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<Key, Counters> pending = new ConcurrentHashMap<>();
+
+    public void add(Long productId, LocalDate statDate, long quantity, long amount) {
+        Counters counters = pending.computeIfAbsent(new Key(productId, statDate), key -> new Counters());
+        counters.salesCount.add(quantity);
+        counters.salesAmount.add(amount);
+    }
+
+    @Scheduled(fixedDelayString = "${product.statistics.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<SalesDelta> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            repository.upsertSales(deltas);
+        } catch (RuntimeException e) {
+            log.warn("[판매 통계] 반영 실패, 다음 주기에 재시도합니다. 건수: {}", deltas.size(), e);
+            deltas.forEach(delta -> add(delta.productId(), delta.statDate(), delta.salesCount(), delta.salesAmount()));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<SalesDelta> drain() {
+        // 어제 이전 날짜의 카운터는 더 이상 증분이 들어오지 않으므로 비운 뒤 제거한다
+        LocalDate staleBefore = LocalDate.now(clock).minusDays(1);
+        List<SalesDelta> deltas = new ArrayList<>();
+        for (Map.Entry<Key, Counters> entry : pending.entrySet()) {
+            Key key = entry.getKey();
+            if (key.statDate().isBefore(staleBefore)) {
+                pending.remove(key);
+            }
+            long salesCount = entry.getValue().salesCount.sumThenReset();
+            long salesAmount = entry.getValue().salesAmount.sumThenReset();
+            if (salesCount != 0 || salesAmount != 0) {
+                deltas.add(new SalesDelta(key.productId(), key.statDate(), salesCount, salesAmount));
+            }
+        }
+        return deltas;
+    }
+
+    private record Key(Long productId, LocalDate statDate) {
+    }
+
+    private static final class Counters {
+        private final LongAdder salesCount = new LongAdder();
+        private final LongAdder salesAmount = new LongAdder();
+    }
+}
@@ -0,0 +1,157 @@
+package kr.hhplus.be.server.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 크기 제한(LRU) + TTL 기반의 프로세스 내 캐시.
+ * 로딩은 락 밖에서 수행하며, 로딩 도중 같은 키가 무효화되면 로딩 결과를 저장하지 않아 오래된 값이 다시 들어가지 않는다.
+ * 메트릭: cache.gets(result=hit|miss), cache.evictions(cause=explicit|size|expired), cache.size
+ */
+public class LocalCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> store;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter explicitEvictions;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+
+    public LocalCache(String name, int maxSize, Duration ttl, Clock clock, MeterRegistry registry) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.store = new LinkedHashMap<>(16, 0.75f, true);
+
+        this.hits = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit").register(registry);
+        this.misses = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss").register(registry);
+        this.explicitEvictions = evictionCounter(registry, name, "explicit");
+        this.sizeEvictions = evictionCounter(registry, name, "size");
+        this.expiredEvictions = evictionCounter(registry, name, "expired");
+        registry.gauge("cache.size", Tags.of("cache", name), this, cache -> cache.size());
+    }
+
+    private static Counter evictionCounter(MeterRegistry registry, String name, String cause) {
+        return Counter.builder("cache.evictions").tag("cache", name).tag("cause", cause).register(registry);
+    }
+
+    /**
+     * 캐시에 있으면 반환하고, 없으면 loader로 읽어 저장한다. loader가 null을 반환하면 저장하지 않는다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Object token;
+        synchronized (store) {
+            V cached = lookup(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            misses.increment();
+            token = new Object();
+            store.put(key, Entry.loading(token));
+        }
+
+        V loaded = loader.apply(key);
+
+        synchronized (store) {
+            Entry<V> current = store.get(key);
+            boolean stillOwned = current != null && current.token() == token;
+            if (loaded == null || !stillOwned) {
+                if (stillOwned) {
+                    store.remove(key);
+                }
+                return loaded;
+            }
+            store.put(key, Entry.of(loaded, clock.millis() + ttlMillis));
+            evictOverflow();
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시에 있을 때만 반환한다. 없으면 null.
+     */
+    public V getIfPresent(K key) {
+        synchronized (store) {
+            V cached = lookup(key);
+            if (cached != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * 값을 바로 저장한다. 같은 키를 로딩 중인 요청이 있으면 그 로딩 결과는 버려진다.
+     */
+    public void put(K key, V value) {
+        synchronized (store) {
+            store.put(key, Entry.of(value, clock.millis() + ttlMillis));
+            evictOverflow();
+        }
+    }
+
+    public void evict(K key) {
+        synchronized (store) {
+            if (store.remove(key) != null) {
+                explicitEvictions.increment();
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (store) {
+            return store.size();
+        }
+    }
+
+    private V lookup(K key) {
+        Entry<V> entry = store.get(key);
+        if (entry == null || entry.isLoading()) {
+            return null;
+        }
+        if (entry.expiresAt() <= clock.millis()) {
+            store.remove(key);
+            expiredEvictions.increment();
+            return null;
+        }
+        return entry.value();
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, Entry<V>>> it = store.entrySet().iterator();
+        while (store.size() > maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            sizeEvictions.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt, Object token) {
+        static <V> Entry<V> loading(Object token) {
+            return new Entry<>(null, Long.MAX_VALUE, token);
+        }
+
+        static <V> Entry<V> of(V value, long expiresAt) {
+            return new Entry<>(value, expiresAt, null);
+        }
+
+        boolean isLoading() {
+            return token != null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.common.dto;
+
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * 키셋 페이지네이션 커서 인코더.
+ * 마지막 행의 정렬 값들을 이어 붙여 URL-safe Base64 문자열로 감싼다. 클라이언트는 내용을 해석하지 않고 그대로 돌려준다.
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+    private static final Pattern SPLITTER = Pattern.compile(Pattern.quote(DELIMITER));
+
+    private CursorCodec() {
+    }
+
+    public static String encode(String... values) {
+        String raw = String.join(DELIMITER, values);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedSize) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = SPLITTER.split(raw, -1);
+            if (values.length != expectedSize) {
+                throw invalid();
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException(ErrorCode.INVALID_PARAMETER, "유효하지 않은 커서입니다.");
+    }
+}
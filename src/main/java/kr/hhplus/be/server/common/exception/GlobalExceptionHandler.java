@@ -8,6 +8,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -74,6 +75,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ErrorCode.INVALID_TYPE_VALUE.getStatus()).body(response);
     }
 
+    /**
+     * 요청 본문을 읽을 수 없는 경우 처리 (형식이 잘못된 주문 ID 등)
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    protected ResponseEntity<CustomApiResponse<Object>> handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
+        log.error("handleHttpMessageNotReadableException", e);
+        final CustomApiResponse<Object> response = CustomApiResponse.error(
+                ErrorCode.INVALID_TYPE_VALUE.getMessage()
+        );
+        return ResponseEntity.status(ErrorCode.INVALID_TYPE_VALUE.getStatus()).body(response);
+    }
+
     /**
      * 비즈니스 예외 처리
      */
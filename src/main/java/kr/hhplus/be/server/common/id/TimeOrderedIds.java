@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.common.id;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * 시간 순으로 증가하는 UUIDv7(RFC 9562) 식별자 생성기.
+ * 상위 48비트가 밀리초 타임스탬프라 새 키가 항상 클러스터드 인덱스 끝에 붙고,
+ * 같은 밀리초 안에서는 12비트 카운터로 생성 순서를 유지한다.
+ */
+public final class TimeOrderedIds {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static long lastMillis;
+    private static int sequence;
+
+    private TimeOrderedIds() {
+    }
+
+    public static UUID next() {
+        long millis;
+        int seq;
+        synchronized (TimeOrderedIds.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                // 카운터 시작값을 절반 범위 안에서 무작위로 잡아 추측을 어렵게 하되 증가 여유를 남긴다
+                sequence = RANDOM.nextInt(MAX_SEQUENCE / 2);
+            } else if (++sequence > MAX_SEQUENCE) {
+                // 같은 밀리초에 4096개를 넘기거나 시계가 뒤로 가면 다음 밀리초를 빌려 순서를 지킨다
+                lastMillis++;
+                sequence = 0;
+            }
+            millis = lastMillis;
+            seq = sequence;
+        }
+        long msb = (millis << 16) | (0x7L << 12) | seq;
+        long lsb = (RANDOM.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+
+    public static String nextString() {
+        return next().toString();
+    }
+
+    /**
+     * BINARY(16) 컬럼에 담기는 바이트 배열(상위 비트부터). JPA 를 거치지 않고 직접 SQL 로 다룰 때 쓴다.
+     */
+    public static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * UUIDv7에 기록된 생성 시각(epoch millis).
+     */
+    public static long timestampOf(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.common.scheduler;
+
+import kr.hhplus.be.server.application.order.StockHoldReclaimResult;
+import kr.hhplus.be.server.application.order.StockHoldReclaimService;
+import kr.hhplus.be.server.domain.order.OrderPageKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 결제되지 않은 채 재고 보유 시간이 지난 주문을 주기적으로 회수하는 스케줄러입니다.
+ * 페이지마다 별도 트랜잭션으로 처리해 락을 짧게 유지합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.stock-hold.sweeper-enabled", havingValue = "true", matchIfMissing = true)
+public class StockHoldSweeper {
+
+    private final StockHoldReclaimService reclaimService;
+    private final Clock clock;
+
+    @Value("${order.stock-hold.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${order.stock-hold.sweep-interval-ms:60000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        OrderPageKey after = null;
+        int cancelled = 0;
+        while (true) {
+            StockHoldReclaimResult page = reclaimService.reclaimPage(now, after, batchSize);
+            cancelled += page.cancelled();
+            if (page.scanned() < batchSize) {
+                break;
+            }
+            after = page.last();
+        }
+        if (cancelled > 0) {
+            log.info("[재고 회수] 만료된 미결제 주문 {}건 취소", cancelled);
+        }
+    }
+}
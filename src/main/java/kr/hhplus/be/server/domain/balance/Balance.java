@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 public class Balance {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "balance_id")
+    @TableGenerator(name = "balance_id", table = "id_generator", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "balance", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -15,7 +15,9 @@ import java.time.LocalDateTime;
 public class BalanceHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "balance_history_id")
+    @TableGenerator(name = "balance_history_id", table = "id_generator", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "balance_history", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -72,6 +74,17 @@ public class BalanceHistory {
         );
     }
 
+    public static BalanceHistory refund(Long userId, long amount, String reason, String requestId) {
+        return new BalanceHistory(
+                userId,
+                amount,
+                BalanceChangeType.REFUND,
+                reason,
+                LocalDateTime.now(),
+                requestId
+        );
+    }
+
     public boolean isChargeHistory() {
         return this.type == BalanceChangeType.CHARGE;
     }
@@ -1,13 +1,25 @@
 package kr.hhplus.be.server.domain.balance;
 
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface BalanceHistoryRepository {
     void save(BalanceHistory history);
+
+    /**
+     * 여러 이력을 한 번에 저장한다 (JDBC 배치 INSERT).
+     */
+    void saveAll(List<BalanceHistory> histories);
     List<BalanceHistory> findAllByUserId(long userId);
 
     boolean existsByUserIdAndReason(Long userId, String reason);
 
     boolean existsByRequestId(String s);
+
+    /**
+     * 주어진 requestId 중 이미 이력이 있는 것만 돌려준다.
+     */
+    Set<String> findExistingRequestIds(Collection<String> requestIds);
 }
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.domain.balance;
 
+import java.util.Map;
 import java.util.Optional;
 
 public interface BalanceRepository{
@@ -13,6 +14,23 @@ public interface BalanceRepository{
      */
     Optional<Balance> findByUserId(Long userId);
 
+    /**
+     * 사용자별 금액을 잔액에 더한다. 엔티티를 읽지 않고 amount = amount + ? 배치 UPDATE로 처리하며,
+     * 낙관적 락을 쓰는 다른 잔액 변경이 이를 감지하도록 version도 올린다.
+     * @return 맵 순회 순서대로 사용자마다 반영된 행 수 (0이면 잔액 행 없음)
+     */
+    int[] increaseInBatch(Map<Long, Long> amountsByUserId);
+
+    /**
+     * 한 사용자의 잔액에 amount = amount + ? UPDATE 한 번으로 더한다. 반영된 행 수(0 또는 1)를 반환한다.
+     */
+    int increase(Long userId, long amount);
+
+    /**
+     * 잔액이 충분할 때만 amount = amount - ? 로 차감하는 조건부 UPDATE. 반영된 행 수(0 또는 1)를 반환한다.
+     */
+    int decreaseIfEnough(Long userId, long amount);
+
     void flush();
 
     void clear();
@@ -18,7 +18,9 @@ import java.time.LocalDateTime;
 public class CouponIssue {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "coupon_issue_id")
+    @TableGenerator(name = "coupon_issue_id", table = "id_generator", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "coupon_issue", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.domain.coupon;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface CouponIssueRepository {
@@ -11,4 +12,9 @@ public interface CouponIssueRepository {
     long count();
     long countByCouponCode(String code);
 
+    /**
+     * 사용 처리된 발급 쿠폰들을 UPDATE 한 번으로 미사용 상태로 되돌린다.
+     */
+    int markUnusedAll(Collection<Long> issueIds);
+
 }
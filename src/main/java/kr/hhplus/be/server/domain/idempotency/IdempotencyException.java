@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.domain.idempotency;
+
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+
+public class IdempotencyException extends BusinessException {
+    public IdempotencyException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+    public static class InvalidKeyException extends BusinessException {
+        public InvalidKeyException(int maxLength) {
+            super(ErrorCode.INVALID_PARAMETER, "Idempotency-Key 는 1~" + maxLength + "자여야 합니다.");
+        }
+    }
+
+    public static class KeyReusedException extends BusinessException {
+        public KeyReusedException(String key) {
+            super(ErrorCode.IDEMPOTENCY_KEY_REUSED, "다른 요청에 이미 사용된 Idempotency-Key 입니다: " + key);
+        }
+    }
+
+    public static class InProgressException extends BusinessException {
+        public InProgressException(String key) {
+            super(ErrorCode.CONCURRENT_REQUEST, "같은 Idempotency-Key 의 요청이 아직 처리 중입니다: " + key);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package kr.hhplus.be.server.domain.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리된 멱등성 키와 그 응답.
+ * 업무 처리와 같은 트랜잭션에서 먼저 INSERT 되므로, 같은 키의 다른 요청은 유니크 키에서 커밋/롤백을 기다린다.
+ * 트랜잭션 밖에서 처리하는 요청은 응답 없이 먼저 커밋되므로, startedAt 으로 처리 중 표시의 임대 시작 시각을 남긴다.
+ */
+@Entity
+@Table(name = "idempotency_key")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord implements Persistable<String> {
+
+    @Id
+    @Column(name = "key_id")
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IdempotencyScope scope;
+
+    @Column(nullable = false)
+    private String requestHash;
+
+    @Column(columnDefinition = "LONGTEXT")
+    private String responseBody;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 현재 처리 중인 요청이 키를 잡은 시각. 임대가 만료된 키는 다른 요청이 이어받으며 이 값을 새로 쓴다.
+     */
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity;
+
+    public static IdempotencyRecord start(IdempotencyScope scope, String key, String requestHash, LocalDateTime now) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.id = idOf(scope, key);
+        record.scope = scope;
+        record.requestHash = requestHash;
+        record.createdAt = now;
+        record.startedAt = now;
+        record.newEntity = true;
+        return record;
+    }
+
+    public static String idOf(IdempotencyScope scope, String key) {
+        return scope.name() + ":" + key;
+    }
+
+    public void complete(String responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
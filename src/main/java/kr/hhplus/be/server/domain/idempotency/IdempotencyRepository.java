@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.domain.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRepository {
+
+    /**
+     * 즉시 INSERT 한다. 같은 키가 이미 있으면 DataIntegrityViolationException.
+     */
+    void insert(IdempotencyRecord record);
+
+    Optional<IdempotencyRecord> findById(String id);
+
+    /**
+     * 응답 없이 startedAt 이 staleBefore 보다 오래된(임대가 만료된) 키를 now 로 다시 잡는다.
+     * @return 이어받았으면 true. 그 사이 다른 요청이 먼저 잡았거나 응답이 저장됐으면 false
+     */
+    boolean takeOver(String id, LocalDateTime staleBefore, LocalDateTime now);
+
+    /**
+     * startedAt 에 잡은 임대가 아직 자기 것일 때만 응답을 저장한다.
+     * @return 저장했으면 true
+     */
+    boolean complete(String id, LocalDateTime startedAt, String responseBody);
+
+    /**
+     * startedAt 에 잡은 임대가 아직 자기 것이고 응답이 없을 때만 키를 지운다.
+     */
+    void deleteInProgress(String id, LocalDateTime startedAt);
+
+    int deleteCreatedBefore(LocalDateTime cutoff);
+}
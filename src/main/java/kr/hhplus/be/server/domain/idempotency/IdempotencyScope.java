@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.domain.idempotency;
+
+/**
+ * 멱등성 키가 적용되는 요청 종류. 같은 키라도 범위가 다르면 별개로 취급한다.
+ */
+public enum IdempotencyScope {
+    ORDER,
+    PAYMENT,
+    CHECKOUT
+}
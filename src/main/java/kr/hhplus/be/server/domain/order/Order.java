@@ -1,12 +1,17 @@
 package kr.hhplus.be.server.domain.order;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
 import kr.hhplus.be.server.common.vo.Money;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -16,9 +21,21 @@ import java.util.UUID;
 @Table(name = "orders")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Order {
+public class Order implements Persistable<UUID> {
+    /**
+     * UUIDv7. BINARY(16)에 담아 CHAR(36) 문자열보다 PK와 이 키를 품는 보조 인덱스가 작다.
+     */
     @Id
-    private String id;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    /**
+     * id를 직접 할당하므로 save() 시 merge(SELECT 후 INSERT) 대신 persist 되도록 신규 여부를 따로 둔다.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity;
 
     @Column(nullable = false)
     private Long userId;
@@ -37,7 +54,19 @@ public class Order {
 
     private LocalDateTime createdAt;
 
-    public static Order create(Long userId, List<OrderItem> items, Money totalAmount) {
+    /**
+     * 주문에 사용한 쿠폰 발급 ID. 취소 시 쿠폰을 미사용으로 되돌릴 때 쓴다.
+     */
+    private Long couponIssueId;
+
+    public static Order create(Long userId, List<OrderItem> items, Money totalAmount, LocalDateTime createdAt) {
+        return create(userId, items, totalAmount, null, createdAt);
+    }
+
+    /**
+     * @param createdAt 재고 보유 만료 판단의 기준 시각. 회수 쪽과 같은 Clock 으로 만든 값을 넘긴다.
+     */
+    public static Order create(Long userId, List<OrderItem> items, Money totalAmount, Long couponIssueId, LocalDateTime createdAt) {
         if (items == null || items.isEmpty()) {
             throw new OrderException.EmptyItemException();
         }
@@ -46,12 +75,14 @@ public class Order {
         }
 
         Order order = new Order();
-        order.id = UUID.randomUUID().toString();
+        order.id = TimeOrderedIds.next();
         order.userId = userId;
         order.items = items;
         order.totalAmount = totalAmount.value(); // 최종 금액만 세팅
         order.status = OrderStatus.CREATED;
-        order.createdAt = LocalDateTime.now();
+        order.createdAt = createdAt;
+        order.couponIssueId = couponIssueId;
+        order.newEntity = true;
 
         for (OrderItem item : items) {
             item.initOrder(order);
@@ -62,6 +93,38 @@ public class Order {
 
 
 
+    /**
+     * 결제 전 주문이 재고를 잡아 둘 수 있는 만료 시각.
+     */
+    public LocalDateTime stockHoldExpiresAt(Duration holdTtl) {
+        return createdAt.plus(holdTtl);
+    }
+
+    /**
+     * 결제되지 않은 채 재고 보유 시간이 지났는지 확인한다.
+     */
+    public boolean isStockHoldExpired(Duration holdTtl, LocalDateTime now) {
+        return status == OrderStatus.CREATED && !stockHoldExpiresAt(holdTtl).isAfter(now);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    public boolean hasCoupon() {
+        return couponIssueId != null;
+    }
+
+    /**
+     * 미결제 주문과 결제 완료 주문 모두 취소할 수 있다. 결제 완료 주문의 환불은 호출하는 쪽이 처리한다.
+     */
     public void cancel() {
         if (!status.canCancel()) {
             throw new OrderException.InvalidStateException(status, "cancel()");
@@ -2,6 +2,7 @@ package kr.hhplus.be.server.domain.order;
 
 import kr.hhplus.be.server.common.exception.BusinessException;
 import kr.hhplus.be.server.common.exception.ErrorCode;
+import java.util.UUID;
 
 public class OrderException extends BusinessException {
     public OrderException(ErrorCode errorCode) {
@@ -27,8 +28,20 @@ public class OrderException extends BusinessException {
     }
     public static class NotFoundException extends BusinessException {
 
-        public NotFoundException(String orderId) {
+        public NotFoundException(UUID orderId) {
             super(ErrorCode.ORDER_NOT_FOUND, "찾을 수없는 주문 ID: " + orderId);
         }
     }
+
+    public static class IntakeQueueFullException extends BusinessException {
+        public IntakeQueueFullException() {
+            super(ErrorCode.TOO_MANY_REQUESTS, "주문 접수 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    public static class TicketNotFoundException extends BusinessException {
+        public TicketNotFoundException(String ticketId) {
+            super(ErrorCode.ORDER_NOT_FOUND, "찾을 수 없는 주문 접수 티켓: " + ticketId);
+        }
+    }
 }
@@ -2,8 +2,11 @@ package kr.hhplus.be.server.domain.order;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
 @Table(name = "order_history")
@@ -13,11 +16,14 @@ import java.time.LocalDateTime;
 public class OrderHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_history_id")
+    @TableGenerator(name = "order_history_id", table = "id_generator", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "order_history", allocationSize = 50)
     private Long id;
 
-    @Column(name = "order_id", nullable = false)
-    private String orderId; // 또는 @ManyToOne(Order order)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "order_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID orderId; // 또는 @ManyToOne(Order order)
 
     @Column(nullable = false)
     private String status;
@@ -29,14 +35,14 @@ public class OrderHistory {
     private LocalDateTime changedAt;
 
 
-    public OrderHistory(String orderId, String status, String memo) {
+    public OrderHistory(UUID orderId, String status, String memo) {
         this.orderId = orderId;
         this.status = status;
         this.memo = memo;
         this.changedAt = LocalDateTime.now();
     }
 
-    public static OrderHistory create(String orderId, String status, String memo) {
+    public static OrderHistory create(UUID orderId, String status, String memo) {
         return new OrderHistory(orderId, status, memo);
     }
     public boolean isStatusChangeTo(OrderStatus targetStatus) {
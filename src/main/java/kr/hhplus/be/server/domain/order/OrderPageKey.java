@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.domain.order;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * (created_at, id) 순서로 주문을 키셋 페이지네이션할 때 마지막 행의 위치.
+ */
+public record OrderPageKey(
+        UUID orderId,
+        LocalDateTime createdAt
+) {
+}
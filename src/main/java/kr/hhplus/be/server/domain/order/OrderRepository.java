@@ -1,8 +1,11 @@
 package kr.hhplus.be.server.domain.order;
 
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface OrderRepository{
     /**
@@ -15,12 +18,39 @@ public interface OrderRepository{
      * 주문 ID로 주문을 조회한다.
      * 주문 상세 조회, 상태 확인 등에서 사용된다.
      */
-    Optional<Order> findById(String orderId);
+    Optional<Order> findById(UUID orderId);
 
     long count();
 
     Collection<Order> findAll();
 
-    Optional<Order> findByIdForUpdate(String orderId);
+    Optional<Order> findByIdForUpdate(UUID orderId);
+
+    /**
+     * 해당 상태이면서 cutoff 이전에 생성된 주문의 키를 (created_at, id) 순으로 after 다음부터 조회한다.
+     * (status, created_at) 인덱스만 읽으며 락을 잡지 않는다.
+     */
+    List<OrderPageKey> findKeysByStatusCreatedBefore(OrderStatus status, LocalDateTime cutoff, OrderPageKey after, int limit);
+
+    /**
+     * CREATED 상태인 주문만 CONFIRMED로 바꾸는 조건부 UPDATE. 행을 미리 잠그지 않으며, 반영된 행 수(0 또는 1)를 반환한다.
+     */
+    int confirmIfCreated(UUID orderId);
+
+    /**
+     * 사용자의 주문 키를 최신순(created_at DESC, id DESC)으로 before 다음부터 조회한다.
+     * (user_id, created_at, id) 인덱스만 읽으므로 주문이 많은 사용자도 페이지 비용이 일정하다.
+     */
+    List<OrderPageKey> findKeysByUserId(Long userId, OrderPageKey before, int limit);
+
+    /**
+     * 여러 주문을 주문 상품과 함께 한 번에 조회한다. 순서는 보장하지 않는다.
+     */
+    List<Order> findAllWithItems(Collection<UUID> orderIds);
+
+    /**
+     * 여러 주문을 주문 상품과 함께 PESSIMISTIC_WRITE 락을 잡아 조회한다.
+     */
+    List<Order> findAllWithItemsForUpdate(Collection<UUID> orderIds);
 
 }
@@ -6,7 +6,7 @@ public enum OrderStatus {
         @Override public boolean canConfirm() { return true; }
     },
     CONFIRMED {
-        @Override public boolean canCancel() { return false; }
+        @Override public boolean canCancel() { return true; }
         @Override public boolean canConfirm() { return false; }
     },
     CANCELLED {
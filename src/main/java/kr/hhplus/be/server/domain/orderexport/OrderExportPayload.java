@@ -5,11 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.UUID;
 
 @Getter
 @AllArgsConstructor(staticName = "of")
 public class OrderExportPayload {
-    private final String orderId;
+    private final UUID orderId;
     private final Long userId;
     private final List<OrderItemPayload> items;
     private final long totalAmount;
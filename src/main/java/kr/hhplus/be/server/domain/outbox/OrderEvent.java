@@ -3,11 +3,14 @@ package kr.hhplus.be.server.domain.outbox;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.orderexport.OrderExportPayload;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -18,6 +21,7 @@ import java.util.UUID;
 public class OrderEvent {
 
     @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -43,7 +47,7 @@ public class OrderEvent {
     public static OrderEvent paymentCompleted(Order order) {
         OrderExportPayload exportPayload = OrderExportPayload.from(order);
         return new OrderEvent(
-                UUID.randomUUID(),
+                TimeOrderedIds.next(),
                 "ORDER",
                 "PAYMENT_COMPLETED",
                 toJson(exportPayload),
@@ -1,10 +1,14 @@
 package kr.hhplus.be.server.domain.payment;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
 import kr.hhplus.be.server.common.vo.Money;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,13 +17,23 @@ import java.util.UUID;
 @Table(name = "payment")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Payment {
+public class Payment implements Persistable<UUID> {
 
     @Id
-    private String id;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
 
-    @Column(nullable = false)
-    private String orderId;
+    /**
+     * 새로 만든 결제는 조회 없이 바로 INSERT 되도록 신규 여부를 표시한다.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity;
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(nullable = false, columnDefinition = "BINARY(16)")
+    private UUID orderId;
 
     @Column(nullable = false)
     private Long amount;
@@ -34,18 +48,19 @@ public class Payment {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    private Payment(String id, String orderId, Money amount, PaymentStatus status, String method, LocalDateTime createdAt) {
+    private Payment(UUID id, UUID orderId, Money amount, PaymentStatus status, String method, LocalDateTime createdAt) {
         this.id = id;
         this.orderId = orderId;
         this.amount = amount.value();
         this.status = status;
         this.method = method;
         this.createdAt = createdAt;
+        this.newEntity = true;
     }
 
-    public static Payment create(String orderId, Money amount, PaymentStatus status, String method) {
+    public static Payment create(UUID orderId, Money amount, PaymentStatus status, String method) {
         return new Payment(
-                UUID.randomUUID().toString(),
+                TimeOrderedIds.next(),
                 orderId,
                 amount,
                 status,
@@ -54,9 +69,9 @@ public class Payment {
         );
     }
 
-    public static Payment createSuccess(String orderId, Money amount, String method) {
+    public static Payment createSuccess(UUID orderId, Money amount, String method) {
         return new Payment(
-                UUID.randomUUID().toString(),
+                TimeOrderedIds.next(),
                 orderId,
                 amount,
                 PaymentStatus.SUCCESS,
@@ -65,9 +80,9 @@ public class Payment {
         );
     }
 
-    public static Payment createFailure(String orderId, Money amount, String method) {
+    public static Payment createFailure(UUID orderId, Money amount, String method) {
         return new Payment(
-                UUID.randomUUID().toString(),
+                TimeOrderedIds.next(),
                 orderId,
                 amount,
                 PaymentStatus.FAILURE,
@@ -76,8 +91,46 @@ public class Payment {
         );
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     public boolean isSuccess() {
         return this.status == PaymentStatus.SUCCESS;
     }
+
+    /**
+     * 외부 결제 승인 결과를 반영한다. 승인 전(INITIATED, PENDING) 상태에서만 가능하다.
+     */
+    public void markSuccess() {
+        if (!status.canMarkSuccess()) {
+            throw new PaymentException.InvalidStateException(status, "성공 처리할 수 없습니다.");
+        }
+        this.status = PaymentStatus.SUCCESS;
+    }
+
+    public void markFailure() {
+        if (!status.canMarkFailure()) {
+            throw new PaymentException.InvalidStateException(status, "실패 처리할 수 없습니다.");
+        }
+        this.status = PaymentStatus.FAILURE;
+    }
+
+    /**
+     * 주문 취소로 성공한 결제를 취소 처리한다.
+     */
+    public void cancel() {
+        if (!isSuccess()) {
+            throw new PaymentException.InvalidStateException(status, "성공한 결제만 취소할 수 있습니다.");
+        }
+        this.status = PaymentStatus.CANCELLED;
+    }
 }
 
@@ -35,6 +35,21 @@ public class PaymentException extends BusinessException {
         }
     }
 
+    public static class ProcessingFailedException extends BusinessException {
+        public ProcessingFailedException(String method) {
+            super(ErrorCode.PAYMENT_PROCESSING_FAILED, "결제 처리에 실패했습니다: " + method);
+        }
+    }
+
+    /**
+     * 외부 결제 대행사 호출의 동시 처리 한도를 넘었다.
+     */
+    public static class GatewayBusyException extends BusinessException {
+        public GatewayBusyException() {
+            super(ErrorCode.TOO_MANY_REQUESTS, "결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
     public static class ExternalSystemException extends BusinessException {
         public ExternalSystemException(String reason) {
             super(ErrorCode.EXTERNAL_SYSTEM_ERROR, reason);
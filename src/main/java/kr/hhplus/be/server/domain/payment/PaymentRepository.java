@@ -1,6 +1,9 @@
 package kr.hhplus.be.server.domain.payment;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface PaymentRepository {
 
@@ -14,7 +17,12 @@ public interface PaymentRepository {
      * 결제 ID로 결제 정보를 조회한다.
      * 주로 결제 상세 확인이나 이벤트 처리 시 사용된다.
      */
-    Optional<Payment> findById(String id);
+    Optional<Payment> findById(UUID id);
 
-    Optional<Payment> findByOrderId(String id);
+    Optional<Payment> findByOrderId(UUID id);
+
+    /**
+     * 여러 주문의 결제를 한 번에 조회한다.
+     */
+    List<Payment> findAllByOrderIds(Collection<UUID> orderIds);
 }
@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AbstractAggregateRoot;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -14,7 +15,7 @@ import java.time.LocalDateTime;
 @Table(name = "product")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Product {
+public class Product extends AbstractAggregateRoot<Product> {
 
     private static final int MAX_DESCRIPTION_LENGTH = 500;
 
@@ -70,16 +71,21 @@ public class Product {
         }
         this.description = newDescription;
         this.updatedAt = LocalDateTime.now();
+        registerEvent(new ProductChangedEvent(this.id));
     }
 
     public boolean isReleased() {
         return !releaseDate.isAfter(LocalDate.now());
     }
 
-    public void validateOrderable(int totalStock) {
+    public void validateReleased() {
         if (!isReleased()) {
             throw new ProductException.NotReleasedException(this.id);
         }
+    }
+
+    public void validateOrderable(int totalStock) {
+        validateReleased();
         if (totalStock <= 0) {
             throw new ProductException.OutOfStockException(this.id);
         }
@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.domain.product;
+
+/**
+ * 상품 메타데이터가 변경되었음을 알리는 도메인 이벤트.
+ */
+public record ProductChangedEvent(Long productId) {
+}
@@ -2,6 +2,10 @@ package kr.hhplus.be.server.domain.product;
 
 import kr.hhplus.be.server.common.exception.BusinessException;
 import kr.hhplus.be.server.common.exception.ErrorCode;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class ProductException extends BusinessException {
     public ProductException(ErrorCode errorCode) {
@@ -40,4 +44,24 @@ public class ProductException extends BusinessException {
             super(ErrorCode.INSUFFICIENT_STOCK, "재고가 부족한 상품입니다. (상품 ID: " + productId + ")");
         }
     }
+
+    /**
+     * 여러 줄 재고 차감에서 하나 이상의 줄이 실패했다. 실패한 줄을 모두 담는다.
+     */
+    @Getter
+    public static class StockDecreaseFailedException extends BusinessException {
+        private final List<StockDecreaseFailure> failures;
+
+        public StockDecreaseFailedException(List<StockDecreaseFailure> failures) {
+            super(errorCodeOf(failures), "재고 차감에 실패한 상품이 있습니다. " + failures.stream()
+                    .map(f -> "(상품 ID: " + f.productId() + ", 사이즈: " + f.size() + ", 요청: " + f.requested() + ", 사유: " + f.reason() + ")")
+                    .collect(Collectors.joining(", ")));
+            this.failures = List.copyOf(failures);
+        }
+
+        private static ErrorCode errorCodeOf(List<StockDecreaseFailure> failures) {
+            boolean notFound = failures.stream().anyMatch(f -> f.reason() == StockDecreaseFailure.Reason.NOT_FOUND);
+            return notFound ? ErrorCode.ENTITY_NOT_FOUND : ErrorCode.INSUFFICIENT_STOCK;
+        }
+    }
 }
@@ -4,12 +4,24 @@ package kr.hhplus.be.server.domain.product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository{
     Page<Product> findAll(Pageable pageable);
 
+    /**
+     * 키셋 페이지네이션 조회. lastId가 null이면 첫 페이지를 조회한다.
+     */
+    List<Product> findAllByKeyset(ProductSortKey sortKey, boolean descending, Object lastValue, Long lastId, int limit);
+
     Product save(Product domain);
     Optional<Product> findById(Long aLong);
 
+    /**
+     * 여러 상품을 한 번에 조회한다. 존재하지 않는 ID는 결과에서 빠지며 순서는 보장하지 않는다.
+     */
+    List<Product> findAllById(Collection<Long> ids);
+
 }
@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.domain.product;
+
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * 상품 목록 키셋 페이지네이션에서 허용하는 정렬 키.
+ * 정렬 값이 같은 행은 id로 순서를 고정한다.
+ */
+public enum ProductSortKey {
+
+    PRICE("price", Product::getPrice, Long::valueOf),
+    CREATED_AT("createdAt", Product::getCreatedAt, LocalDateTime::parse),
+    ID("id", Product::getId, Long::valueOf);
+
+    private final String property;
+    private final Function<Product, Object> extractor;
+    private final Function<String, Object> parser;
+
+    ProductSortKey(String property, Function<Product, Object> extractor, Function<String, Object> parser) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    /**
+     * 정렬 필드명(price, createdAt, created_at, id)으로 정렬 키를 찾는다. 비어 있으면 ID.
+     */
+    public static ProductSortKey from(String field) {
+        if (field == null || field.isBlank()) {
+            return ID;
+        }
+        String normalized = field.replace("_", "");
+        return Arrays.stream(values())
+                .filter(key -> key.property.equalsIgnoreCase(normalized))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_PARAMETER, "지원하지 않는 정렬 기준입니다: " + field));
+    }
+
+    public boolean isId() {
+        return this == ID;
+    }
+
+    public String format(Product product) {
+        return String.valueOf(extractor.apply(product));
+    }
+
+    public Object parse(String value) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER, "유효하지 않은 커서 값입니다.");
+        }
+    }
+}
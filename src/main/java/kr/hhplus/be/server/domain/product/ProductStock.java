@@ -4,14 +4,17 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AbstractAggregateRoot;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Table(name = "product_stock")
-public class ProductStock {
+public class ProductStock extends AbstractAggregateRoot<ProductStock> {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,6 +26,11 @@ public class ProductStock {
 
     private int stockQuantity;
 
+    /**
+     * 0이면 이 행이 재고를 모두 가진다. 1 이상이면 재고는 product_stock_shard의 샤드들에 나뉘어 있다.
+     */
+    private int shardCount;
+
     private LocalDateTime updatedAt;
 
     public ProductStock(Long productId, int size, int stockQuantity) {
@@ -40,6 +48,7 @@ public class ProductStock {
     public void increaseStock(int quantity) {
         this.stockQuantity += quantity;
         this.updatedAt = LocalDateTime.now();
+        registerEvent(new ProductStockChangedEvent(productId, size));
     }
 
     public void decreaseStock(int quantity) {
@@ -48,6 +57,32 @@ public class ProductStock {
         }
         this.stockQuantity -= quantity;
         this.updatedAt = LocalDateTime.now();
+        registerEvent(new ProductStockChangedEvent(productId, size));
+    }
+
+    public boolean isSharded() {
+        return shardCount > 0;
+    }
+
+    /**
+     * 현재 총 재고(total)를 shardCount개의 샤드로 고르게 나눈다. shardCount가 1 이하이면 샤딩을 해제하고 이 행으로 되돌린다.
+     * @return 새로 저장할 샤드 목록
+     */
+    public List<ProductStockShard> redistribute(int total, int shardCount) {
+        this.updatedAt = LocalDateTime.now();
+        if (shardCount <= 1) {
+            this.shardCount = 0;
+            this.stockQuantity = total;
+            return List.of();
+        }
+        this.shardCount = shardCount;
+        this.stockQuantity = 0;
+        List<ProductStockShard> shards = new ArrayList<>(shardCount);
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            int quantity = total / shardCount + (shardNo < total % shardCount ? 1 : 0);
+            shards.add(ProductStockShard.of(productId, size, shardNo, quantity));
+        }
+        return shards;
     }
 
     public boolean isAvailable(int quantity) {
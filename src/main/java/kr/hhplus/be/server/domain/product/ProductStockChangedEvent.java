@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.domain.product;
+
+/**
+ * 사이즈별 재고 수량이 변경되었음을 알리는 도메인 이벤트.
+ */
+public record ProductStockChangedEvent(Long productId, int size) {
+}
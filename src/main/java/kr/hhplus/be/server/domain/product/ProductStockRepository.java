@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.domain.product;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,5 +12,42 @@ public interface ProductStockRepository {
 
     Optional<ProductStock> findByProductIdAndSizeForUpdate(Long productId, int size);
 
+    /**
+     * 여러 재고 행을 (product_id, size) 순서로 한 번에 PESSIMISTIC_WRITE 락을 잡아 조회한다.
+     * 모든 트랜잭션이 같은 순서로 락을 잡으므로 장바구니 순서가 달라도 교착 상태가 생기지 않는다.
+     */
+    List<ProductStock> findAllForUpdate(List<StockQuantityDelta> lines);
+
+    boolean existsByProductIdAndSize(Long productId, int size);
+
+    /**
+     * 재고가 충분할 때만 단일 UPDATE로 차감한다. 락을 잡고 엔티티를 읽지 않는다.
+     * @return 차감된 행 수 (0이면 재고 부족 또는 재고 없음)
+     */
+    int decreaseIfEnough(Long productId, int size, int quantity);
+
+    /**
+     * 여러 줄의 조건부 UPDATE를 전달받은 순서대로 하나의 배치로 실행한다.
+     * 재고 예약 엔진의 쓰기 지연 반영도 메모리 밖에서 재고가 줄었을 수 있으므로 이 메서드를 쓴다.
+     * @return 줄마다 차감된 행 수 (0이면 재고 부족 또는 재고 없음)
+     */
+    int[] decreaseIfEnoughInBatch(List<StockQuantityDelta> lines);
+
+    /**
+     * 취소된 주문의 수량을 배치 UPDATE 한 번으로 재고에 되돌린다.
+     */
+    void increaseInBatch(List<StockQuantityDelta> deltas);
+
+    /**
+     * id 순으로 afterId 다음 재고 행을 limit 건 조회한다. 전체 재고를 나눠 읽을 때 사용.
+     */
+    List<ProductStock> findAllAfter(Long afterId, int limit);
+
     Optional<ProductStock> findByProductId(Long id);
+
+    /**
+     * 여러 상품의 총 재고를 한 번의 GROUP BY 쿼리로 조회한다.
+     * 상품 목록 조회 시 상품마다 재고를 조회하는 N+1 문제를 방지하기 위해 사용.
+     */
+    List<ProductStockSummary> findStockSummariesByProductIds(Collection<Long> productIds);
 }
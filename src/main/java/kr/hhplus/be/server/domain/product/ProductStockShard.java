@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.domain.product;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한정 발매 SKU의 재고를 여러 행으로 나눈 샤드. 주문마다 다른 샤드를 차감해 단일 행 락 경합을 분산한다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "product_stock_shard")
+public class ProductStockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long productId;
+
+    private int size;
+
+    private int shardNo;
+
+    private int stockQuantity;
+
+    private LocalDateTime updatedAt;
+
+    private ProductStockShard(Long productId, int size, int shardNo, int stockQuantity) {
+        this.productId = productId;
+        this.size = size;
+        this.shardNo = shardNo;
+        this.stockQuantity = stockQuantity;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static ProductStockShard of(Long productId, int size, int shardNo, int stockQuantity) {
+        return new ProductStockShard(productId, size, shardNo, stockQuantity);
+    }
+
+    /**
+     * 이 샤드에서 최대 quantity만큼 차감하고 실제로 차감한 수량을 반환한다.
+     */
+    public int take(int quantity) {
+        int taken = Math.min(stockQuantity, quantity);
+        this.stockQuantity -= taken;
+        this.updatedAt = LocalDateTime.now();
+        return taken;
+    }
+}
@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.domain.product;
+
+import java.util.List;
+
+public interface ProductStockShardRepository {
+
+    /**
+     * 락 없이 샤드 수량을 읽는다. 차감할 샤드를 고르는 힌트로만 사용한다.
+     * 영속성 컨텍스트에 남지 않으므로 이후 잠금 조회는 항상 최신 수량을 읽는다.
+     */
+    List<ProductStockShard> findAll(Long productId, int size);
+
+    /**
+     * 모든 샤드를 shard_no 순서로 PESSIMISTIC_WRITE 락을 잡아 조회한다.
+     */
+    List<ProductStockShard> findAllForUpdate(Long productId, int size);
+
+    /**
+     * shard_no 가 fromShardNo 이상인 샤드만 shard_no 순서로 PESSIMISTIC_WRITE 락을 잡아 조회한다.
+     */
+    List<ProductStockShard> findAllForUpdateFrom(Long productId, int size, int fromShardNo);
+
+    /**
+     * shard_no 가 beforeShardNo 미만인 샤드 중 다른 트랜잭션이 잠그지 않은 것만 잠가 조회한다 (FOR UPDATE SKIP LOCKED).
+     * 잠긴 샤드를 기다리지 않으므로 더 높은 번호의 샤드 락을 쥔 채 호출해도 교착되지 않는다.
+     */
+    List<ProductStockShard> findAllForUpdateBeforeSkipLocked(Long productId, int size, int beforeShardNo);
+
+    /**
+     * 샤드 하나의 재고가 충분할 때만 단일 UPDATE로 차감한다.
+     * @return 차감된 행 수 (0이면 재고 부족 또는 샤드 없음)
+     */
+    int decreaseIfEnough(Long productId, int size, int shardNo, int quantity);
+
+    /**
+     * 샤드 하나에 수량을 더한다. 취소된 주문의 재고를 되돌릴 때 사용한다.
+     */
+    int increase(Long productId, int size, int shardNo, int quantity);
+
+    int sumQuantity(Long productId, int size);
+
+    void deleteAll(List<ProductStockShard> shards);
+
+    List<ProductStockShard> saveAll(List<ProductStockShard> shards);
+}
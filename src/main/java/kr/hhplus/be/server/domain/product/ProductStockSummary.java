@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.domain.product;
+
+/**
+ * 상품 단위로 합산된 재고 요약 (사이즈별 재고의 합)
+ */
+public record ProductStockSummary(
+        Long productId,
+        Long totalStock
+) {
+    public int totalStockAsInt() {
+        return totalStock == null ? 0 : Math.toIntExact(totalStock);
+    }
+}
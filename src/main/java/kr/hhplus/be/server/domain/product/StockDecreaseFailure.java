@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.domain.product;
+
+/**
+ * 여러 줄을 한 번에 차감할 때 실패한 주문 줄과 그 사유.
+ */
+public record StockDecreaseFailure(
+        Long productId,
+        int size,
+        int requested,
+        Reason reason
+) {
+    public enum Reason {
+        NOT_FOUND,
+        INSUFFICIENT
+    }
+
+    public static StockDecreaseFailure notFound(Long productId, int size, int requested) {
+        return new StockDecreaseFailure(productId, size, requested, Reason.NOT_FOUND);
+    }
+
+    public static StockDecreaseFailure insufficient(Long productId, int size, int requested) {
+        return new StockDecreaseFailure(productId, size, requested, Reason.INSUFFICIENT);
+    }
+}
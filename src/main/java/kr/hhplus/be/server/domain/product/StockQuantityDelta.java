@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.domain.product;
+
+/**
+ * (상품, 사이즈) 재고 행에 반영할 수량 변화분.
+ */
+public record StockQuantityDelta(
+        Long productId,
+        int size,
+        int quantity
+) {
+}
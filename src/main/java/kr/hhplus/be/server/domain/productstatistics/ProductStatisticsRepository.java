@@ -26,12 +26,24 @@ public interface ProductStatisticsRepository {
      */
     List<ProductStatistics> saveAll(List<ProductStatistics> stats);
 
+    /**
+     * 판매 증분을 (product_id, stat_date) 행에 원자적으로 더한다. 행이 없으면 새로 만든다.
+     * 쓰기 지연 집계기가 모아 둔 증분을 한 번의 배치로 반영할 때 사용.
+     */
+    void upsertSales(List<SalesDelta> deltas);
+
     /**
      * 지정된 기간 내 판매량 상위 상품들을 조회한다.
      * 판매량 기반 인기 상품 목록 조회 기능에서 사용.
      */
     List<ProductSalesInfo> findTopSellingProducts(LocalDate from, LocalDate to, int limit);
 
+    /**
+     * 지정된 기간의 일별 통계를 모두 조회한다.
+     * 인기 상품 리더보드를 재구성할 때 사용.
+     */
+    List<ProductStatistics> findAllByStatDateBetween(LocalDate from, LocalDate to);
+
     /**
      * 복합 키 (productId + statDate)를 통해 통계를 조회한다.
      * 상황에 따라 직접 ID로 조회가 필요한 경우에 사용.
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.domain.productstatistics;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 상품 통계에 더할 판매량/판매금액 증분.
+ */
+public record SalesDelta(
+        Long productId,
+        LocalDate statDate,
+        long salesCount,
+        long salesAmount
+) {
+}
@@ -2,7 +2,10 @@ package kr.hhplus.be.server.infrastructure.balance;
 
 import kr.hhplus.be.server.domain.balance.BalanceHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BalanceHistoryJpaRepository extends JpaRepository<BalanceHistory, Long> {
@@ -11,4 +14,7 @@ public interface BalanceHistoryJpaRepository extends JpaRepository<BalanceHistor
     boolean existsByUserIdAndReason(Long userId, String reason);
 
     boolean existsByRequestId(String s);
+
+    @Query("SELECT h.requestId FROM BalanceHistory h WHERE h.requestId IN :requestIds")
+    List<String> findRequestIdsIn(@Param("requestIds") Collection<String> requestIds);
 }
@@ -5,7 +5,10 @@ import kr.hhplus.be.server.domain.balance.BalanceHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
@@ -18,6 +21,11 @@ public class BalanceHistoryRepositoryImpl implements BalanceHistoryRepository {
         balanceHistoryJpaRepository.save(history);
     }
 
+    @Override
+    public void saveAll(List<BalanceHistory> histories) {
+        balanceHistoryJpaRepository.saveAll(histories);
+    }
+
     @Override
     public List<BalanceHistory> findAllByUserId(long userId) {
         return balanceHistoryJpaRepository.findAllByUserId(userId);
@@ -33,5 +41,13 @@ public class BalanceHistoryRepositoryImpl implements BalanceHistoryRepository {
         return balanceHistoryJpaRepository.existsByRequestId(s);
     }
 
+    @Override
+    public Set<String> findExistingRequestIds(Collection<String> requestIds) {
+        if (requestIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(balanceHistoryJpaRepository.findRequestIdsIn(requestIds));
+    }
+
 
 }
@@ -4,15 +4,26 @@ import jakarta.persistence.EntityManager;
 import kr.hhplus.be.server.domain.balance.Balance;
 import kr.hhplus.be.server.domain.balance.BalanceRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class BalanceRepositoryImpl implements BalanceRepository {
 
+    private static final String INCREASE_SQL =
+            "UPDATE balance SET amount = amount + ?, updated_at = ?, version = version + 1 WHERE user_id = ?";
+    private static final String DECREASE_IF_ENOUGH_SQL =
+            "UPDATE balance SET amount = amount - ?, updated_at = ?, version = version + 1 WHERE user_id = ? AND amount >= ?";
+
     private final BalanceJpaRepository jpaRepository;
     private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Balance save(Balance balance) {
@@ -24,6 +35,28 @@ public class BalanceRepositoryImpl implements BalanceRepository {
         return jpaRepository.findByUserId(userId);
     }
 
+    @Override
+    public int decreaseIfEnough(Long userId, long amount) {
+        return jdbcTemplate.update(DECREASE_IF_ENOUGH_SQL, amount, LocalDateTime.now(), userId, amount);
+    }
+
+    @Override
+    public int increase(Long userId, long amount) {
+        return jdbcTemplate.update(INCREASE_SQL, amount, LocalDateTime.now(), userId);
+    }
+
+    @Override
+    public int[] increaseInBatch(Map<Long, Long> amountsByUserId) {
+        if (amountsByUserId.isEmpty()) {
+            return new int[0];
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = amountsByUserId.entrySet().stream()
+                .map(row -> new Object[]{row.getValue(), now, row.getKey()})
+                .toList();
+        return jdbcTemplate.batchUpdate(INCREASE_SQL, args);
+    }
+
     public void flush() {
         entityManager.flush();
     }
@@ -2,9 +2,11 @@ package kr.hhplus.be.server.infrastructure.coupon;
 
 import kr.hhplus.be.server.domain.coupon.CouponIssue;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface CouponIssueJpaRepository extends JpaRepository<CouponIssue, Long> {
@@ -13,4 +15,8 @@ public interface CouponIssueJpaRepository extends JpaRepository<CouponIssue, Lon
 
     @Query("SELECT COUNT(ci) FROM CouponIssue ci WHERE ci.coupon.code = :code")
     long countByCouponCode(@Param("code") String code);
+
+    @Modifying
+    @Query("UPDATE CouponIssue ci SET ci.isUsed = false WHERE ci.id IN :ids AND ci.isUsed = true")
+    int markUnusedAll(@Param("ids") Collection<Long> ids);
 }
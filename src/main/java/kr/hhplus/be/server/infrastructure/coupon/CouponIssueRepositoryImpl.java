@@ -5,6 +5,7 @@ import kr.hhplus.be.server.domain.coupon.CouponIssueRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
@@ -37,4 +38,12 @@ public class CouponIssueRepositoryImpl implements CouponIssueRepository {
     public long countByCouponCode(String code) {
         return jpaRepository.countByCouponCode(code);
     }
+
+    @Override
+    public int markUnusedAll(Collection<Long> issueIds) {
+        if (issueIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.markUnusedAll(issueIds);
+    }
 }
@@ -0,0 +1,47 @@
+package kr.hhplus.be.server.infrastructure.external;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 로컬/테스트용 결제 대행사. 설정한 지연 시간만큼 응답을 늦춰 느린 대행사를 흉내 내고, 0원 이하 결제는 거절한다.
+ */
+@Slf4j
+@Component
+public class FakePaymentGatewayClient implements PaymentGatewayClient {
+
+    private final Duration latency;
+
+    public FakePaymentGatewayClient(@Value("${payment.gateway.fake-latency:PT0.2S}") Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public PaymentGatewayResponse approve(PaymentGatewayRequest request) {
+        delay();
+        if (request.amount() <= 0) {
+            return PaymentGatewayResponse.decline("유효하지 않은 결제 금액");
+        }
+        log.info("[FAKE] 결제 대행사 승인: {}", request);
+        return PaymentGatewayResponse.approve();
+    }
+
+    @Override
+    public void cancel(UUID paymentId) {
+        delay();
+        log.info("[FAKE] 결제 대행사 승인 취소: paymentId={}", paymentId);
+    }
+
+    private void delay() {
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("결제 대행사 응답 대기 중 중단되었습니다.", e);
+        }
+    }
+}
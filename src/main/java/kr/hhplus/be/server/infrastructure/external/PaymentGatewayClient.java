@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.infrastructure.external;
+
+import java.util.UUID;
+
+/**
+ * 외부 결제 대행사(카드) 연동.
+ * 호출은 블로킹이며 응답이 늦어질 수 있으므로 호출하는 쪽에서 실행 스레드와 대기 시간을 제한한다.
+ */
+public interface PaymentGatewayClient {
+
+    PaymentGatewayResponse approve(PaymentGatewayRequest request);
+
+    void cancel(UUID paymentId);
+}
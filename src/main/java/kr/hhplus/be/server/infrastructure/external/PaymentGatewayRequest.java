@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.infrastructure.external;
+
+import java.util.UUID;
+
+/**
+ * @param paymentId 대행사에 넘기는 가맹점 거래 ID. 승인 취소도 이 값으로 요청한다.
+ */
+public record PaymentGatewayRequest(
+        UUID paymentId,
+        UUID orderId,
+        Long userId,
+        long amount
+) {
+}
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.infrastructure.external;
+
+public record PaymentGatewayResponse(
+        boolean approved,
+        String reason
+) {
+    public static PaymentGatewayResponse approve() {
+        return new PaymentGatewayResponse(true, null);
+    }
+
+    public static PaymentGatewayResponse decline(String reason) {
+        return new PaymentGatewayResponse(false, reason);
+    }
+}
@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.infrastructure.idempotency;
+
+import kr.hhplus.be.server.domain.idempotency.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyJpaRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("""
+        UPDATE IdempotencyRecord r SET r.startedAt = :now
+        WHERE r.id = :id AND r.responseBody IS NULL AND r.startedAt < :staleBefore
+        """)
+    int takeOver(@Param("id") String id, @Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.responseBody = :body WHERE r.id = :id AND r.startedAt = :startedAt")
+    int complete(@Param("id") String id, @Param("startedAt") LocalDateTime startedAt, @Param("body") String body);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.responseBody IS NULL AND r.startedAt = :startedAt")
+    int deleteInProgress(@Param("id") String id, @Param("startedAt") LocalDateTime startedAt);
+}
@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.infrastructure.idempotency;
+
+import kr.hhplus.be.server.domain.idempotency.IdempotencyRecord;
+import kr.hhplus.be.server.domain.idempotency.IdempotencyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepositoryImpl implements IdempotencyRepository {
+
+    private final IdempotencyJpaRepository jpaRepository;
+
+    @Override
+    public void insert(IdempotencyRecord record) {
+        jpaRepository.saveAndFlush(record);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findById(String id) {
+        return jpaRepository.findById(id);
+    }
+
+    @Override
+    @Transactional
+    public boolean takeOver(String id, LocalDateTime staleBefore, LocalDateTime now) {
+        return jpaRepository.takeOver(id, staleBefore, now) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean complete(String id, LocalDateTime startedAt, String responseBody) {
+        return jpaRepository.complete(id, startedAt, responseBody) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void deleteInProgress(String id, LocalDateTime startedAt) {
+        jpaRepository.deleteInProgress(id, startedAt);
+    }
+
+    @Override
+    @Transactional
+    public int deleteCreatedBefore(LocalDateTime cutoff) {
+        return jpaRepository.deleteByCreatedAtBefore(cutoff);
+    }
+}
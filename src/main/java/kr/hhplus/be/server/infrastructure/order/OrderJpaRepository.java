@@ -2,16 +2,82 @@ package kr.hhplus.be.server.infrastructure.order;
 
 import jakarta.persistence.LockModeType;
 import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderPageKey;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
-public interface OrderJpaRepository extends JpaRepository<Order, String> {
+public interface OrderJpaRepository extends JpaRepository<Order, UUID> {
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT o FROM Order o WHERE o.id = :id")
-    Optional<Order> findByIdForUpdate(@Param("id") String id);
+    Optional<Order> findByIdForUpdate(@Param("id") UUID id);
+
+    @Query("""
+        SELECT new kr.hhplus.be.server.domain.order.OrderPageKey(o.id, o.createdAt)
+        FROM Order o
+        WHERE o.status = :status AND o.createdAt < :cutoff
+        ORDER BY o.createdAt, o.id
+        """)
+    List<OrderPageKey> findKeysByStatusCreatedBefore(@Param("status") OrderStatus status,
+                                                     @Param("cutoff") LocalDateTime cutoff,
+                                                     Pageable pageable);
+
+    @Query("""
+        SELECT new kr.hhplus.be.server.domain.order.OrderPageKey(o.id, o.createdAt)
+        FROM Order o
+        WHERE o.status = :status AND o.createdAt < :cutoff
+          AND o.createdAt >= :afterCreatedAt
+          AND (o.createdAt > :afterCreatedAt OR o.id > :afterId)
+        ORDER BY o.createdAt, o.id
+        """)
+    List<OrderPageKey> findKeysByStatusCreatedBeforeAfter(@Param("status") OrderStatus status,
+                                                          @Param("cutoff") LocalDateTime cutoff,
+                                                          @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                          @Param("afterId") UUID afterId,
+                                                          Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :next WHERE o.id = :id AND o.status = :expected")
+    int updateStatusIf(@Param("id") UUID id,
+                       @Param("expected") OrderStatus expected,
+                       @Param("next") OrderStatus next);
+
+    @Query("""
+        SELECT new kr.hhplus.be.server.domain.order.OrderPageKey(o.id, o.createdAt)
+        FROM Order o
+        WHERE o.userId = :userId
+        ORDER BY o.createdAt DESC, o.id DESC
+        """)
+    List<OrderPageKey> findKeysByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+        SELECT new kr.hhplus.be.server.domain.order.OrderPageKey(o.id, o.createdAt)
+        FROM Order o
+        WHERE o.userId = :userId
+          AND o.createdAt <= :beforeCreatedAt
+          AND (o.createdAt < :beforeCreatedAt OR o.id < :beforeId)
+        ORDER BY o.createdAt DESC, o.id DESC
+        """)
+    List<OrderPageKey> findKeysByUserIdBefore(@Param("userId") Long userId,
+                                              @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                              @Param("beforeId") UUID beforeId,
+                                              Pageable pageable);
+
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id IN :ids")
+    List<Order> findAllWithItems(@Param("ids") Collection<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id IN :ids")
+    List<Order> findAllWithItemsForUpdate(@Param("ids") Collection<UUID> ids);
 }
@@ -1,12 +1,18 @@
 package kr.hhplus.be.server.infrastructure.order;
 
 import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderPageKey;
 import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
@@ -20,7 +26,7 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    public Optional<Order> findById(String orderId) {
+    public Optional<Order> findById(UUID orderId) {
         return jpaRepository.findById(orderId);
     }
 
@@ -35,7 +41,46 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    public Optional<Order> findByIdForUpdate(String orderId) {
+    public Optional<Order> findByIdForUpdate(UUID orderId) {
         return jpaRepository.findByIdForUpdate(orderId);
     }
+
+    @Override
+    public List<OrderPageKey> findKeysByStatusCreatedBefore(OrderStatus status, LocalDateTime cutoff, OrderPageKey after, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (after == null) {
+            return jpaRepository.findKeysByStatusCreatedBefore(status, cutoff, page);
+        }
+        return jpaRepository.findKeysByStatusCreatedBeforeAfter(status, cutoff, after.createdAt(), after.orderId(), page);
+    }
+
+    @Override
+    public int confirmIfCreated(UUID orderId) {
+        return jpaRepository.updateStatusIf(orderId, OrderStatus.CREATED, OrderStatus.CONFIRMED);
+    }
+
+    @Override
+    public List<OrderPageKey> findKeysByUserId(Long userId, OrderPageKey before, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (before == null) {
+            return jpaRepository.findKeysByUserId(userId, page);
+        }
+        return jpaRepository.findKeysByUserIdBefore(userId, before.createdAt(), before.orderId(), page);
+    }
+
+    @Override
+    public List<Order> findAllWithItems(Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllWithItems(orderIds);
+    }
+
+    @Override
+    public List<Order> findAllWithItemsForUpdate(Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllWithItemsForUpdate(orderIds);
+    }
 }
@@ -3,9 +3,14 @@ package kr.hhplus.be.server.infrastructure.payment;
 import kr.hhplus.be.server.domain.payment.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
-public interface PaymentJpaRepository extends JpaRepository<Payment, String> {
-    Optional<Payment> findByOrderId(String orderId);
+public interface PaymentJpaRepository extends JpaRepository<Payment, UUID> {
+    Optional<Payment> findByOrderId(UUID orderId);
+
+    List<Payment> findAllByOrderIdIn(Collection<UUID> orderIds);
 
 }
@@ -5,7 +5,10 @@ import kr.hhplus.be.server.domain.payment.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
@@ -19,12 +22,20 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     }
 
     @Override
-    public Optional<Payment> findById(String id) {
+    public Optional<Payment> findById(UUID id) {
         return jpaRepository.findById(id);
     }
 
     @Override
-    public Optional<Payment> findByOrderId(String orderId) {
+    public Optional<Payment> findByOrderId(UUID orderId) {
         return jpaRepository.findByOrderId(orderId);
     }
+
+    @Override
+    public List<Payment> findAllByOrderIds(Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByOrderIdIn(orderIds);
+    }
 }
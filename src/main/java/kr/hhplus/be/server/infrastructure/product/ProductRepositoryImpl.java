@@ -1,12 +1,17 @@
 package kr.hhplus.be.server.infrastructure.product;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductSortKey;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,12 +19,49 @@ import java.util.Optional;
 public class ProductRepositoryImpl implements ProductRepository {
 
     private final ProductJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Page<Product> findAll(Pageable pageable) {
         return jpaRepository.findAll(pageable);
     }
 
+    /**
+     * (정렬 키, id) 복합 인덱스를 따라 마지막 행 이후만 읽는다. OFFSET이 없으므로 깊은 페이지도 비용이 일정하다.
+     * 정렬 키 <= :lastValue 조건을 함께 두어 옵티마이저가 인덱스 범위 스캔을 선택하도록 한다.
+     */
+    @Override
+    public List<Product> findAllByKeyset(ProductSortKey sortKey, boolean descending, Object lastValue, Long lastId, int limit) {
+        String property = "p." + sortKey.property();
+        String op = descending ? "<" : ">";
+        String direction = descending ? " DESC" : " ASC";
+
+        StringBuilder jpql = new StringBuilder("SELECT p FROM Product p");
+        if (lastId != null) {
+            if (sortKey.isId()) {
+                jpql.append(" WHERE p.id ").append(op).append(" :lastId");
+            } else {
+                jpql.append(" WHERE ").append(property).append(' ').append(op).append("= :lastValue")
+                        .append(" AND (").append(property).append(' ').append(op).append(" :lastValue")
+                        .append(" OR p.id ").append(op).append(" :lastId)");
+            }
+        }
+        jpql.append(" ORDER BY ").append(property).append(direction);
+        if (!sortKey.isId()) {
+            jpql.append(", p.id").append(direction);
+        }
+
+        TypedQuery<Product> query = entityManager.createQuery(jpql.toString(), Product.class)
+                .setMaxResults(limit);
+        if (lastId != null) {
+            query.setParameter("lastId", lastId);
+            if (!sortKey.isId()) {
+                query.setParameter("lastValue", lastValue);
+            }
+        }
+        return query.getResultList();
+    }
+
     @Override
     public Product save(Product domain) {
         return jpaRepository.save(domain);
@@ -29,4 +71,9 @@ public class ProductRepositoryImpl implements ProductRepository {
     public Optional<Product> findById(Long id) {
         return jpaRepository.findById(id);
     }
+
+    @Override
+    public List<Product> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids);
+    }
 }
@@ -4,7 +4,10 @@ import kr.hhplus.be.server.application.productstatistics.ProductSalesInfo;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatistics;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsId;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsRepository;
+import kr.hhplus.be.server.domain.productstatistics.SalesDelta;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -15,7 +18,14 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ProductStatisticRepositoryImpl implements ProductStatisticsRepository {
 
+    private static final String UPSERT_SALES_SQL = """
+            INSERT INTO product_statistics (product_id, stat_date, sales_count, sales_amount)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE sales_count = sales_count + ?, sales_amount = sales_amount + ?
+            """;
+
     private final ProductStatisticsJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Optional<ProductStatistics> findByProductIdAndStatDate(Long productId, LocalDate statDate) {
@@ -32,18 +42,26 @@ public class ProductStatisticRepositoryImpl implements ProductStatisticsReposito
         return jpaRepository.saveAll(stats);
     }
 
+    @Override
+    public void upsertSales(List<SalesDelta> deltas) {
+        jdbcTemplate.batchUpdate(UPSERT_SALES_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.productId());
+            ps.setObject(2, delta.statDate());
+            ps.setLong(3, delta.salesCount());
+            ps.setLong(4, delta.salesAmount());
+            ps.setLong(5, delta.salesCount());
+            ps.setLong(6, delta.salesAmount());
+        });
+    }
+
     @Override
     public List<ProductSalesInfo> findTopSellingProducts(LocalDate from, LocalDate to, int limit) {
-        return jpaRepository.findByStatDateBetween(from, to).stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        ProductStatistics::getProductId,
-                        java.util.stream.Collectors.summingInt(ProductStatistics::getSalesCount)
-                ))
-                .entrySet().stream()
-                .map(entry -> new ProductSalesInfo(entry.getKey(), (long) entry.getValue()))
-                .sorted(java.util.Comparator.comparing(ProductSalesInfo::salesCount).reversed())
-                .limit(limit)
-                .toList();
+        return jpaRepository.findTopSellingProducts(from, to, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<ProductStatistics> findAllByStatDateBetween(LocalDate from, LocalDate to) {
+        return jpaRepository.findByStatDateBetween(from, to);
     }
 
     @Override
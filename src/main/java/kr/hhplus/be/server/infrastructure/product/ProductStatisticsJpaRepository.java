@@ -1,7 +1,9 @@
 package kr.hhplus.be.server.infrastructure.product;
 
+import kr.hhplus.be.server.application.productstatistics.ProductSalesInfo;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatistics;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,4 +24,21 @@ public interface ProductStatisticsJpaRepository extends JpaRepository<ProductSta
             @Param("from") LocalDate from,
             @Param("to") LocalDate to
     );
+
+    /**
+     * 기간 내 상품별 판매량 합계를 DB에서 집계해 상위 N개만 반환한다.
+     * (stat_date, product_id, sales_count) 커버링 인덱스로 테이블 접근 없이 처리된다.
+     */
+    @Query("""
+        SELECT new kr.hhplus.be.server.application.productstatistics.ProductSalesInfo(ps.id.productId, SUM(ps.salesCount))
+        FROM ProductStatistics ps
+        WHERE ps.id.statDate BETWEEN :from AND :to
+        GROUP BY ps.id.productId
+        ORDER BY SUM(ps.salesCount) DESC, ps.id.productId ASC
+        """)
+    List<ProductSalesInfo> findTopSellingProducts(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            Pageable pageable
+    );
 }
@@ -2,11 +2,16 @@ package kr.hhplus.be.server.infrastructure.product;
 
 import jakarta.persistence.LockModeType;
 import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +25,28 @@ public interface ProductStockJpaRepository extends JpaRepository<ProductStock, L
     @Query("SELECT ps FROM ProductStock ps WHERE ps.productId = :productId AND ps.size = :size")
     Optional<ProductStock> findByProductIdAndSizeForUpdate(@Param("productId") Long productId, @Param("size") int size);
 
-
+    boolean existsByProductIdAndSize(Long productId, int size);
+
+    @Query("SELECT ps FROM ProductStock ps WHERE ps.id > :afterId ORDER BY ps.id")
+    List<ProductStock> findAllAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("""
+        UPDATE ProductStock ps
+        SET ps.stockQuantity = ps.stockQuantity - :quantity, ps.updatedAt = :now
+        WHERE ps.productId = :productId AND ps.size = :size AND ps.stockQuantity >= :quantity
+        """)
+    int decreaseIfEnough(@Param("productId") Long productId,
+                         @Param("size") int size,
+                         @Param("quantity") int quantity,
+                         @Param("now") LocalDateTime now);
+
+    @Query("""
+        SELECT new kr.hhplus.be.server.domain.product.ProductStockSummary(ps.productId, SUM(ps.stockQuantity))
+        FROM ProductStock ps
+        WHERE ps.productId IN :productIds
+        GROUP BY ps.productId
+        """)
+    List<ProductStockSummary> findStockSummariesByProductIds(@Param("productIds") Collection<Long> productIds);
 
 }
@@ -1,18 +1,39 @@
 package kr.hhplus.be.server.infrastructure.product;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
 import kr.hhplus.be.server.domain.product.ProductStock;
 import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.ProductStockSummary;
+import kr.hhplus.be.server.domain.product.StockQuantityDelta;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductStockRepositoryImpl implements ProductStockRepository {
 
+    private static final String DECREASE_SQL =
+            "UPDATE product_stock SET stock_quantity = stock_quantity - ?, updated_at = ? WHERE product_id = ? AND size = ?";
+    private static final String INCREASE_SQL =
+            "UPDATE product_stock SET stock_quantity = stock_quantity + ?, updated_at = ? WHERE product_id = ? AND size = ?";
+    private static final String DECREASE_IF_ENOUGH_SQL = DECREASE_SQL + " AND stock_quantity >= ?";
+
     private final ProductStockJpaRepository jpaRepository;
+    private final ProductStockShardJpaRepository shardJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<ProductStock> findByProductIdAndSize(Long productId, int size) {
@@ -24,6 +45,64 @@ public class ProductStockRepositoryImpl implements ProductStockRepository {
         return jpaRepository.findByProductIdAndSizeForUpdate(productId, size);
     }
 
+    @Override
+    public List<ProductStock> findAllForUpdate(List<StockQuantityDelta> lines) {
+        if (lines.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder jpql = new StringBuilder("SELECT ps FROM ProductStock ps WHERE ");
+        for (int i = 0; i < lines.size(); i++) {
+            if (i > 0) {
+                jpql.append(" OR ");
+            }
+            jpql.append("(ps.productId = :productId").append(i).append(" AND ps.size = :size").append(i).append(')');
+        }
+        jpql.append(" ORDER BY ps.productId, ps.size");
+
+        TypedQuery<ProductStock> query = entityManager.createQuery(jpql.toString(), ProductStock.class)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE);
+        for (int i = 0; i < lines.size(); i++) {
+            query.setParameter("productId" + i, lines.get(i).productId());
+            query.setParameter("size" + i, lines.get(i).size());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public boolean existsByProductIdAndSize(Long productId, int size) {
+        return jpaRepository.existsByProductIdAndSize(productId, size);
+    }
+
+    @Override
+    public int decreaseIfEnough(Long productId, int size, int quantity) {
+        return jpaRepository.decreaseIfEnough(productId, size, quantity, LocalDateTime.now());
+    }
+
+    @Override
+    public int[] decreaseIfEnoughInBatch(List<StockQuantityDelta> lines) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = lines.stream()
+                .map(line -> new Object[]{line.quantity(), now, line.productId(), line.size(), line.quantity()})
+                .toList();
+        return jdbcTemplate.batchUpdate(DECREASE_IF_ENOUGH_SQL, args);
+    }
+
+    @Override
+    public void increaseInBatch(List<StockQuantityDelta> deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INCREASE_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setInt(1, delta.quantity());
+            ps.setObject(2, now);
+            ps.setLong(3, delta.productId());
+            ps.setInt(4, delta.size());
+        });
+    }
+
+    @Override
+    public List<ProductStock> findAllAfter(Long afterId, int limit) {
+        return jpaRepository.findAllAfter(afterId, PageRequest.of(0, limit));
+    }
+
     @Override
     public Optional<ProductStock> findByProductId(Long id) {
         return jpaRepository.findByProductId(id);
@@ -39,5 +118,21 @@ public class ProductStockRepositoryImpl implements ProductStockRepository {
         return jpaRepository.findAllByProductId(productId);
     }
 
+    /**
+     * 샤딩된 재고는 product_stock 행이 아니라 샤드에 있으므로 샤드 합계를 더해 반환한다.
+     */
+    @Override
+    public List<ProductStockSummary> findStockSummariesByProductIds(Collection<Long> productIds) {
+        Map<Long, Long> totals = new LinkedHashMap<>();
+        Stream.concat(
+                jpaRepository.findStockSummariesByProductIds(productIds).stream(),
+                shardJpaRepository.findStockSummariesByProductIds(productIds).stream()
+        ).forEach(summary -> totals.merge(summary.productId(),
+                summary.totalStock() == null ? 0L : summary.totalStock(), Long::sum));
+
+        return totals.entrySet().stream()
+                .map(entry -> new ProductStockSummary(entry.getKey(), entry.getValue()))
+                .toList();
+    }
 
 }
@@ -0,0 +1,82 @@
+package kr.hhplus.be.server.infrastructure.product;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import kr.hhplus.be.server.domain.product.ProductStockShard;
+import kr.hhplus.be.server.domain.product.ProductStockSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductStockShardJpaRepository extends JpaRepository<ProductStockShard, Long> {
+
+    List<ProductStockShard> findAllByProductIdAndSizeOrderByShardNo(Long productId, int size);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockShard s WHERE s.productId = :productId AND s.size = :size ORDER BY s.shardNo")
+    List<ProductStockShard> findAllForUpdate(@Param("productId") Long productId, @Param("size") int size);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT s FROM ProductStockShard s
+        WHERE s.productId = :productId AND s.size = :size AND s.shardNo >= :fromShardNo
+        ORDER BY s.shardNo
+        """)
+    List<ProductStockShard> findAllForUpdateFrom(@Param("productId") Long productId,
+                                                 @Param("size") int size,
+                                                 @Param("fromShardNo") int fromShardNo);
+
+    // lock.timeout = -2 는 Hibernate LockOptions.SKIP_LOCKED (MySQL: FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT s FROM ProductStockShard s
+        WHERE s.productId = :productId AND s.size = :size AND s.shardNo < :beforeShardNo
+        ORDER BY s.shardNo
+        """)
+    List<ProductStockShard> findAllForUpdateBeforeSkipLocked(@Param("productId") Long productId,
+                                                             @Param("size") int size,
+                                                             @Param("beforeShardNo") int beforeShardNo);
+
+    @Modifying
+    @Query("""
+        UPDATE ProductStockShard s
+        SET s.stockQuantity = s.stockQuantity - :quantity, s.updatedAt = :now
+        WHERE s.productId = :productId AND s.size = :size AND s.shardNo = :shardNo AND s.stockQuantity >= :quantity
+        """)
+    int decreaseIfEnough(@Param("productId") Long productId,
+                         @Param("size") int size,
+                         @Param("shardNo") int shardNo,
+                         @Param("quantity") int quantity,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        UPDATE ProductStockShard s
+        SET s.stockQuantity = s.stockQuantity + :quantity, s.updatedAt = :now
+        WHERE s.productId = :productId AND s.size = :size AND s.shardNo = :shardNo
+        """)
+    int increase(@Param("productId") Long productId,
+                 @Param("size") int size,
+                 @Param("shardNo") int shardNo,
+                 @Param("quantity") int quantity,
+                 @Param("now") LocalDateTime now);
+
+    @Query("SELECT COALESCE(SUM(s.stockQuantity), 0) FROM ProductStockShard s WHERE s.productId = :productId AND s.size = :size")
+    long sumQuantity(@Param("productId") Long productId, @Param("size") int size);
+
+    @Query("""
+        SELECT new kr.hhplus.be.server.domain.product.ProductStockSummary(s.productId, SUM(s.stockQuantity))
+        FROM ProductStockShard s
+        WHERE s.productId IN :productIds
+        GROUP BY s.productId
+        """)
+    List<ProductStockSummary> findStockSummariesByProductIds(@Param("productIds") Collection<Long> productIds);
+}
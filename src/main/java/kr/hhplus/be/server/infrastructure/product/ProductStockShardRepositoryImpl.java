@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.infrastructure.product;
+
+import jakarta.persistence.EntityManager;
+import kr.hhplus.be.server.domain.product.ProductStockShard;
+import kr.hhplus.be.server.domain.product.ProductStockShardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductStockShardRepositoryImpl implements ProductStockShardRepository {
+
+    private final ProductStockShardJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ProductStockShard> findAll(Long productId, int size) {
+        List<ProductStockShard> shards = jpaRepository.findAllByProductIdAndSizeOrderByShardNo(productId, size);
+        // 힌트로 읽은 수량이 뒤따르는 잠금 조회 결과를 덮지 않도록 분리한다
+        shards.forEach(entityManager::detach);
+        return shards;
+    }
+
+    @Override
+    public List<ProductStockShard> findAllForUpdate(Long productId, int size) {
+        return jpaRepository.findAllForUpdate(productId, size);
+    }
+
+    @Override
+    public List<ProductStockShard> findAllForUpdateFrom(Long productId, int size, int fromShardNo) {
+        return jpaRepository.findAllForUpdateFrom(productId, size, fromShardNo);
+    }
+
+    @Override
+    public List<ProductStockShard> findAllForUpdateBeforeSkipLocked(Long productId, int size, int beforeShardNo) {
+        return jpaRepository.findAllForUpdateBeforeSkipLocked(productId, size, beforeShardNo);
+    }
+
+    @Override
+    public int decreaseIfEnough(Long productId, int size, int shardNo, int quantity) {
+        return jpaRepository.decreaseIfEnough(productId, size, shardNo, quantity, LocalDateTime.now());
+    }
+
+    @Override
+    public int increase(Long productId, int size, int shardNo, int quantity) {
+        return jpaRepository.increase(productId, size, shardNo, quantity, LocalDateTime.now());
+    }
+
+    @Override
+    public int sumQuantity(Long productId, int size) {
+        return Math.toIntExact(jpaRepository.sumQuantity(productId, size));
+    }
+
+    @Override
+    public void deleteAll(List<ProductStockShard> shards) {
+        jpaRepository.deleteAll(shards);
+        jpaRepository.flush();
+    }
+
+    @Override
+    public List<ProductStockShard> saveAll(List<ProductStockShard> shards) {
+        return jpaRepository.saveAll(shards);
+    }
+}
@@ -12,6 +12,7 @@ import kr.hhplus.be.server.common.exception.ApiErrorResponse;
 import kr.hhplus.be.server.common.dto.CustomApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.util.UUID;
 
 @Tag(name = "Order", description = "주문 관리 API")
 @RequestMapping("/api/v1/orders")
@@ -34,8 +35,74 @@ public interface OrderAPI {
     })
     @PostMapping
     ResponseEntity<CustomApiResponse<OrderResponse>> createOrder(
+            @Parameter(description = "재시도 시 중복 주문을 막기 위한 멱등성 키. 같은 키로 다시 요청하면 처음 응답을 그대로 돌려준다.")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Parameter(description = "주문 생성 요청", required = true)
             @Valid @RequestBody OrderRequest request
     );
 
+    @Operation(summary = "원스텝 구매", description = "주문 생성과 잔액 결제를 한 번에 처리합니다. 주문은 결제 완료(CONFIRMED) 상태로 생성됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = OrderResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "사용자 또는 상품 없음",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "동시성 충돌",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "처리 불가능(재고 부족, 잔액 부족 등)",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    @PostMapping("/checkout")
+    ResponseEntity<CustomApiResponse<OrderResponse>> checkout(
+            @Parameter(description = "재시도 시 중복 구매를 막기 위한 멱등성 키")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Parameter(description = "구매 요청 (주문 생성 요청과 같은 형식)", required = true)
+            @Valid @RequestBody OrderRequest request
+    );
+
+    @Operation(summary = "주문 취소", description = "주문을 취소하고 재고, 잔액(결제 완료 주문), 쿠폰을 되돌립니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = OrderResponse.class))),
+            @ApiResponse(responseCode = "404", description = "주문 없음",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "취소할 수 없는 주문 상태",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    @PostMapping("/{orderId}/cancel")
+    ResponseEntity<CustomApiResponse<OrderResponse>> cancelOrder(
+            @Parameter(description = "사용자 ID", required = true)
+            @RequestHeader("X-USER-ID") Long userId,
+
+            @Parameter(description = "주문 ID", required = true)
+            @PathVariable UUID orderId
+    );
+
+    @Operation(summary = "내 주문 목록 조회", description = "사용자의 주문을 최신순으로 커서 기반 페이지 조회합니다. 다음 페이지가 있으면 nextCursor를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = OrderResponse.OrderListResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    @GetMapping("/users/{userId}")
+    ResponseEntity<CustomApiResponse<OrderResponse.OrderListResponse>> getOrders(
+            @Parameter(description = "사용자 ID", example = "100", required = true)
+            @PathVariable Long userId,
+
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 첫 페이지는 빈 값)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    );
+
 }
\ No newline at end of file
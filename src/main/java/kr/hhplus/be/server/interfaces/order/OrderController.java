@@ -1,14 +1,25 @@
 package kr.hhplus.be.server.interfaces.order;
 
 import jakarta.validation.Valid;
+import kr.hhplus.be.server.application.idempotency.IdempotencyService;
+import kr.hhplus.be.server.application.order.CancelOrderCommand;
 import kr.hhplus.be.server.application.order.CreateOrderCommand;
+import kr.hhplus.be.server.application.order.GetOrderListCommand;
+import kr.hhplus.be.server.application.order.OrderCancelService;
 import kr.hhplus.be.server.application.order.OrderFacadeService;
+import kr.hhplus.be.server.application.order.OrderListResult;
 import kr.hhplus.be.server.application.order.OrderResult;
+import kr.hhplus.be.server.application.order.OrderUseCase;
 import kr.hhplus.be.server.common.dto.CustomApiResponse;
+import kr.hhplus.be.server.domain.idempotency.IdempotencyScope;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import java.util.UUID;
 
 
 @RestController
@@ -16,12 +27,45 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController implements OrderAPI {
 
     private final OrderFacadeService orderFacadeService;
+    private final IdempotencyService idempotencyService;
+    private final OrderUseCase orderUseCase;
+    private final OrderCancelService orderCancelService;
 
     @Override
-    public ResponseEntity<CustomApiResponse<OrderResponse>> createOrder(@Valid @RequestBody OrderRequest request) {
+    public ResponseEntity<CustomApiResponse<OrderResponse>> createOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody OrderRequest request) {
         CreateOrderCommand command = request.toCommand();
-        OrderResult result = orderFacadeService.createOrder(command);
+        OrderResult result = idempotencyService.execute(IdempotencyScope.ORDER, idempotencyKey, command,
+                OrderResult.class, () -> orderFacadeService.createOrder(command));
         return ResponseEntity.ok(CustomApiResponse.success(OrderResponse.from(result)));
     }
 
+    @Override
+    public ResponseEntity<CustomApiResponse<OrderResponse>> checkout(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody OrderRequest request) {
+        CreateOrderCommand command = request.toCommand();
+        OrderResult result = idempotencyService.execute(IdempotencyScope.CHECKOUT, idempotencyKey, command,
+                OrderResult.class, () -> orderFacadeService.checkout(command));
+        return ResponseEntity.ok(CustomApiResponse.success(OrderResponse.from(result)));
+    }
+
+    @Override
+    public ResponseEntity<CustomApiResponse<OrderResponse>> cancelOrder(
+            @RequestHeader("X-USER-ID") Long userId,
+            @PathVariable UUID orderId) {
+        OrderResult result = orderCancelService.cancel(CancelOrderCommand.of(orderId, userId));
+        return ResponseEntity.ok(CustomApiResponse.success(OrderResponse.from(result)));
+    }
+
+    @Override
+    public ResponseEntity<CustomApiResponse<OrderResponse.OrderListResponse>> getOrders(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        OrderListResult result = orderUseCase.getOrders(GetOrderListCommand.of(userId, cursor, size));
+        return ResponseEntity.ok(CustomApiResponse.success(OrderResponse.OrderListResponse.from(result)));
+    }
+
 }
@@ -0,0 +1,47 @@
+package kr.hhplus.be.server.interfaces.order;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import kr.hhplus.be.server.common.dto.CustomApiResponse;
+import kr.hhplus.be.server.common.exception.ApiErrorResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Order", description = "주문 관리 API")
+@RequestMapping("/api/v1/orders")
+public interface OrderIntakeAPI {
+
+    @Operation(summary = "주문 비동기 접수", description = "주문을 대기열에 넣고 접수 티켓을 반환합니다. 처리 결과는 티켓 조회로 확인합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "접수됨",
+                    content = @Content(schema = @Schema(implementation = OrderTicketResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "접수 대기열 포화",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    @PostMapping("/async")
+    ResponseEntity<CustomApiResponse<OrderTicketResponse>> submitOrder(
+            @Parameter(description = "주문 생성 요청", required = true)
+            @Valid @RequestBody OrderRequest request
+    );
+
+    @Operation(summary = "주문 접수 상태 조회", description = "접수 티켓의 처리 상태와 생성된 주문 ID를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = OrderTicketResponse.class))),
+            @ApiResponse(responseCode = "404", description = "티켓 없음(만료 포함)",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    @GetMapping("/tickets/{ticketId}")
+    ResponseEntity<CustomApiResponse<OrderTicketResponse>> getTicket(
+            @Parameter(description = "접수 티켓 ID", required = true)
+            @PathVariable String ticketId
+    );
+}
@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.interfaces.order;
+
+import jakarta.validation.Valid;
+import kr.hhplus.be.server.application.order.OrderIntakeService;
+import kr.hhplus.be.server.application.order.OrderIntakeTicket;
+import kr.hhplus.be.server.common.dto.CustomApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.intake.async-enabled", havingValue = "true")
+public class OrderIntakeController implements OrderIntakeAPI {
+
+    private final OrderIntakeService orderIntakeService;
+
+    @Override
+    public ResponseEntity<CustomApiResponse<OrderTicketResponse>> submitOrder(@Valid @RequestBody OrderRequest request) {
+        OrderIntakeTicket ticket = orderIntakeService.submit(request.toCommand());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header("Location", "/api/v1/orders/tickets/" + ticket.ticketId())
+                .body(CustomApiResponse.success(OrderTicketResponse.from(ticket)));
+    }
+
+    @Override
+    public ResponseEntity<CustomApiResponse<OrderTicketResponse>> getTicket(@PathVariable String ticketId) {
+        OrderIntakeTicket ticket = orderIntakeService.getTicket(ticketId);
+        return ResponseEntity.ok(CustomApiResponse.success(OrderTicketResponse.from(ticket)));
+    }
+}
@@ -1,18 +1,21 @@
 package kr.hhplus.be.server.interfaces.order;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
+import kr.hhplus.be.server.application.order.OrderListResult;
 import kr.hhplus.be.server.application.order.OrderResult;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.UUID;
 
 @Getter
 @AllArgsConstructor
 public class OrderResponse {
 
     @Schema(description = "주문 ID")
-    private final String orderId;
+    private final UUID orderId;
 
     @Schema(description = "사용자 ID")
     private final Long userId;
@@ -40,6 +43,20 @@ public class OrderResponse {
         );
     }
 
+    public record OrderListResponse(
+            List<OrderResponse> orders,
+            @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor
+    ) {
+        public static OrderListResponse from(OrderListResult result) {
+            return new OrderListResponse(
+                    result.orders().stream()
+                            .map(OrderResponse::from)
+                            .toList(),
+                    result.nextCursor()
+            );
+        }
+    }
+
     @Getter
     @AllArgsConstructor
     public static class OrderItemResponse {
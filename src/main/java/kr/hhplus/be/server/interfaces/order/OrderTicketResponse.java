@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.interfaces.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import kr.hhplus.be.server.application.order.OrderIntakeTicket;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class OrderTicketResponse {
+
+    @Schema(description = "접수 티켓 ID")
+    private final String ticketId;
+
+    @Schema(description = "처리 상태 (QUEUED, PROCESSING, COMPLETED, FAILED)")
+    private final String status;
+
+    @Schema(description = "생성된 주문 ID (COMPLETED 일 때)")
+    private final UUID orderId;
+
+    @Schema(description = "실패 코드 (FAILED 일 때)")
+    private final String errorCode;
+
+    @Schema(description = "실패 사유 (FAILED 일 때)")
+    private final String errorMessage;
+
+    @Schema(description = "접수 시각")
+    private final LocalDateTime acceptedAt;
+
+    public static OrderTicketResponse from(OrderIntakeTicket ticket) {
+        return new OrderTicketResponse(
+                ticket.ticketId(),
+                ticket.status().name(),
+                ticket.orderId(),
+                ticket.errorCode() == null ? null : ticket.errorCode().name(),
+                ticket.errorMessage(),
+                ticket.acceptedAt()
+        );
+    }
+}
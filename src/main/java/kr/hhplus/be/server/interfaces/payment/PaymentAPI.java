@@ -26,6 +26,7 @@ public interface PaymentAPI {
     })
     @PostMapping
     ResponseEntity<CustomApiResponse<PaymentResponse>> requestPayment(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody PaymentRequest request
     );
 
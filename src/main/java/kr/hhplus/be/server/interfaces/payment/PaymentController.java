@@ -1,10 +1,13 @@
 package kr.hhplus.be.server.interfaces.payment;
 
+import kr.hhplus.be.server.application.idempotency.IdempotencyService;
 import kr.hhplus.be.server.application.payment.*;
 import kr.hhplus.be.server.common.dto.CustomApiResponse;
+import kr.hhplus.be.server.domain.idempotency.IdempotencyScope;
 import kr.hhplus.be.server.domain.payment.Payment;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 
@@ -13,10 +16,19 @@ import org.springframework.web.bind.annotation.RestController;
 public class PaymentController implements PaymentAPI {
 
     private final PaymentFacadeService paymentFacadeService;
+    private final IdempotencyService idempotencyService;
 
     @Override
-    public ResponseEntity<CustomApiResponse<PaymentResponse>> requestPayment(PaymentRequest request) {
-        PaymentResult paymentResult = paymentFacadeService.requestPayment(request.toCommand());
+    public ResponseEntity<CustomApiResponse<PaymentResponse>> requestPayment(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            PaymentRequest request) {
+        RequestPaymentCommand command = request.toCommand();
+        // 외부 결제 수단은 대행사 응답을 기다리는 동안 키 테이블 트랜잭션도 잡지 않는다
+        PaymentResult paymentResult = paymentFacadeService.isExternalMethod(command.method())
+                ? idempotencyService.executeOutsideTransaction(IdempotencyScope.PAYMENT, idempotencyKey, command,
+                        PaymentResult.class, () -> paymentFacadeService.requestPayment(command))
+                : idempotencyService.execute(IdempotencyScope.PAYMENT, idempotencyKey, command,
+                        PaymentResult.class, () -> paymentFacadeService.requestPayment(command));
         return ResponseEntity.ok(CustomApiResponse.success(PaymentResponse.from(paymentResult)));
     }
 }
@@ -6,12 +6,14 @@ import kr.hhplus.be.server.application.payment.RequestPaymentCommand;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.UUID;
+
 @Getter
 @AllArgsConstructor
 public class PaymentRequest {
 
-    @NotBlank
-    private String orderId;
+    @NotNull
+    private UUID orderId;
 
     @NotNull
     private Long userId;
@@ -6,16 +6,17 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Getter
 @AllArgsConstructor
 public class PaymentResponse {
 
-    @Schema(description = "결제 ID", example = "pay_123456")
-    private final String paymentId;
+    @Schema(description = "결제 ID", example = "01928f4e-6a3b-7c1d-9e2f-3a4b5c6d7e8f")
+    private final UUID paymentId;
 
-    @Schema(description = "주문 ID", example = "order_78910")
-    private final String orderId;
+    @Schema(description = "주문 ID", example = "01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d")
+    private final UUID orderId;
 
     @Schema(description = "결제 금액", example = "10000")
     private final long amount;
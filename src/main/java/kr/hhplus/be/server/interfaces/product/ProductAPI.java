@@ -22,7 +22,7 @@ import java.util.List;
 @RequestMapping("/api/v1/products")
 public interface ProductAPI {
 
-    @Operation(summary = "상품 목록 조회", description = "전체 상품 목록을 페이징하여 조회합니다.")
+    @Operation(summary = "상품 목록 조회", description = "전체 상품 목록을 페이징하여 조회합니다. cursor 파라미터를 보내면(첫 페이지는 빈 값) page 대신 커서 기반으로 조회하고 nextCursor를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공",
                     content = @Content(schema = @Schema(implementation = ProductResponse.ProductListResponse.class))),
@@ -34,11 +34,14 @@ public interface ProductAPI {
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
             @RequestParam(defaultValue = "0") int page,
 
-            @Parameter(description = "페이지 크기", example = "20")
+            @Parameter(description = "페이지 크기 (커서 모드는 1~100)", example = "20")
             @RequestParam(defaultValue = "20") int size,
 
-            @Parameter(description = "정렬 기준 (예: name,asc)", example = "name,asc")
-            @RequestParam(required = false) String sort
+            @Parameter(description = "정렬 기준 (예: name,asc). 커서 모드는 price, createdAt, id만 지원", example = "name,asc")
+            @RequestParam(required = false) String sort,
+
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 첫 페이지는 빈 값)")
+            @RequestParam(required = false) String cursor
     );
 
     @Operation(summary = "상품 상세 조회", description = "특정 상품의 상세 정보를 조회합니다.")
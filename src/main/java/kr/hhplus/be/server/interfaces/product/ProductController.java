@@ -22,8 +22,17 @@ public class ProductController implements ProductAPI {
     public ResponseEntity<CustomApiResponse<ProductResponse.ProductListResponse>> getProducts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false) String sort
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor
     ) {
+        if (cursor != null) {
+            ProductRequest.CursorListRequest request = ProductRequest.CursorListRequest.of(cursor, size, sort);
+            ProductListResult result = productUseCase.getProductListByCursor(GetProductCursorListCommand.fromRequest(request));
+            return ResponseEntity.ok(CustomApiResponse.success(
+                    ProductResponse.ProductListResponse.from(result)
+            ));
+        }
+
         ProductRequest.ListRequest request = ProductRequest.ListRequest.of(page, size, sort);
         GetProductListCommand command = GetProductListCommand.fromRequest(request);
         ProductListResult result = productUseCase.getProductList(command);
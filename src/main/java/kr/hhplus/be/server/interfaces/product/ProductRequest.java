@@ -14,6 +14,16 @@ public class ProductRequest {
         }
     }
 
+    public record CursorListRequest(
+            String cursor,
+            int size,
+            String sort
+    ) {
+        public static CursorListRequest of(String cursor, int size, String sort) {
+            return new CursorListRequest(cursor, size, sort);
+        }
+    }
+
     public record DetailRequest(Long productId, int size) {
         public static DetailRequest of(Long productId, int size) {
             return new DetailRequest(productId, size);
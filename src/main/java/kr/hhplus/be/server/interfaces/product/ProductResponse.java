@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.interfaces.product;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import kr.hhplus.be.server.application.product.ProductDetailResult;
 import kr.hhplus.be.server.application.product.ProductInfo;
 import kr.hhplus.be.server.application.product.ProductListResult;
@@ -28,12 +29,16 @@ public class ProductResponse {
 
     }
 
-    public record ProductListResponse(List<ProductDTO> products) {
+    public record ProductListResponse(
+            List<ProductDTO> products,
+            @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor
+    ) {
         public static ProductListResponse from(ProductListResult result) {
             return new ProductListResponse(
                     result.products().stream()
                             .map(ProductDTO::from)
-                            .toList()
+                            .toList(),
+                    result.nextCursor()
             );
         }
     }
@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.application.balance;
+
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.balance.Balance;
+import kr.hhplus.be.server.domain.balance.BalanceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 사용자에게 동시에 몰리는 충전(BalanceConcurrencyTest 시나리오)의 처리 방식 비교.
+ * - 재시도: 엔티티 충전 + @Version 충돌 시 100ms 간격 최대 5회 재시도 (BalanceRetryService)
+ * - 원자적: amount = amount + ? UPDATE 한 번 (BalanceService.chargeAtomically)
+ * - 묶음: 대기 중인 요청을 모아 UPDATE 한 번 + 이력 배치 INSERT (BalanceChargeCombiner)
+ * 레이트 리미터는 같은 사용자 요청을 대부분 막으므로 거치지 않고 서비스 계층을 직접 호출한다.
+ * BENCHMARK=true 일 때만 실행한다.
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class BalanceChargeBenchmarkTest {
+
+    private static final long CHARGE_AMOUNT = 10_000L;
+
+    @Autowired
+    BalanceRetryService retryService;
+
+    @Autowired
+    BalanceUseCase balanceUseCase;
+
+    @Autowired
+    BalanceChargeCombiner chargeCombiner;
+
+    @Autowired
+    BalanceRepository balanceRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @ParameterizedTest(name = "동시 충전 {0}건")
+    @ValueSource(ints = {10, 50})
+    @DisplayName("같은 사용자 동시 충전 - 낙관적 락 재시도 vs 원자적 UPDATE vs 묶음 처리")
+    void compareChargePaths(int concurrency) throws Exception {
+        // 재시도 경로는 BalanceService.charge 의 save 가 자체 트랜잭션으로 커밋되며 충돌을 드러내므로 바깥 트랜잭션 없이 호출한다
+        Result retry = run(concurrency, retryService::chargeWithRetry);
+        Result atomic = run(concurrency, command ->
+                transactionTemplate.executeWithoutResult(status -> balanceUseCase.chargeAtomically(command)));
+        Result combined = run(concurrency, chargeCombiner::charge);
+
+        System.out.printf("[동시 충전 %d건] 재시도: %.0f ms, 성공 %d, 실패 %d / 원자적: %.0f ms, 성공 %d, 실패 %d / 묶음: %.0f ms, 성공 %d, 실패 %d%n",
+                concurrency, retry.elapsedMs(), retry.succeeded(), retry.failed(),
+                atomic.elapsedMs(), atomic.succeeded(), atomic.failed(),
+                combined.elapsedMs(), combined.succeeded(), combined.failed());
+
+        assertThat(retry.finalAmount()).isEqualTo(retry.succeeded() * CHARGE_AMOUNT);
+        assertThat(atomic.succeeded()).isEqualTo(concurrency);
+        assertThat(atomic.finalAmount()).isEqualTo(concurrency * CHARGE_AMOUNT);
+        assertThat(combined.succeeded()).isEqualTo(concurrency);
+        assertThat(combined.finalAmount()).isEqualTo(concurrency * CHARGE_AMOUNT);
+    }
+
+    private Result run(int concurrency, Consumer<ChargeBalanceCommand> charge) throws Exception {
+        Long userId = ThreadLocalRandom.current().nextLong(5_000_000L, 6_000_000L);
+        balanceRepository.save(Balance.createNew(null, userId, Money.wons(0L)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                try {
+                    charge.accept(new ChargeBalanceCommand(userId, CHARGE_AMOUNT, "벤치마크 충전", "REQ-" + UUID.randomUUID()));
+                    return true;
+                } catch (RuntimeException e) {
+                    return false;
+                }
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        ready.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(60, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        double elapsedMs = (System.nanoTime() - startedAt) / 1_000_000.0;
+        executor.shutdown();
+
+        long finalAmount = balanceRepository.findByUserId(userId).orElseThrow().getAmount();
+        return new Result(elapsedMs, succeeded, concurrency - succeeded, finalAmount);
+    }
+
+    private record Result(double elapsedMs, int succeeded, int failed, long finalAmount) {
+    }
+}
@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.application.balance;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.balance.BalanceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BalanceChargeCombinerTest {
+
+    private static final Long USER_ID = 1L;
+
+    private BalanceUseCase balanceUseCase;
+    private SimpleMeterRegistry meterRegistry;
+    private BalanceChargeCombiner combiner;
+
+    @BeforeEach
+    void setUp() {
+        balanceUseCase = mock(BalanceUseCase.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        meterRegistry = new SimpleMeterRegistry();
+        combiner = new BalanceChargeCombiner(balanceUseCase, transactionTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("앞선 묶음이 처리되는 동안 쌓인 같은 사용자의 충전은 다음 한 번의 처리로 합쳐지고, 요청마다 자기 결과를 받는다")
+    void concurrentCharges_areCombined() throws Exception {
+        // given: 첫 묶음 처리를 붙잡아 두고 나머지 요청을 쌓는다
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        when(balanceUseCase.chargeCombined(anyLong(), anyList())).thenAnswer(invocation -> {
+            List<ChargeBalanceCommand> commands = invocation.getArgument(1);
+            batchSizes.add(commands.size());
+            if (batchSizes.size() == 1) {
+                firstBatchStarted.countDown();
+                releaseFirstBatch.await(5, TimeUnit.SECONDS);
+            }
+            return commands.stream()
+                    .map(command -> new BalanceInfo(USER_ID, command.amount(), LocalDateTime.now()))
+                    .toList();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        Future<BalanceInfo> first = executor.submit(() -> combiner.charge(command(1_000L, "REQ-0")));
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Future<BalanceInfo>> waiting = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            long amount = 1_000L * (i + 1);
+            String requestId = "REQ-" + i;
+            waiting.add(executor.submit(() -> combiner.charge(command(amount, requestId))));
+        }
+        Thread.sleep(200);
+
+        // when
+        releaseFirstBatch.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).amount()).isEqualTo(1_000L);
+        for (int i = 0; i < waiting.size(); i++) {
+            assertThat(waiting.get(i).get(5, TimeUnit.SECONDS).amount()).isEqualTo(1_000L * (i + 2));
+        }
+        executor.shutdown();
+
+        assertThat(batchSizes).containsExactly(1, 5);
+        assertThat(meterRegistry.get("balance.charge.batch.size").summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("묶음 처리가 실패하면 묶인 요청 모두 같은 예외를 받는다")
+    void combinedFailure_propagatesToCaller() {
+        when(balanceUseCase.chargeCombined(anyLong(), anyList())).thenThrow(new BalanceException.NotFoundException(USER_ID));
+
+        assertThatThrownBy(() -> combiner.charge(command(1_000L, "REQ-1")))
+                .isInstanceOf(BalanceException.NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("최소 충전 금액 미만은 대기열에 넣지 않고 바로 거절한다")
+    void belowMinimum_rejectedBeforeQueueing() {
+        assertThatThrownBy(() -> combiner.charge(command(500L, "REQ-1")))
+                .isInstanceOf(BalanceException.MinimumChargeAmountException.class);
+        verify(balanceUseCase, never()).chargeCombined(anyLong(), anyList());
+    }
+
+    private ChargeBalanceCommand command(long amount, String requestId) {
+        return new ChargeBalanceCommand(USER_ID, amount, "묶음 충전 테스트", requestId);
+    }
+}
@@ -2,6 +2,7 @@ package kr.hhplus.be.server.application.balance;
 
 import kr.hhplus.be.server.common.vo.Money;
 import kr.hhplus.be.server.domain.balance.Balance;
+import kr.hhplus.be.server.domain.balance.BalanceHistoryRepository;
 import kr.hhplus.be.server.domain.balance.BalanceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -45,6 +47,15 @@ public class BalanceConcurrencyTest {
     @Autowired
     private BalanceRepository balanceRepository;
 
+    @Autowired
+    private BalanceUseCase balanceUseCase;
+
+    @Autowired
+    private BalanceChargeCombiner chargeCombiner;
+
+    @Autowired
+    private BalanceHistoryRepository balanceHistoryRepository;
+
     private static final Long USER_ID = 777L;
     private static final int CONCURRENCY = 10;
     private static final long CHARGE_AMOUNT = 10_000L;
@@ -98,6 +109,73 @@ public class BalanceConcurrencyTest {
         assertThat(finalAmount).isEqualTo(successCount.get() * CHARGE_AMOUNT);
     }
 
+    @Test
+    @DisplayName("원자적 충전은 동시 요청이 충돌 없이 모두 반영된다")
+    void atomic_charges_all_succeed_without_retry() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(CONCURRENCY);
+
+        for (int i = 0; i < CONCURRENCY; i++) {
+            executor.execute(() -> {
+                try {
+                    ready.await();
+                    balanceUseCase.chargeAtomically(new ChargeBalanceCommand(
+                            USER_ID, CHARGE_AMOUNT, "동시성 테스트 충전", "REQ-" + UUID.randomUUID()));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    System.out.println("충전 실패: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        latch.await();
+        executor.shutdown();
+
+        long finalAmount = balanceRepository.findByUserId(USER_ID).orElseThrow().getAmount();
+        System.out.println("원자적 충전 성공 수: " + successCount.get() + ", 실제 잔액: " + finalAmount);
+
+        assertThat(successCount.get()).isEqualTo(CONCURRENCY);
+        assertThat(finalAmount).isEqualTo(CONCURRENCY * CHARGE_AMOUNT);
+    }
+
+    @Test
+    @DisplayName("묶음 충전은 동시 요청을 합쳐 모두 반영하고 요청마다 이력을 남긴다")
+    void combined_charges_all_succeed_with_history() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(CONCURRENCY);
+        List<String> requestIds = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < CONCURRENCY; i++) {
+            executor.execute(() -> {
+                try {
+                    String requestId = "REQ-" + UUID.randomUUID();
+                    requestIds.add(requestId);
+                    ready.await();
+                    chargeCombiner.charge(new ChargeBalanceCommand(USER_ID, CHARGE_AMOUNT, "동시성 테스트 충전", requestId));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    System.out.println("충전 실패: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        latch.await();
+        executor.shutdown();
+
+        long finalAmount = balanceRepository.findByUserId(USER_ID).orElseThrow().getAmount();
+        System.out.println("묶음 충전 성공 수: " + successCount.get() + ", 실제 잔액: " + finalAmount);
+
+        assertThat(successCount.get()).isEqualTo(CONCURRENCY);
+        assertThat(finalAmount).isEqualTo(CONCURRENCY * CHARGE_AMOUNT);
+        assertThat(balanceHistoryRepository.findExistingRequestIds(requestIds)).hasSize(CONCURRENCY);
+    }
+
     @Transactional
     public void initializeBalance(Long userId) {
         balanceRepository.findByUserId(userId).ifPresentOrElse(
@@ -7,10 +7,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +37,17 @@ class BalanceFacadeTest {
     @Mock
     private InMemoryRateLimiter rateLimiter;
 
+    @Mock
+    private BalanceChargeCombiner chargeCombiner;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private void runTransactionCallbacks() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     @Test
     @DisplayName("충전 시 잔액과 이력 업데이트 성공")
     void charge_shouldUpdateBalance_andRecordHistory() {
@@ -43,6 +59,7 @@ class BalanceFacadeTest {
         BalanceResult expectedResult = BalanceResult.fromInfo(fakeInfo);
 
         // stub: 재시도 서비스 mock
+        runTransactionCallbacks();
         when(retryService.chargeWithRetry(command)).thenReturn(fakeInfo);
 
         // when
@@ -57,4 +74,43 @@ class BalanceFacadeTest {
         verify(retryService).chargeWithRetry(command);
         verify(historyUseCase).recordHistory(RecordBalanceHistoryCommand.of(criteria));
     }
+
+    @Test
+    @DisplayName("atomic 모드에서는 재시도 서비스 없이 원자적 충전으로 처리한다")
+    void charge_atomicMode_usesSingleUpdate() {
+        // given
+        ReflectionTestUtils.setField(balanceFacade, "chargeMode", BalanceFacade.ATOMIC_CHARGE_MODE);
+        ChargeBalanceCriteria criteria = new ChargeBalanceCriteria(1L, 10000L, "테스트 충전", "test-request-id");
+        ChargeBalanceCommand command = ChargeBalanceCommand.from(criteria);
+        runTransactionCallbacks();
+        when(balanceUseCase.chargeAtomically(command)).thenReturn(new BalanceInfo(1L, 20000L, LocalDateTime.now()));
+
+        // when
+        BalanceResult result = balanceFacade.charge(criteria);
+
+        // then
+        assertThat(result.balance()).isEqualTo(20000L);
+        verify(balanceUseCase).chargeAtomically(command);
+        verify(retryService, never()).chargeWithRetry(any());
+        verify(historyUseCase).recordHistory(RecordBalanceHistoryCommand.of(criteria));
+    }
+
+    @Test
+    @DisplayName("combining 모드에서는 묶음 처리기에 맡기고 트랜잭션과 이력 저장을 따로 하지 않는다")
+    void charge_combiningMode_delegatesToCombiner() {
+        // given
+        ReflectionTestUtils.setField(balanceFacade, "chargeMode", BalanceFacade.COMBINING_CHARGE_MODE);
+        ChargeBalanceCriteria criteria = new ChargeBalanceCriteria(1L, 10000L, "테스트 충전", "test-request-id");
+        ChargeBalanceCommand command = ChargeBalanceCommand.from(criteria);
+        when(chargeCombiner.charge(command)).thenReturn(new BalanceInfo(1L, 20000L, LocalDateTime.now()));
+
+        // when
+        BalanceResult result = balanceFacade.charge(criteria);
+
+        // then
+        assertThat(result.balance()).isEqualTo(20000L);
+        verify(rateLimiter).validate(1L);
+        verify(transactionTemplate, never()).execute(any());
+        verify(historyUseCase, never()).recordHistory(any());
+    }
 }
@@ -2,6 +2,7 @@ package kr.hhplus.be.server.application.balance;
 
 import kr.hhplus.be.server.domain.balance.Balance;
 import kr.hhplus.be.server.domain.balance.BalanceException;
+import kr.hhplus.be.server.domain.balance.BalanceHistory;
 import kr.hhplus.be.server.domain.balance.BalanceHistoryRepository;
 import kr.hhplus.be.server.domain.balance.BalanceRepository;
 import kr.hhplus.be.server.common.vo.Money;
@@ -14,7 +15,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
  
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -102,4 +106,112 @@ class BalanceServiceTest {
         assertThat(result.userId()).isEqualTo(100L);
         assertThat(result.balance()).isEqualTo(1500L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("조건부 차감이 반영되지 않았고 잔액 행이 있으면 잔액 부족 예외가 발생한다")
+    void decreaseBalanceIfEnough_notEnough() {
+        when(balanceRepository.decreaseIfEnough(1L, 5000L)).thenReturn(0);
+        when(balanceRepository.findByUserId(1L)).thenReturn(Optional.of(Balance.createNew(1L, 1L, Money.wons(1000))));
+
+        assertThatThrownBy(() -> balanceService.decreaseBalanceIfEnough(new DecreaseBalanceCommand(1L, 5000L)))
+                .isInstanceOf(BalanceException.NotEnoughBalanceException.class);
+    }
+
+    @Test
+    @DisplayName("조건부 차감이 반영되면 잔액을 다시 조회하지 않는다")
+    void decreaseBalanceIfEnough_success() {
+        when(balanceRepository.decreaseIfEnough(1L, 5000L)).thenReturn(1);
+
+        balanceService.decreaseBalanceIfEnough(new DecreaseBalanceCommand(1L, 5000L));
+
+        verify(balanceRepository, never()).findByUserId(any());
+    }
+
+    @Test
+    @DisplayName("원자적 충전은 엔티티를 고치지 않고 UPDATE 한 번으로 더한 뒤 갱신된 잔액을 돌려준다")
+    void chargeAtomically_success() {
+        // given
+        ChargeBalanceCommand command = new ChargeBalanceCommand(100L, 1000, "충전 테스트", "REQ-" + UUID.randomUUID());
+        when(balanceRepository.increase(100L, 1000L)).thenReturn(1);
+        when(balanceRepository.findByUserId(100L)).thenReturn(Optional.of(Balance.createNew(1L, 100L, Money.wons(2000))));
+
+        // when
+        BalanceInfo info = balanceService.chargeAtomically(command);
+
+        // then
+        assertThat(info.amount()).isEqualTo(2000L);
+        verify(balanceRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("원자적 충전도 최소 충전 금액 정책을 지킨다")
+    void chargeAtomically_belowMinimum() {
+        ChargeBalanceCommand command = new ChargeBalanceCommand(100L, 500, "충전 테스트", "REQ-" + UUID.randomUUID());
+
+        assertThatThrownBy(() -> balanceService.chargeAtomically(command))
+                .isInstanceOf(BalanceException.MinimumChargeAmountException.class);
+        verify(balanceRepository, never()).increase(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("잔액 행이 없으면 원자적 충전은 NotFoundException")
+    void chargeAtomically_notFound() {
+        ChargeBalanceCommand command = new ChargeBalanceCommand(999L, 1000, "충전 테스트", "REQ-" + UUID.randomUUID());
+        when(balanceRepository.increase(999L, 1000L)).thenReturn(0);
+
+        assertThatThrownBy(() -> balanceService.chargeAtomically(command))
+                .isInstanceOf(BalanceException.NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("묶음 충전은 UPDATE 한 번과 이력 배치 저장으로 처리하고, 요청마다 순서대로 충전한 잔액을 돌려준다")
+    void chargeCombined_success() {
+        // given: 기존 잔액 1000, REQ-2 는 이미 처리된 요청
+        List<ChargeBalanceCommand> commands = List.of(
+                new ChargeBalanceCommand(100L, 1000, "충전 1", "REQ-1"),
+                new ChargeBalanceCommand(100L, 1000, "충전 2", "REQ-2"),
+                new ChargeBalanceCommand(100L, 2000, "충전 3", "REQ-3"));
+        when(balanceHistoryRepository.findExistingRequestIds(List.of("REQ-1", "REQ-2", "REQ-3"))).thenReturn(Set.of("REQ-2"));
+        when(balanceRepository.increase(100L, 3000L)).thenReturn(1);
+        when(balanceRepository.findByUserId(100L)).thenReturn(Optional.of(Balance.createNew(1L, 100L, Money.wons(4000))));
+
+        // when
+        List<BalanceInfo> infos = balanceService.chargeCombined(100L, commands);
+
+        // then
+        assertThat(infos).extracting(BalanceInfo::amount).containsExactly(2000L, 4000L, 4000L);
+        verify(balanceRepository, times(1)).increase(anyLong(), anyLong());
+        verify(balanceRepository, never()).save(any());
+
+        ArgumentCaptor<List<BalanceHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(balanceHistoryRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(BalanceHistory::getRequestId).containsExactly("REQ-1", "REQ-3");
+    }
+
+    @Test
+    @DisplayName("환불은 사용자별로 합쳐 배치 UPDATE 하고, 요청마다 이력을 남긴다")
+    void refundAll_success() {
+        UUID orderA = UUID.randomUUID();
+        UUID orderB = UUID.randomUUID();
+        when(balanceRepository.increaseInBatch(Map.of(100L, 3000L))).thenReturn(new int[]{1});
+
+        balanceService.refundAll(List.of(
+                RefundBalanceCommand.of(100L, orderA, 1000L),
+                RefundBalanceCommand.of(100L, orderB, 2000L)));
+
+        verify(balanceHistoryRepository, times(2)).save(any(BalanceHistory.class));
+    }
+
+    @Test
+    @DisplayName("잔액 행이 없는 사용자가 있으면 환불 이력을 남기지 않고 NotFoundException")
+    void refundAll_missingBalance() {
+        when(balanceRepository.increaseInBatch(Map.of(100L, 1000L, 999L, 2000L))).thenReturn(new int[]{1, 0});
+
+        assertThatThrownBy(() -> balanceService.refundAll(List.of(
+                RefundBalanceCommand.of(100L, UUID.randomUUID(), 1000L),
+                RefundBalanceCommand.of(999L, UUID.randomUUID(), 2000L))))
+                .isInstanceOf(BalanceException.NotFoundException.class)
+                .hasMessageContaining("999");
+        verify(balanceHistoryRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,220 @@
+package kr.hhplus.be.server.application.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.order.CreateOrderCommand;
+import kr.hhplus.be.server.application.order.OrderFacadeService;
+import kr.hhplus.be.server.application.order.OrderResult;
+import kr.hhplus.be.server.domain.idempotency.IdempotencyException;
+import kr.hhplus.be.server.domain.idempotency.IdempotencyRecord;
+import kr.hhplus.be.server.domain.idempotency.IdempotencyRepository;
+import kr.hhplus.be.server.domain.idempotency.IdempotencyScope;
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 생성이 실제로 커밋되어야 키가 남으므로 테스트 자체에는 @Transactional 을 걸지 않는다.
+ */
+@SpringBootTest
+class IdempotencyServiceIntegrationTest {
+
+    @Autowired
+    IdempotencyService idempotencyService;
+
+    @Autowired
+    IdempotencyRepository idempotencyRepository;
+
+    @Autowired
+    OrderFacadeService orderFacadeService;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 주문을 새로 만들지 않고 처음 결과를 돌려준다")
+    void execute_sameKey_returnsStoredResult() {
+        // given
+        String key = UUID.randomUUID().toString();
+        CreateOrderCommand command = command();
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        OrderResult first = createOrder(idempotencyService, key, command, executions);
+        OrderResult second = createOrder(idempotencyService, key, command, executions);
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(second.orderId()).isEqualTo(first.orderId());
+        assertThat(second.totalAmount()).isEqualTo(first.totalAmount());
+        assertThat(idempotencyRepository.findById(IdempotencyRecord.idOf(IdempotencyScope.ORDER, key)))
+                .get()
+                .extracting(IdempotencyRecord::getResponseBody)
+                .asString()
+                .contains(first.orderId().toString());
+    }
+
+    @Test
+    @DisplayName("메모리 캐시가 없는 다른 인스턴스도 키 테이블에 저장된 결과를 돌려준다")
+    void execute_otherInstance_readsPersistedKey() {
+        // given
+        String key = UUID.randomUUID().toString();
+        CreateOrderCommand command = command();
+        AtomicInteger executions = new AtomicInteger();
+        OrderResult first = createOrder(idempotencyService, key, command, executions);
+        IdempotencyService otherInstance = otherInstance();
+
+        // when
+        OrderResult replayed = createOrder(otherInstance, key, command, executions);
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(replayed.orderId()).isEqualTo(first.orderId());
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 먼저 온 요청의 결과를 기다려 함께 받는다")
+    void execute_concurrentSameKey_runsOnce() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        CreateOrderCommand command = command();
+        AtomicInteger executions = new AtomicInteger();
+        int threads = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<OrderResult>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                return createOrder(idempotencyService, key, command, executions);
+            }));
+        }
+        ready.countDown();
+        Set<UUID> orderIds = ConcurrentHashMap.newKeySet();
+        for (Future<OrderResult> future : futures) {
+            orderIds.add(future.get().orderId());
+        }
+        executor.shutdown();
+
+        // then
+        System.out.println("동시 요청 " + threads + "건 -> 주문 생성 " + executions.get() + "회, 주문 ID " + orderIds);
+        assertThat(executions).hasValue(1);
+        assertThat(orderIds).hasSize(1);
+        assertThat(orderRepository.findById(orderIds.iterator().next())).isPresent();
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청 내용으로 재사용하면 거절한다")
+    void execute_sameKeyDifferentRequest_rejected() {
+        // given
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        createOrder(idempotencyService, key, command(), executions);
+        CreateOrderCommand other = CreateOrderCommand.of(100L,
+                List.of(new CreateOrderCommand.OrderItemCommand(3L, 2, 270)), null);
+
+        // expect
+        assertThatThrownBy(() -> createOrder(idempotencyService, key, other, executions))
+                .isInstanceOf(IdempotencyException.KeyReusedException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 처리 중 표시가 임대 시간보다 오래 남아 있으면 같은 요청이 이어받아 처리한다")
+    void executeOutsideTransaction_staleInProgressKey_isTakenOver() {
+        // given: 응답을 저장하지 못하고 죽은 요청이 남긴 키
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        pay(idempotencyService, key, executions);
+        leaveInProgress(key, LocalDateTime.now(Clock.systemUTC()).minusMinutes(5));
+
+        // when
+        String retried = pay(otherInstance(), key, executions);
+
+        // then
+        assertThat(executions).hasValue(2);
+        assertThat(retried).isEqualTo("paid-2");
+        assertThat(idempotencyRepository.findById(IdempotencyRecord.idOf(IdempotencyScope.PAYMENT, key)))
+                .get()
+                .extracting(IdempotencyRecord::getResponseBody)
+                .asString()
+                .contains("paid-2");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 처리 중 표시가 임대 시간 안이면 다른 인스턴스의 같은 요청은 거절한다")
+    void executeOutsideTransaction_freshInProgressKey_rejected() {
+        // given
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        pay(idempotencyService, key, executions);
+        leaveInProgress(key, LocalDateTime.now(Clock.systemUTC()));
+
+        // expect
+        assertThatThrownBy(() -> pay(otherInstance(), key, executions))
+                .isInstanceOf(IdempotencyException.InProgressException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    private String pay(IdempotencyService service, String key, AtomicInteger executions) {
+        return service.executeOutsideTransaction(IdempotencyScope.PAYMENT, key, "pay-request", String.class,
+                () -> "paid-" + executions.incrementAndGet());
+    }
+
+    private void leaveInProgress(String key, LocalDateTime startedAt) {
+        jdbcTemplate.update("UPDATE idempotency_key SET response_body = NULL, started_at = ? WHERE key_id = ?",
+                startedAt, IdempotencyRecord.idOf(IdempotencyScope.PAYMENT, key));
+    }
+
+    /**
+     * 메모리 캐시를 공유하지 않는 다른 인스턴스
+     */
+    private IdempotencyService otherInstance() {
+        return new IdempotencyService(idempotencyRepository, transactionTemplate, objectMapper, Clock.systemUTC(),
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), Duration.ofDays(1), Duration.ofMinutes(1));
+    }
+
+    private OrderResult createOrder(IdempotencyService service, String key, CreateOrderCommand command,
+                                    AtomicInteger executions) {
+        return service.execute(IdempotencyScope.ORDER, key, command, OrderResult.class, () -> {
+            executions.incrementAndGet();
+            return orderFacadeService.createOrder(command);
+        });
+    }
+
+    private static CreateOrderCommand command() {
+        return CreateOrderCommand.of(100L, List.of(new CreateOrderCommand.OrderItemCommand(3L, 1, 270)), null);
+    }
+}
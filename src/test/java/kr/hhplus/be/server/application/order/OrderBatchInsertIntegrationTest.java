@@ -0,0 +1,99 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 생성 시 실제로 준비(prepare)되는 SQL 문장 수를 세어 JDBC 배치가 동작하는지 확인한다.
+ * 트랜잭션이 커밋되어야 flush 되므로 테스트 자체에는 @Transactional 을 걸지 않는다.
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "kr.hhplus.be.server.application.order.OrderBatchInsertIntegrationTest$SqlRecorder")
+class OrderBatchInsertIntegrationTest {
+
+    @Autowired
+    OrderFacadeService orderFacadeService;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlRecorder.clear();
+    }
+
+    @Test
+    @DisplayName("5개 상품 주문의 주문 아이템 INSERT는 한 번의 배치 문장으로 실행되고, 주문 INSERT 전 조회가 없다")
+    void createOrder_batchesOrderItemInserts() {
+        // given
+        CreateOrderCommand command = CreateOrderCommand.of(100L, List.of(
+                new CreateOrderCommand.OrderItemCommand(1L, 1, 280),
+                new CreateOrderCommand.OrderItemCommand(2L, 1, 275),
+                new CreateOrderCommand.OrderItemCommand(3L, 1, 270),
+                new CreateOrderCommand.OrderItemCommand(4L, 1, 280),
+                new CreateOrderCommand.OrderItemCommand(5L, 1, 265)), null);
+
+        // when
+        OrderResult result = orderFacadeService.createOrder(command);
+        List<String> statements = SqlRecorder.statements();
+
+        // then
+        System.out.println("주문 1건(아이템 5개) 처리 SQL 문장 수: " + statements.size());
+        statements.forEach(sql -> System.out.println("  " + sql));
+
+        assertThat(count(statements, "insert into order_item")).isEqualTo(1);
+        assertThat(count(statements, "insert into orders")).isEqualTo(1);
+        assertThat(count(statements, "from orders")).isZero();
+
+        int savedItems = transactionTemplate.execute(status -> orderRepository.findById(result.orderId())
+                .map(Order::getItems)
+                .map(List::size)
+                .orElse(0));
+        assertThat(savedItems).isEqualTo(5);
+    }
+
+    private static long count(List<String> statements, String fragment) {
+        return statements.stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(fragment))
+                .count();
+    }
+
+    /**
+     * Hibernate가 JDBC 문장을 준비할 때마다 호출된다. 배치로 묶인 INSERT는 한 번만 기록된다.
+     */
+    public static class SqlRecorder implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
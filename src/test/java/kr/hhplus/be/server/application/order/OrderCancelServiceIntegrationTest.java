@@ -0,0 +1,190 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.application.coupon.CouponUseCase;
+import kr.hhplus.be.server.application.coupon.IssueLimitedCouponCommand;
+import kr.hhplus.be.server.application.payment.GatewayPaymentProcessor;
+import kr.hhplus.be.server.application.payment.PaymentFacadeService;
+import kr.hhplus.be.server.application.payment.RequestPaymentCommand;
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.balance.Balance;
+import kr.hhplus.be.server.domain.balance.BalanceHistoryRepository;
+import kr.hhplus.be.server.domain.balance.BalanceRepository;
+import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.domain.order.OrderException;
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.infrastructure.external.PaymentGatewayClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 보상이 실제로 커밋되는지 확인해야 하므로 @Transactional 없이 이 테스트 전용 상품, 잔액, 쿠폰을 만들어 쓴다.
+ */
+@SpringBootTest
+class OrderCancelServiceIntegrationTest {
+
+    private static final long INITIAL_BALANCE = 1_000_000L;
+    private static final int INITIAL_STOCK = 10;
+
+    @Autowired OrderCancelService orderCancelService;
+    @Autowired OrderFacadeService orderFacadeService;
+    @Autowired PaymentFacadeService paymentFacadeService;
+    @Autowired CouponUseCase couponUseCase;
+    @Autowired OrderRepository orderRepository;
+    @Autowired PaymentRepository paymentRepository;
+    @Autowired BalanceRepository balanceRepository;
+    @Autowired BalanceHistoryRepository balanceHistoryRepository;
+    @Autowired CouponRepository couponRepository;
+    @Autowired ProductRepository productRepository;
+    @Autowired ProductStockRepository stockRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @MockitoSpyBean PaymentGatewayClient gatewayClient;
+
+    private Long userId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        userId = ThreadLocalRandom.current().nextLong(1_000_000L, 2_000_000L);
+        balanceRepository.save(Balance.createNew(null, userId, Money.wons(INITIAL_BALANCE)));
+        Product product = productRepository.save(
+                Product.create("Cancel Product", "Brand", Money.wons(10000), LocalDate.now().minusDays(1), null, null));
+        productId = product.getId();
+        stockRepository.save(ProductStock.of(productId, 270, INITIAL_STOCK));
+    }
+
+    @Test
+    @DisplayName("결제된 쿠폰 주문을 취소하면 재고, 잔액, 쿠폰이 주문 전으로 돌아간다")
+    void cancel_paidOrderWithCoupon_restoresEverything() {
+        // given
+        String couponCode = issueCoupon();
+        OrderResult order = orderFacadeService.createOrder(new CreateOrderCommand(
+                userId, List.of(new CreateOrderCommand.OrderItemCommand(productId, 2, 270)), couponCode));
+        pay(order);
+        assertThat(stock()).isEqualTo(INITIAL_STOCK - 2);
+        assertThat(balance()).isEqualTo(INITIAL_BALANCE - order.totalAmount());
+        assertThat(couponUsed(couponCode)).isTrue();
+
+        // when
+        OrderResult cancelled = orderCancelService.cancel(CancelOrderCommand.of(order.orderId(), userId));
+
+        // then
+        assertThat(cancelled.status()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(orderRepository.findById(order.orderId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(paymentRepository.findByOrderId(order.orderId()).orElseThrow().getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+        assertThat(stock()).isEqualTo(INITIAL_STOCK);
+        assertThat(balance()).isEqualTo(INITIAL_BALANCE);
+        assertThat(couponUsed(couponCode)).isFalse();
+        assertThat(balanceHistoryRepository.existsByRequestId("refund-" + order.orderId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("카드로 결제된 주문을 취소하면 대행사 승인을 취소하고 잔액으로 환불하지 않는다")
+    void cancel_cardPaidOrder_cancelsGatewayApproval() {
+        // given
+        OrderResult order = orderFacadeService.createOrder(new CreateOrderCommand(
+                userId, List.of(new CreateOrderCommand.OrderItemCommand(productId, 1, 270)), null));
+        paymentFacadeService.requestPayment(new RequestPaymentCommand(
+                order.orderId(), userId, order.totalAmount(), GatewayPaymentProcessor.METHOD));
+        UUID paymentId = paymentRepository.findByOrderId(order.orderId()).orElseThrow().getId();
+
+        // when
+        orderCancelService.cancel(CancelOrderCommand.of(order.orderId(), userId));
+
+        // then
+        assertThat(paymentRepository.findByOrderId(order.orderId()).orElseThrow().getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+        assertThat(stock()).isEqualTo(INITIAL_STOCK);
+        assertThat(balance()).isEqualTo(INITIAL_BALANCE);
+        assertThat(balanceHistoryRepository.existsByRequestId("refund-" + order.orderId())).isFalse();
+        verify(gatewayClient, timeout(2_000)).cancel(paymentId);
+    }
+
+    @Test
+    @DisplayName("다른 사용자는 주문을 취소할 수 없다")
+    void cancel_otherUser_notFound() {
+        OrderResult order = orderFacadeService.createOrder(new CreateOrderCommand(
+                userId, List.of(new CreateOrderCommand.OrderItemCommand(productId, 1, 270)), null));
+
+        assertThatThrownBy(() -> orderCancelService.cancel(CancelOrderCommand.of(order.orderId(), userId + 1)))
+                .isInstanceOf(OrderException.NotFoundException.class);
+        assertThat(stock()).isEqualTo(INITIAL_STOCK - 1);
+    }
+
+    @Test
+    @DisplayName("일괄 취소는 결제 여부와 관계없이 한 번에 보상하고, 같은 목록으로 다시 실행해도 중복 보상하지 않는다")
+    void cancelAll_mixedOrders_isRepeatable() {
+        // given: 결제 완료 2건, 미결제 1건
+        List<UUID> orderIds = new ArrayList<>();
+        long paidTotal = 0;
+        for (int i = 0; i < 3; i++) {
+            OrderResult order = orderFacadeService.createOrder(new CreateOrderCommand(
+                    userId, List.of(new CreateOrderCommand.OrderItemCommand(productId, 1, 270)), null));
+            if (i < 2) {
+                pay(order);
+                paidTotal += order.totalAmount();
+            }
+            orderIds.add(order.orderId());
+        }
+
+        // when
+        OrderCancelResult first = orderCancelService.cancelAll(orderIds);
+        OrderCancelResult second = orderCancelService.cancelAll(orderIds);
+
+        // then
+        System.out.println("일괄 취소: " + first + ", 재실행: " + second);
+        assertThat(first).isEqualTo(new OrderCancelResult(3, 3, paidTotal));
+        assertThat(second).isEqualTo(new OrderCancelResult(3, 0, 0));
+        assertThat(stock()).isEqualTo(INITIAL_STOCK);
+        assertThat(balance()).isEqualTo(INITIAL_BALANCE);
+    }
+
+    private String issueCoupon() {
+        String code = "CANCEL-" + UUID.randomUUID().toString().substring(0, 8);
+        couponRepository.save(Coupon.createLimitedFixed(code, 5000, 10,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1)));
+        couponUseCase.issueLimitedCoupon(new IssueLimitedCouponCommand(userId, code));
+        return code;
+    }
+
+    private void pay(OrderResult order) {
+        paymentFacadeService.requestPayment(new RequestPaymentCommand(order.orderId(), userId, order.totalAmount(), "BALANCE"));
+    }
+
+    private int stock() {
+        return stockRepository.findByProductIdAndSize(productId, 270).orElseThrow().getStockQuantity();
+    }
+
+    private long balance() {
+        return balanceRepository.findByUserId(userId).orElseThrow().getAmount();
+    }
+
+    private boolean couponUsed(String code) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("""
+                SELECT ci.is_used FROM coupon_issue ci JOIN coupon c ON c.id = ci.coupon_id
+                WHERE c.code = ? AND ci.user_id = ?""", Boolean.class, code, userId));
+    }
+}
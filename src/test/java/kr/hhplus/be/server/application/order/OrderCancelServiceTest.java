@@ -0,0 +1,134 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.application.balance.BalanceUseCase;
+import kr.hhplus.be.server.application.balance.RefundBalanceCommand;
+import kr.hhplus.be.server.application.coupon.CouponUseCase;
+import kr.hhplus.be.server.application.payment.PaymentProcessor;
+import kr.hhplus.be.server.application.payment.PaymentProcessorRegistry;
+import kr.hhplus.be.server.application.payment.PaymentUseCase;
+import kr.hhplus.be.server.application.product.StockService;
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderException;
+import kr.hhplus.be.server.domain.order.OrderItem;
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.product.StockQuantityDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCancelServiceTest {
+
+    @Mock OrderRepository orderRepository;
+    @Mock StockService stockService;
+    @Mock PaymentUseCase paymentUseCase;
+    @Mock BalanceUseCase balanceUseCase;
+    @Mock CouponUseCase couponUseCase;
+    @Mock PaymentProcessorRegistry processorRegistry;
+    @Mock PaymentProcessor balanceProcessor;
+    @Mock PaymentProcessor cardProcessor;
+
+    @InjectMocks
+    OrderCancelService orderCancelService;
+
+    @Test
+    @DisplayName("결제된 쿠폰 주문을 취소하면 재고, 잔액, 쿠폰을 되돌린다")
+    void cancel_paidOrder_compensatesAll() {
+        // given
+        Order order = Order.create(1L, List.of(OrderItem.of(10L, 2, 270, Money.wons(5000))), Money.wons(8000), 77L, LocalDateTime.now());
+        order.markConfirmed();
+        Payment payment = Payment.createSuccess(order.getId(), Money.wons(8000), "BALANCE");
+        when(orderRepository.findAllWithItemsForUpdate(List.of(order.getId()))).thenReturn(List.of(order));
+        when(paymentUseCase.cancelSucceeded(Set.of(order.getId()))).thenReturn(List.of(payment));
+        when(processorRegistry.get("BALANCE")).thenReturn(balanceProcessor);
+
+        // when
+        OrderResult result = orderCancelService.cancel(CancelOrderCommand.of(order.getId(), 1L));
+
+        // then
+        assertThat(result.status()).isEqualTo(OrderStatus.CANCELLED);
+        verify(stockService).restoreAll(List.of(new StockQuantityDelta(10L, 270, 2)));
+        verify(couponUseCase).restoreUsage(List.of(77L));
+        verify(balanceUseCase).refundAll(List.of(RefundBalanceCommand.of(1L, order.getId(), 8000)));
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 주문은 찾을 수 없는 주문으로 취급하고 아무것도 되돌리지 않는다")
+    void cancel_otherUsersOrder_notFound() {
+        // given
+        Order order = Order.create(1L, List.of(OrderItem.of(10L, 1, 270, Money.wons(5000))), Money.wons(5000), LocalDateTime.now());
+        when(orderRepository.findAllWithItemsForUpdate(List.of(order.getId()))).thenReturn(List.of(order));
+
+        // expect
+        assertThatThrownBy(() -> orderCancelService.cancel(CancelOrderCommand.of(order.getId(), 2L)))
+                .isInstanceOf(OrderException.NotFoundException.class);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CREATED);
+        verifyNoInteractions(stockService, paymentUseCase, balanceUseCase, couponUseCase);
+    }
+
+    @Test
+    @DisplayName("일괄 취소는 이미 취소된 주문을 건너뛰고, 나머지 보상을 주문 수와 무관하게 한 번씩만 호출한다")
+    void cancelAll_batchesCompensations() {
+        // given
+        Order unpaid = Order.create(1L, List.of(OrderItem.of(10L, 1, 270, Money.wons(5000))), Money.wons(5000), LocalDateTime.now());
+        Order paid = Order.create(2L, List.of(
+                OrderItem.of(10L, 2, 270, Money.wons(5000)),
+                OrderItem.of(11L, 1, 260, Money.wons(3000))), Money.wons(13000), LocalDateTime.now());
+        paid.markConfirmed();
+        Order alreadyCancelled = Order.create(3L, List.of(OrderItem.of(10L, 1, 270, Money.wons(5000))), Money.wons(5000), LocalDateTime.now());
+        alreadyCancelled.cancel();
+        List<UUID> ids = List.of(unpaid.getId(), paid.getId(), alreadyCancelled.getId());
+        when(orderRepository.findAllWithItemsForUpdate(anyCollection())).thenReturn(List.of(unpaid, paid, alreadyCancelled));
+        when(paymentUseCase.cancelSucceeded(anyCollection()))
+                .thenReturn(List.of(Payment.createSuccess(paid.getId(), Money.wons(13000), "BALANCE")));
+        when(processorRegistry.get("BALANCE")).thenReturn(balanceProcessor);
+
+        // when
+        OrderCancelResult result = orderCancelService.cancelAll(ids);
+
+        // then
+        assertThat(result).isEqualTo(new OrderCancelResult(3, 2, 13000));
+        verify(stockService, times(1)).restoreAll(List.of(
+                new StockQuantityDelta(10L, 270, 1),
+                new StockQuantityDelta(10L, 270, 2),
+                new StockQuantityDelta(11L, 260, 1)));
+        verify(couponUseCase, times(1)).restoreUsage(List.of());
+        verify(balanceUseCase, times(1)).refundAll(List.of(RefundBalanceCommand.of(2L, paid.getId(), 13000)));
+    }
+
+    @Test
+    @DisplayName("카드로 결제된 주문을 취소하면 잔액으로 환불하지 않고 카드 프로세서로 승인을 취소한다")
+    void cancel_cardPaidOrder_cancelsGatewayApproval() {
+        // given
+        Order order = Order.create(1L, List.of(OrderItem.of(10L, 1, 270, Money.wons(5000))), Money.wons(5000), LocalDateTime.now());
+        order.markConfirmed();
+        Payment payment = Payment.createSuccess(order.getId(), Money.wons(5000), "CARD");
+        when(orderRepository.findAllWithItemsForUpdate(List.of(order.getId()))).thenReturn(List.of(order));
+        when(paymentUseCase.cancelSucceeded(Set.of(order.getId()))).thenReturn(List.of(payment));
+        when(processorRegistry.get("CARD")).thenReturn(cardProcessor);
+        when(cardProcessor.isExternal()).thenReturn(true);
+
+        // when
+        orderCancelService.cancel(CancelOrderCommand.of(order.getId(), 1L));
+
+        // then
+        verify(cardProcessor).compensate(payment);
+        verify(balanceUseCase).refundAll(List.of());
+    }
+}
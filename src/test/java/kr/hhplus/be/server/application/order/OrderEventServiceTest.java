@@ -10,6 +10,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static kr.hhplus.be.server.common.vo.Money.wons;
@@ -34,7 +35,8 @@ class OrderEventServiceTest {
         Order order = Order.create(
                 1L,
                 List.of(OrderItem.of(100L, 2, 260, wons(10000))),
-                wons(20000)
+                wons(20000),
+                LocalDateTime.now()
         );
 
         // when
@@ -1,15 +1,22 @@
 package kr.hhplus.be.server.application.order;
 
 import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.balance.BalanceException;
+import kr.hhplus.be.server.domain.balance.BalanceRepository;
 import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentRepository;
 import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.domain.product.ProductException;
+import kr.hhplus.be.server.domain.product.ProductRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,6 +32,15 @@ class OrderFacadeServiceIntegrationTest {
     @Autowired
     OrderRepository orderRepository;
 
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    BalanceRepository balanceRepository;
+
+    @Autowired
+    PaymentRepository paymentRepository;
+
     @Test
     @DisplayName("쿠폰 없이 단일 상품 주문이 성공한다")
     void createOrder_withoutCoupon_success() {
@@ -71,4 +87,59 @@ class OrderFacadeServiceIntegrationTest {
         assertThat(result.totalAmount()).isLessThan(price); // 정확한 discount 계산은 로직 따라
         assertThat(orderRepository.findById(result.orderId())).isPresent();
     }
+
+    @Test
+    @DisplayName("출시 전 상품이 포함된 주문은 실패한다")
+    void createOrder_notReleasedProduct_fails() {
+        Product unreleased = productRepository.save(Product.create("Upcoming", "Nike", Money.wons(150_000),
+                LocalDate.now().plusDays(30), "http://example.com/upcoming.jpg", "출시 예정"));
+        CreateOrderCommand command = CreateOrderCommand.of(
+                100L,
+                List.of(new CreateOrderCommand.OrderItemCommand(1L, 1, 270),
+                        new CreateOrderCommand.OrderItemCommand(unreleased.getId(), 1, 270)),
+                null
+        );
+
+        assertThatThrownBy(() -> orderFacadeService.createOrder(command))
+                .isInstanceOf(ProductException.NotReleasedException.class);
+    }
+
+    @Test
+    @DisplayName("원스텝 구매는 결제 완료 상태의 주문을 만들고 잔액 차감과 결제 기록까지 끝낸다")
+    void checkout_success() {
+        // given
+        Long userId = 100L;
+        long before = balanceRepository.findByUserId(userId).orElseThrow().getAmount();
+        CreateOrderCommand command = CreateOrderCommand.of(
+                userId,
+                List.of(new CreateOrderCommand.OrderItemCommand(1L, 1, 270)),
+                null
+        );
+
+        // when
+        OrderResult result = orderFacadeService.checkout(command);
+
+        // then
+        assertThat(result.status()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(orderRepository.findById(result.orderId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(balanceRepository.findByUserId(userId).orElseThrow().getAmount()).isEqualTo(before - result.totalAmount());
+        Payment payment = paymentRepository.findByOrderId(result.orderId()).orElseThrow();
+        assertThat(payment.isSuccess()).isTrue();
+        assertThat(payment.getAmount()).isEqualTo(result.totalAmount());
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 원스텝 구매는 실패한다")
+    void checkout_notEnoughBalance_fails() {
+        // given: User 101의 잔액 300,000
+        CreateOrderCommand command = CreateOrderCommand.of(
+                101L,
+                List.of(new CreateOrderCommand.OrderItemCommand(1L, 2, 270)),
+                null
+        );
+
+        // expect
+        assertThatThrownBy(() -> orderFacadeService.checkout(command))
+                .isInstanceOf(BalanceException.NotEnoughBalanceException.class);
+    }
 }
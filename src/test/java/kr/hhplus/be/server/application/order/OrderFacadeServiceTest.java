@@ -1,8 +1,12 @@
 package kr.hhplus.be.server.application.order;
 
+import kr.hhplus.be.server.application.balance.BalanceUseCase;
+import kr.hhplus.be.server.application.balance.DecreaseBalanceCommand;
 import kr.hhplus.be.server.application.coupon.ApplyCouponCommand;
 import kr.hhplus.be.server.application.coupon.ApplyCouponResult;
 import kr.hhplus.be.server.application.coupon.CouponUseCase;
+import kr.hhplus.be.server.application.payment.PaymentCommand;
+import kr.hhplus.be.server.application.payment.PaymentUseCase;
 import kr.hhplus.be.server.application.product.*;
 import kr.hhplus.be.server.common.vo.Money;
 import kr.hhplus.be.server.domain.coupon.CouponType;
@@ -13,7 +17,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -26,6 +32,8 @@ class OrderFacadeServiceTest {
     private OrderEventService orderEventService;
     private CouponUseCase couponUseCase;
     private StockService stockService;
+    private BalanceUseCase balanceUseCase;
+    private PaymentUseCase paymentUseCase;
 
     private OrderFacadeService orderFacadeService;
 
@@ -36,8 +44,11 @@ class OrderFacadeServiceTest {
         orderEventService = mock(OrderEventService.class);
         couponUseCase = mock(CouponUseCase.class);
         stockService = mock(StockService.class);
+        balanceUseCase = mock(BalanceUseCase.class);
+        paymentUseCase = mock(PaymentUseCase.class);
 
-        orderFacadeService = new OrderFacadeService(productService, orderService, orderEventService, couponUseCase, stockService);
+        orderFacadeService = new OrderFacadeService(productService, orderService, orderEventService, couponUseCase,
+                stockService, balanceUseCase, paymentUseCase);
     }
 
     @Test
@@ -55,26 +66,23 @@ class OrderFacadeServiceTest {
         CreateOrderCommand.OrderItemCommand itemCommand = new CreateOrderCommand.OrderItemCommand(productId, quantity, size);
         CreateOrderCommand command = new CreateOrderCommand(userId, List.of(itemCommand), couponCode);
 
-        ProductDetailResult productResult = new ProductDetailResult(
-                new ProductInfo(productId, "Test Product", price, 10)
-        );
-
         ApplyCouponResult couponResult = new ApplyCouponResult(
                 couponCode,
                 CouponType.FIXED,
                 2000,
-                Money.wons(discountAmount)
+                Money.wons(discountAmount),
+                77L
         );
 
         Money originalTotal = Money.wons(price * quantity);
         Money discountedTotal = originalTotal.subtract(couponResult.discountAmount());
 
-        when(productService.getProductDetail(any(GetProductDetailCommand.class))).thenReturn(productResult);
+        when(productService.getOrderablePrices(List.of(productId))).thenReturn(Map.of(productId, price));
         when(couponUseCase.applyCoupon(any(ApplyCouponCommand.class))).thenReturn(couponResult);
-        when(orderService.createOrder(eq(userId), anyList(), eq(discountedTotal)))
+        when(orderService.createOrder(eq(userId), anyList(), eq(discountedTotal), eq(77L)))
                 .thenReturn(Order.create(userId,
                         List.of(OrderItem.of(productId, quantity, size, Money.wons(4000))), // 할인 적용된 가격
-                        discountedTotal));
+                        discountedTotal, LocalDateTime.now()));
 
         // when
         OrderResult result = orderFacadeService.createOrder(command);
@@ -87,10 +95,71 @@ class OrderFacadeServiceTest {
         assertThat(result.status()).isEqualTo(OrderStatus.CREATED);
 
         // verify interactions
-        verify(productService).getProductDetail(any(GetProductDetailCommand.class));
+        verify(productService).getOrderablePrices(List.of(productId));
+        verify(productService, never()).getProductDetail(any(GetProductDetailCommand.class));
         verify(couponUseCase).applyCoupon(any(ApplyCouponCommand.class));
-        verify(orderService).createOrder(eq(userId), anyList(), eq(discountedTotal));
+        verify(orderService).createOrder(eq(userId), anyList(), eq(discountedTotal), eq(77L));
         verify(orderEventService).recordPaymentCompletedEvent(any(Order.class));
-        verify(stockService).decrease(any(DecreaseStockCommand.class));
+        verify(stockService).decreaseAll(List.of(DecreaseStockCommand.of(productId, size, quantity)));
+    }
+
+    @Test
+    @DisplayName("여러 상품 주문은 가격을 한 번에 조회하고 상품별 가격으로 합계를 계산한다")
+    void createOrder_multipleItems_loadsPricesOnce() {
+        // given
+        Long userId = 1L;
+        List<CreateOrderCommand.OrderItemCommand> items = List.of(
+                new CreateOrderCommand.OrderItemCommand(1L, 1, 270),
+                new CreateOrderCommand.OrderItemCommand(2L, 2, 260),
+                new CreateOrderCommand.OrderItemCommand(3L, 1, 250),
+                new CreateOrderCommand.OrderItemCommand(1L, 1, 280),
+                new CreateOrderCommand.OrderItemCommand(4L, 1, 270));
+        CreateOrderCommand command = new CreateOrderCommand(userId, items, null);
+        Money expectedTotal = Money.wons(1000 + 2000 * 2 + 3000 + 1000 + 4000);
+
+        when(productService.getOrderablePrices(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(Map.of(1L, 1000L, 2L, 2000L, 3L, 3000L, 4L, 4000L));
+        when(orderService.createOrder(eq(userId), anyList(), eq(expectedTotal), isNull()))
+                .thenReturn(Order.create(userId, List.of(OrderItem.of(1L, 1, 270, Money.wons(1000))), expectedTotal, LocalDateTime.now()));
+
+        // when
+        OrderResult result = orderFacadeService.createOrder(command);
+
+        // then
+        assertThat(result.totalAmount()).isEqualTo(expectedTotal.value());
+        verify(productService, times(1)).getOrderablePrices(anyCollection());
+        verify(productService, never()).getProductDetail(any(GetProductDetailCommand.class));
+        verify(stockService, times(1)).decreaseAll(anyList());
+    }
+
+    @Test
+    @DisplayName("원스텝 구매는 재고, 쿠폰, 잔액 순으로 차감하고 결제 완료 주문을 바로 저장한다")
+    void checkout_reservesThenSavesConfirmedOrder() {
+        // given
+        Long userId = 1L;
+        CreateOrderCommand command = new CreateOrderCommand(userId,
+                List.of(new CreateOrderCommand.OrderItemCommand(1001L, 2, 270)), "DISCOUNT10");
+        Money discountedTotal = Money.wons(5000 * 2 - 2000);
+        Order confirmed = Order.create(userId, List.of(OrderItem.of(1001L, 2, 270, Money.wons(5000))), discountedTotal, LocalDateTime.now());
+        confirmed.markConfirmed();
+
+        when(productService.getOrderablePrices(List.of(1001L))).thenReturn(Map.of(1001L, 5000L));
+        when(couponUseCase.applyCoupon(any(ApplyCouponCommand.class)))
+                .thenReturn(new ApplyCouponResult("DISCOUNT10", CouponType.FIXED, 2000, Money.wons(2000), 77L));
+        when(orderService.createConfirmedOrder(eq(userId), anyList(), eq(discountedTotal), eq(77L))).thenReturn(confirmed);
+
+        // when
+        OrderResult result = orderFacadeService.checkout(command);
+
+        // then
+        assertThat(result.status()).isEqualTo(OrderStatus.CONFIRMED);
+        var inOrder = inOrder(stockService, couponUseCase, balanceUseCase, orderService, paymentUseCase, orderEventService);
+        inOrder.verify(stockService).decreaseAll(List.of(DecreaseStockCommand.of(1001L, 270, 2)));
+        inOrder.verify(couponUseCase).applyCoupon(any(ApplyCouponCommand.class));
+        inOrder.verify(balanceUseCase).decreaseBalance(new DecreaseBalanceCommand(userId, discountedTotal.value()));
+        inOrder.verify(orderService).createConfirmedOrder(eq(userId), anyList(), eq(discountedTotal), eq(77L));
+        inOrder.verify(paymentUseCase).recordSuccess(new PaymentCommand(confirmed.getId(), discountedTotal, "BALANCE"));
+        inOrder.verify(orderEventService).recordPaymentCompletedEvent(confirmed);
+        verify(orderService, never()).createOrder(any(), anyList(), any(), any());
     }
 }
@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 PK 저장 방식별 INSERT 처리량 비교.
+ * - 기존: 랜덤 UUIDv4 문자열 + VARCHAR(64) utf8mb4
+ * - 중간: UUIDv7 문자열 + CHAR(36) ascii
+ * - 현재: UUIDv7 + BINARY(16) (orders / payment 스키마와 같은 형태)
+ * 대량 데이터를 적재하므로 BENCHMARK=true 일 때만 실행한다.
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class OrderIdInsertBenchmarkTest {
+
+    private static final int CHUNK = 1_000;
+
+    private static final Map<String, String> KEY_TYPES = Map.of(
+            "bench_order_uuid4_varchar", "VARCHAR(64) CHARACTER SET utf8mb4",
+            "bench_order_uuid7_char", "CHAR(36) CHARACTER SET ascii COLLATE ascii_bin",
+            "bench_order_uuid7_binary", "BINARY(16)");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        KEY_TYPES.keySet().forEach(table -> jdbcTemplate.execute("DROP TABLE IF EXISTS " + table));
+    }
+
+    @ParameterizedTest(name = "{0} rows")
+    @ValueSource(ints = {100_000, 500_000})
+    @DisplayName("주문 PK 저장 방식별 INSERT 처리량과 인덱스 크기 비교")
+    void compareKeyStorage(int rows) {
+        // given
+        KEY_TYPES.forEach((table, keyType) -> jdbcTemplate.execute("""
+                CREATE TABLE %s (
+                    id %s PRIMARY KEY,
+                    user_id BIGINT NOT NULL,
+                    created_at DATETIME NOT NULL,
+                    KEY idx_user_id (user_id)
+                ) ENGINE=InnoDB""".formatted(table, keyType)));
+
+        // when
+        double randomMs = insert("bench_order_uuid4_varchar", rows, () -> UUID.randomUUID().toString());
+        double charMs = insert("bench_order_uuid7_char", rows, TimeOrderedIds::nextString);
+        double binaryMs = insert("bench_order_uuid7_binary", rows, () -> TimeOrderedIds.toBytes(TimeOrderedIds.next()));
+
+        // then
+        KEY_TYPES.keySet().forEach(table ->
+                assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class)).isEqualTo(rows));
+
+        System.out.printf("[%,d rows] UUIDv7 BINARY(16): %.0f ms (%,.0f rows/s) / UUIDv4 VARCHAR: %.0f ms (x%.2f), UUIDv7 CHAR(36): %.0f ms (x%.2f)%n",
+                rows, binaryMs, rows / binaryMs * 1_000, randomMs, randomMs / binaryMs, charMs, charMs / binaryMs);
+        KEY_TYPES.keySet().forEach(table -> {
+            jdbcTemplate.execute("ANALYZE TABLE " + table);
+            Map<String, Object> size = jdbcTemplate.queryForMap(
+                    "SELECT data_length, index_length FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+                    table);
+            System.out.printf("  %-28s clustered %,d KB, secondary %,d KB%n", table,
+                    ((Number) size.get("data_length")).longValue() / 1024,
+                    ((Number) size.get("index_length")).longValue() / 1024);
+        });
+    }
+
+    private double measure(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    private double insert(String table, int rows, Supplier<Object> idSupplier) {
+        String sql = "INSERT INTO " + table + " (id, user_id, created_at) VALUES (?, ?, ?)";
+        LocalDateTime now = LocalDateTime.now();
+        return measure(() -> {
+            List<Object[]> chunk = new ArrayList<>(CHUNK);
+            for (int i = 0; i < rows; i++) {
+                chunk.add(new Object[]{idSupplier.get(), (long) (i % 50_000), now});
+                if (chunk.size() == CHUNK) {
+                    jdbcTemplate.batchUpdate(sql, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, chunk);
+            }
+        });
+    }
+}
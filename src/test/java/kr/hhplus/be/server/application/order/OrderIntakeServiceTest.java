@@ -0,0 +1,139 @@
+package kr.hhplus.be.server.application.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.TestClock;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import kr.hhplus.be.server.domain.order.OrderException;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import kr.hhplus.be.server.domain.product.ProductException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OrderIntakeServiceTest {
+
+    private static final UUID ORDER_ID = UUID.fromString("01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d");
+
+    private final OrderFacadeService orderFacadeService = mock(OrderFacadeService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TestClock clock = TestClock.at("2025-05-01T12:00:00Z");
+    private OrderIntakeService intakeService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (intakeService != null) {
+            intakeService.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("접수하면 QUEUED 티켓을 바로 돌려주고, 워커가 주문을 생성하면 COMPLETED로 바뀐다")
+    void submit_completesInBackground() throws InterruptedException {
+        // given
+        intakeService = start(10, 1);
+        when(orderFacadeService.createOrder(any())).thenReturn(orderResult(ORDER_ID));
+
+        // when
+        OrderIntakeTicket ticket = intakeService.submit(command());
+
+        // then
+        assertThat(ticket.status()).isEqualTo(OrderIntakeStatus.QUEUED);
+        OrderIntakeTicket finished = awaitFinished(ticket.ticketId());
+        assertThat(finished.status()).isEqualTo(OrderIntakeStatus.COMPLETED);
+        assertThat(finished.orderId()).isEqualTo(ORDER_ID);
+        assertThat(meterRegistry.get("order.intake.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주문 생성이 업무 예외로 실패하면 FAILED 티켓에 에러 코드를 남긴다")
+    void submit_businessFailure_marksFailed() throws InterruptedException {
+        // given
+        intakeService = start(10, 1);
+        when(orderFacadeService.createOrder(any())).thenThrow(new ProductException.InsufficientStockException("재고가 부족합니다."));
+
+        // when
+        OrderIntakeTicket ticket = intakeService.submit(command());
+
+        // then
+        OrderIntakeTicket finished = awaitFinished(ticket.ticketId());
+        assertThat(finished.status()).isEqualTo(OrderIntakeStatus.FAILED);
+        assertThat(finished.errorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거절하고 거절 수를 기록한다")
+    void submit_queueFull_rejects() throws InterruptedException {
+        // given: 워커 1개가 첫 주문을 붙잡고 있는 동안 대기열(1칸)을 채운다
+        intakeService = start(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderFacadeService.createOrder(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return orderResult(ORDER_ID);
+        });
+        intakeService.submit(command());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        intakeService.submit(command());
+
+        // expect
+        assertThatThrownBy(() -> intakeService.submit(command()))
+                .isInstanceOf(OrderException.IntakeQueueFullException.class);
+        assertThat(meterRegistry.get("order.intake.queue.depth").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("order.intake.rejected").counter().count()).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 처리 완료 티켓은 정리되어 더 이상 조회되지 않는다")
+    void evictFinishedTickets_removesExpired() throws InterruptedException {
+        // given
+        intakeService = start(10, 1);
+        when(orderFacadeService.createOrder(any())).thenReturn(orderResult(ORDER_ID));
+        OrderIntakeTicket ticket = intakeService.submit(command());
+        awaitFinished(ticket.ticketId());
+
+        // when
+        clock.advance(Duration.ofMinutes(11));
+        intakeService.evictFinishedTickets();
+
+        // then
+        assertThatThrownBy(() -> intakeService.getTicket(ticket.ticketId()))
+                .isInstanceOf(OrderException.TicketNotFoundException.class);
+    }
+
+    private OrderIntakeService start(int queueCapacity, int workers) {
+        OrderIntakeService service = new OrderIntakeService(orderFacadeService, meterRegistry, clock,
+                queueCapacity, workers, Duration.ofMinutes(10));
+        service.start();
+        return service;
+    }
+
+    private OrderIntakeTicket awaitFinished(String ticketId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        OrderIntakeTicket ticket = intakeService.getTicket(ticketId);
+        while (!ticket.status().isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            ticket = intakeService.getTicket(ticketId);
+        }
+        return ticket;
+    }
+
+    private static CreateOrderCommand command() {
+        return CreateOrderCommand.of(100L, List.of(new CreateOrderCommand.OrderItemCommand(1L, 1, 270)), null);
+    }
+
+    private static OrderResult orderResult(UUID orderId) {
+        return new OrderResult(orderId, 100L, List.of(), 199_000L, OrderStatus.CREATED, LocalDateTime.now());
+    }
+}
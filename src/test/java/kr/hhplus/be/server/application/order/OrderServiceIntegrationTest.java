@@ -6,10 +6,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import jakarta.persistence.EntityManager;
 import org.springframework.transaction.annotation.Transactional;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 
 @SpringBootTest
@@ -22,6 +28,9 @@ class OrderServiceIntegrationTest {
     @Autowired
     OrderService orderService;
 
+    @Autowired
+    EntityManager entityManager;
+
     @Test
     @DisplayName("주문을 생성하고 DB에 저장되며, 연관된 주문 상품도 저장된다")
     void createOrder_success() {
@@ -70,5 +79,39 @@ class OrderServiceIntegrationTest {
         assertThat(confirmed.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
     }
 
+    @Test
+    @DisplayName("사용자 주문 목록을 커서로 끝까지 넘기면 모든 주문을 최신순으로 중복 없이 상품과 함께 받는다")
+    void getOrders_cursorTraversal() {
+        // given: 같은 초에 생성된 주문이 섞이도록 빠르게 25건을 만든다
+        Long userId = 9_001L;
+        List<UUID> createdIds = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            List<OrderItem> items = List.of(
+                    OrderItem.of(1L, 1, 270, Money.wons(199000L)),
+                    OrderItem.of(2L, 1, 275, Money.wons(169000L)));
+            createdIds.add(orderService.createOrder(userId, items, Money.wons(368000L)).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<OrderResult> traversed = new ArrayList<>();
+        Set<String> cursors = new HashSet<>();
+        String cursor = null;
+        do {
+            OrderListResult page = orderService.getOrders(GetOrderListCommand.of(userId, cursor, 10));
+            assertThat(page.orders()).hasSizeLessThanOrEqualTo(10);
+            traversed.addAll(page.orders());
+            cursor = page.nextCursor();
+        } while (cursor != null && cursors.add(cursor));
+
+        // then
+        Collections.reverse(createdIds);
+        assertThat(cursors).hasSize(2);
+        assertThat(traversed).extracting(OrderResult::orderId)
+                .containsExactlyElementsOf(createdIds);
+        assertThat(traversed).allSatisfy(order -> assertThat(order.items()).hasSize(2));
+    }
+
 }
 
@@ -6,6 +6,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,13 +18,15 @@ import static org.mockito.Mockito.*;
 
 class OrderServiceTest {
 
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 5, 1, 12, 0);
+
     private OrderRepository orderRepository;
     private OrderService orderService;
 
     @BeforeEach
     void setUp() {
         orderRepository = mock(OrderRepository.class);
-        orderService = new OrderService(orderRepository);
+        orderService = new OrderService(orderRepository, Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
     }
 
     @Test
@@ -40,6 +45,7 @@ class OrderServiceTest {
         assertThat(result.getUserId()).isEqualTo(userId);
         assertThat(result.getItems()).hasSize(1);
         assertThat(result.getTotalAmount()).isEqualTo(total.value());
+        assertThat(result.getCreatedAt()).isEqualTo(NOW);
 
         verify(orderRepository).save(result);
     }
@@ -48,7 +54,7 @@ class OrderServiceTest {
     @DisplayName("결제 가능한 주문을 조회할 수 있다")
     void getOrderForPayment_success() {
         // given
-        String orderId = UUID.randomUUID().toString();
+        UUID orderId = UUID.randomUUID();
         Order mockOrder = mock(Order.class);
 
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(mockOrder));
@@ -65,13 +71,13 @@ class OrderServiceTest {
     @DisplayName("존재하지 않는 주문 조회 시 예외 발생")
     void getOrderForPayment_notFound() {
         // given
-        String orderId = "non-existent";
+        UUID orderId = UUID.randomUUID();
         when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> orderService.getOrderForPayment(orderId))
                 .isInstanceOf(OrderException.NotFoundException.class)
-                .hasMessageContaining(orderId);
+                .hasMessageContaining(orderId.toString());
     }
 
     @Test
@@ -87,4 +93,93 @@ class OrderServiceTest {
         verify(order).markConfirmed();
         verify(orderRepository).save(order);
     }
+
+    @Test
+    @DisplayName("조건부 UPDATE가 반영되지 않으면 현재 상태를 담아 결제 불가 예외를 던진다")
+    void confirmIfPayable_alreadyConfirmed() {
+        // given
+        Order order = Order.create(1L, List.of(OrderItem.of(101L, 1, 260, Money.wons(10000))), Money.wons(10000), LocalDateTime.now());
+        order.markConfirmed();
+        when(orderRepository.confirmIfCreated(order.getId())).thenReturn(0);
+        when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.confirmIfPayable(order.getId()))
+                .isInstanceOf(OrderException.InvalidStateException.class)
+                .hasMessageContaining("CONFIRMED");
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE가 반영되면 주문을 조회하지 않는다")
+    void confirmIfPayable_success() {
+        UUID orderId = UUID.randomUUID();
+        when(orderRepository.confirmIfCreated(orderId)).thenReturn(1);
+
+        orderService.confirmIfPayable(orderId);
+
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("주문 목록은 키를 먼저 조회한 뒤 해당 주문들을 한 번에 읽고, 키 순서대로 돌려준다")
+    void getOrders_twoPhase_keepsKeyOrder() {
+        // given
+        Order newer = Order.create(1L, List.of(OrderItem.of(101L, 1, 260, Money.wons(10000))), Money.wons(10000), LocalDateTime.now());
+        Order older = Order.create(1L, List.of(OrderItem.of(102L, 1, 270, Money.wons(20000))), Money.wons(20000), LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.of(2025, 5, 1, 12, 0);
+        List<OrderPageKey> keys = List.of(
+                new OrderPageKey(newer.getId(), now),
+                new OrderPageKey(older.getId(), now.minusMinutes(1)));
+        when(orderRepository.findKeysByUserId(1L, null, 3)).thenReturn(keys);
+        when(orderRepository.findAllWithItems(List.of(newer.getId(), older.getId())))
+                .thenReturn(List.of(older, newer));
+
+        // when
+        OrderListResult result = orderService.getOrders(GetOrderListCommand.of(1L, null, 2));
+
+        // then
+        assertThat(result.orders()).extracting(OrderResult::orderId)
+                .containsExactly(newer.getId(), older.getId());
+        assertThat(result.nextCursor()).isNull();
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("요청한 크기보다 키가 더 있으면 마지막 주문 위치를 다음 커서로 돌려준다")
+    void getOrders_hasNext_returnsCursor() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 5, 1, 12, 0);
+        Order first = Order.create(1L, List.of(OrderItem.of(101L, 1, 260, Money.wons(10000))), Money.wons(10000), LocalDateTime.now());
+        OrderPageKey firstKey = new OrderPageKey(first.getId(), now);
+        OrderPageKey extraKey = new OrderPageKey(UUID.randomUUID(), now.minusMinutes(1));
+        when(orderRepository.findKeysByUserId(1L, null, 2)).thenReturn(List.of(firstKey, extraKey));
+        when(orderRepository.findAllWithItems(List.of(first.getId()))).thenReturn(List.of(first));
+
+        // when
+        OrderListResult result = orderService.getOrders(GetOrderListCommand.of(1L, null, 1));
+
+        // then
+        assertThat(result.orders()).hasSize(1);
+        assertThat(OrderCursor.decode(result.nextCursor())).isEqualTo(firstKey);
+    }
+
+    @Test
+    @DisplayName("키 조회 뒤 삭제된 주문은 목록에서 빠지고, 다음 커서는 마지막 키 위치를 유지한다")
+    void getOrders_orderDeletedBetweenQueries_skipped() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 5, 1, 12, 0);
+        Order remaining = Order.create(1L, List.of(OrderItem.of(101L, 1, 260, Money.wons(10000))), Money.wons(10000), LocalDateTime.now());
+        OrderPageKey remainingKey = new OrderPageKey(remaining.getId(), now);
+        OrderPageKey deletedKey = new OrderPageKey(UUID.randomUUID(), now.minusMinutes(1));
+        OrderPageKey extraKey = new OrderPageKey(UUID.randomUUID(), now.minusMinutes(2));
+        when(orderRepository.findKeysByUserId(1L, null, 3)).thenReturn(List.of(remainingKey, deletedKey, extraKey));
+        when(orderRepository.findAllWithItems(List.of(remaining.getId(), deletedKey.orderId()))).thenReturn(List.of(remaining));
+
+        // when
+        OrderListResult result = orderService.getOrders(GetOrderListCommand.of(1L, null, 2));
+
+        // then
+        assertThat(result.orders()).extracting(OrderResult::orderId).containsExactly(remaining.getId());
+        assertThat(OrderCursor.decode(result.nextCursor())).isEqualTo(deletedKey);
+    }
 }
@@ -0,0 +1,130 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.application.coupon.CouponUseCase;
+import kr.hhplus.be.server.application.coupon.IssueLimitedCouponCommand;
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 만료된 미결제 주문 회수 통합 테스트.
+ * 다른 테스트의 미결제 주문을 건드리지 않도록 이 테스트의 주문만 과거 시각으로 옮겨서 회수한다.
+ */
+@SpringBootTest
+class StockHoldReclaimServiceIntegrationTest {
+
+    private static final LocalDateTime PAST = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired StockHoldReclaimService reclaimService;
+    @Autowired OrderFacadeService orderFacadeService;
+    @Autowired OrderRepository orderRepository;
+    @Autowired ProductRepository productRepository;
+    @Autowired ProductStockRepository stockRepository;
+    @Autowired CouponRepository couponRepository;
+    @Autowired CouponUseCase couponUseCase;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = productRepository.save(
+                Product.create("Hold Product", "Brand", Money.wons(10000), LocalDate.now().minusDays(1), null, null));
+        productId = product.getId();
+        stockRepository.save(ProductStock.of(productId, 270, 10));
+    }
+
+    @Test
+    @DisplayName("보유 시간이 지난 미결제 주문을 페이지 단위로 취소하고 재고를 되돌린다")
+    void reclaimExpiredOrders() {
+        List<UUID> orderIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            OrderResult order = orderFacadeService.createOrder(new CreateOrderCommand(
+                    2000L + i, List.of(new CreateOrderCommand.OrderItemCommand(productId, 2, 270)), null));
+            jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id = ?", PAST.plusSeconds(i), TimeOrderedIds.toBytes(order.orderId()));
+            orderIds.add(order.orderId());
+        }
+        assertThat(stock()).isEqualTo(4);
+
+        LocalDateTime now = PAST.plusMinutes(30);
+        StockHoldReclaimResult first = reclaimService.reclaimPage(now, null, 2);
+        StockHoldReclaimResult second = reclaimService.reclaimPage(now, first.last(), 2);
+
+        assertThat(first.cancelled()).isEqualTo(2);
+        assertThat(second.cancelled()).isEqualTo(1);
+        assertThat(orderIds).allSatisfy(id ->
+                assertThat(orderRepository.findById(id).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELLED));
+        assertThat(stock()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("회수한 주문에 쓴 쿠폰은 다시 사용할 수 있게 된다")
+    void reclaimExpiredOrder_restoresCoupon() {
+        // given
+        Long userId = 4000L;
+        String code = "HOLD-" + UUID.randomUUID().toString().substring(0, 8);
+        couponRepository.save(Coupon.createLimitedFixed(code, 1000, 10,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1)));
+        couponUseCase.issueLimitedCoupon(new IssueLimitedCouponCommand(userId, code));
+        OrderResult order = orderFacadeService.createOrder(new CreateOrderCommand(
+                userId, List.of(new CreateOrderCommand.OrderItemCommand(productId, 1, 270)), code));
+        // 다른 테스트가 PAST 에 남긴 주문과 섞이지 않도록 더 이른 시각으로 옮긴다
+        LocalDateTime createdAt = PAST.minusDays(1);
+        jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id = ?", createdAt, TimeOrderedIds.toBytes(order.orderId()));
+        assertThat(couponUsed(code, userId)).isTrue();
+
+        // when
+        StockHoldReclaimResult result = reclaimService.reclaimPage(createdAt.plusMinutes(30), null, 10);
+
+        // then
+        assertThat(result.cancelled()).isEqualTo(1);
+        assertThat(orderRepository.findById(order.orderId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(stock()).isEqualTo(10);
+        assertThat(couponUsed(code, userId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("보유 시간이 남은 주문은 회수하지 않는다")
+    void keepsOrdersWithinHold() {
+        OrderResult order = orderFacadeService.createOrder(new CreateOrderCommand(
+                3000L, List.of(new CreateOrderCommand.OrderItemCommand(productId, 2, 270)), null));
+        jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id = ?", PAST, TimeOrderedIds.toBytes(order.orderId()));
+
+        StockHoldReclaimResult result = reclaimService.reclaimPage(PAST.plusMinutes(5), null, 10);
+
+        assertThat(result.cancelled()).isZero();
+        assertThat(orderRepository.findById(order.orderId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.CREATED);
+        assertThat(stock()).isEqualTo(8);
+    }
+
+    private int stock() {
+        return stockRepository.findByProductIdAndSize(productId, 270).orElseThrow().getStockQuantity();
+    }
+
+    private boolean couponUsed(String code, Long userId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("""
+                SELECT ci.is_used FROM coupon_issue ci JOIN coupon c ON c.id = ci.coupon_id
+                WHERE c.code = ? AND ci.user_id = ?""", Boolean.class, code, userId));
+    }
+}
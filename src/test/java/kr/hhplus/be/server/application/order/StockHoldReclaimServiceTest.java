@@ -0,0 +1,105 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderItem;
+import kr.hhplus.be.server.domain.order.OrderPageKey;
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockHoldReclaimServiceTest {
+
+    @Mock
+    OrderRepository orderRepository;
+
+    @Mock
+    OrderCancelService orderCancelService;
+
+    @InjectMocks
+    StockHoldReclaimService reclaimService;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reclaimService, "holdTtl", Duration.ofMinutes(15));
+    }
+
+    @Test
+    @DisplayName("만료된 미결제 주문을 잠근 뒤 주문 취소 경로로 한 번에 취소한다")
+    void reclaimPage_cancelsExpiredOrders() {
+        // given
+        Order first = order(now.minusMinutes(30), OrderItem.of(1L, 2, 270, Money.wons(1000)));
+        Order second = order(now.minusMinutes(20),
+                OrderItem.of(1L, 1, 270, Money.wons(1000)), OrderItem.of(2L, 3, 260, Money.wons(1000)));
+        List<OrderPageKey> keys = List.of(key(first), key(second));
+        when(orderRepository.findKeysByStatusCreatedBefore(OrderStatus.CREATED, now.minusMinutes(15), null, 10))
+                .thenReturn(keys);
+        when(orderRepository.findAllWithItemsForUpdate(List.of(first.getId(), second.getId()))).thenReturn(List.of(first, second));
+
+        // when
+        StockHoldReclaimResult result = reclaimService.reclaimPage(now, null, 10);
+
+        // then
+        assertThat(result.scanned()).isEqualTo(2);
+        assertThat(result.cancelled()).isEqualTo(2);
+        assertThat(result.last()).isEqualTo(key(second));
+        verify(orderCancelService).cancelLocked(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("락을 잡기 전에 결제된 주문은 취소하지 않는다")
+    void reclaimPage_skipsOrdersPaidMeanwhile() {
+        // given
+        Order paid = order(now.minusMinutes(30), OrderItem.of(1L, 2, 270, Money.wons(1000)));
+        paid.markConfirmed();
+        when(orderRepository.findKeysByStatusCreatedBefore(eq(OrderStatus.CREATED), any(), isNull(), anyInt()))
+                .thenReturn(List.of(key(paid)));
+        when(orderRepository.findAllWithItemsForUpdate(List.of(paid.getId()))).thenReturn(List.of(paid));
+
+        // when
+        StockHoldReclaimResult result = reclaimService.reclaimPage(now, null, 10);
+
+        // then
+        assertThat(result.cancelled()).isZero();
+        assertThat(paid.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        verify(orderCancelService).cancelLocked(List.of());
+    }
+
+    @Test
+    @DisplayName("만료된 주문이 없으면 락 조회와 취소를 하지 않는다")
+    void reclaimPage_empty() {
+        when(orderRepository.findKeysByStatusCreatedBefore(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        StockHoldReclaimResult result = reclaimService.reclaimPage(now, null, 10);
+
+        assertThat(result.scanned()).isZero();
+        verify(orderRepository, never()).findAllWithItemsForUpdate(anyCollection());
+        verifyNoInteractions(orderCancelService);
+    }
+
+    private Order order(LocalDateTime createdAt, OrderItem... items) {
+        return Order.create(1L, List.of(items), Money.wons(1000), createdAt);
+    }
+
+    private OrderPageKey key(Order order) {
+        return new OrderPageKey(order.getId(), order.getCreatedAt());
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
  
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,11 +33,10 @@ class BalancePaymentProcessorTest {
     @DisplayName("잔액 결제 프로세서 - 잔액 차감 성공 시 true 반환")
     void process_shouldReturnTrue_whenBalanceIsEnough() {
         // given
-        RequestPaymentCommand command = new RequestPaymentCommand("ORDER-001", 100L, 1000L,"BALANCE");
-
         Order order = Order.create( 100L,
                 List.of(OrderItem.of(1L, 2, 270, Money.wons(100000))),
-                Money.wons(200000));
+                Money.wons(200000), LocalDateTime.now());
+        RequestPaymentCommand command = new RequestPaymentCommand(order.getId(), 100L, 1000L,"BALANCE");
 
         Payment payment = Payment.create(order.getId(), Money.wons(order.getTotalAmount()), PaymentStatus.SUCCESS,"BALANCE");
 
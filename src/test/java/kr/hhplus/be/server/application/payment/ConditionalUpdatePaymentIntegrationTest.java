@@ -0,0 +1,125 @@
+package kr.hhplus.be.server.application.payment;
+
+import kr.hhplus.be.server.application.order.CreateOrderCommand;
+import kr.hhplus.be.server.application.order.OrderFacadeService;
+import kr.hhplus.be.server.application.order.OrderResult;
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.balance.Balance;
+import kr.hhplus.be.server.domain.balance.BalanceException;
+import kr.hhplus.be.server.domain.balance.BalanceRepository;
+import kr.hhplus.be.server.domain.order.OrderException;
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * payment.mode=conditional-update 결제 통합 테스트.
+ * 주문 잠금 조회 없이 조건부 UPDATE의 반영 행 수만으로 중복 결제와 잔액 부족을 막는지 확인한다.
+ */
+@SpringBootTest(properties = "payment.mode=conditional-update")
+class ConditionalUpdatePaymentIntegrationTest {
+
+    private static final long PRICE = 10_000L;
+
+    @Autowired PaymentFacadeService paymentFacadeService;
+    @Autowired OrderFacadeService orderFacadeService;
+    @Autowired OrderRepository orderRepository;
+    @Autowired PaymentRepository paymentRepository;
+    @Autowired BalanceRepository balanceRepository;
+    @Autowired ProductRepository productRepository;
+    @Autowired ProductStockRepository stockRepository;
+
+    private Long userId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        userId = ThreadLocalRandom.current().nextLong(2_000_000L, 3_000_000L);
+        Product product = productRepository.save(
+                Product.create("조건부 결제 상품", "브랜드", Money.wons(PRICE), LocalDate.now().minusDays(1), null, null));
+        productId = product.getId();
+        stockRepository.save(ProductStock.of(productId, 270, 10));
+    }
+
+    @Test
+    @DisplayName("같은 주문에 동시에 결제를 요청해도 1건만 성공하고 잔액은 한 번만 차감된다")
+    void concurrentPayments_onlyOneSucceeds() throws InterruptedException {
+        // given
+        balanceRepository.save(Balance.createNew(null, userId, Money.wons(PRICE * 5)));
+        UUID orderId = createOrder();
+        int concurrency = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        List<PaymentResult> successes = new CopyOnWriteArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        // when
+        for (int i = 0; i < concurrency; i++) {
+            executor.execute(() -> {
+                try {
+                    ready.await();
+                    successes.add(paymentFacadeService.requestPayment(
+                            new RequestPaymentCommand(orderId, userId, PRICE, "BALANCE")));
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await();
+        executor.shutdown();
+
+        // then
+        System.out.println("성공한 결제 수: " + successes.size() + ", 실패한 결제 수: " + failures.size());
+        assertThat(successes).hasSize(1);
+        assertThat(failures).allMatch(OrderException.InvalidStateException.class::isInstance);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(balanceRepository.findByUserId(userId).orElseThrow().getAmount()).isEqualTo(PRICE * 4);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 먼저 반영한 주문 상태 전이까지 롤백된다")
+    void notEnoughBalance_rollsBackOrder() {
+        // given
+        balanceRepository.save(Balance.createNew(null, userId, Money.wons(PRICE - 1)));
+        UUID orderId = createOrder();
+
+        // expect
+        assertThatThrownBy(() -> paymentFacadeService.requestPayment(
+                new RequestPaymentCommand(orderId, userId, PRICE, "BALANCE")))
+                .isInstanceOf(BalanceException.NotEnoughBalanceException.class);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CREATED);
+        assertThat(paymentRepository.findByOrderId(orderId)).isEmpty();
+        assertThat(balanceRepository.findByUserId(userId).orElseThrow().getAmount()).isEqualTo(PRICE - 1);
+    }
+
+    private UUID createOrder() {
+        OrderResult order = orderFacadeService.createOrder(new CreateOrderCommand(
+                userId, List.of(new CreateOrderCommand.OrderItemCommand(productId, 1, 270)), null));
+        return order.orderId();
+    }
+}
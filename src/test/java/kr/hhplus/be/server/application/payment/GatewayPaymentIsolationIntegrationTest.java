@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.application.payment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.balance.Balance;
+import kr.hhplus.be.server.domain.balance.BalanceRepository;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderItem;
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 카드 대행사(FakePaymentGatewayClient 지연 3초)로 커넥션 풀(4개)보다 많은 카드 결제가 진행 중일 때도
+ * 잔액 결제가 커넥션이나 스레드를 기다리지 않고 끝나는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "payment.gateway.fake-latency=PT3S",
+        "payment.gateway.timeout=PT10S",
+        "payment.gateway.max-concurrent-calls=12",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.datasource.hikari.minimum-idle=1"
+})
+class GatewayPaymentIsolationIntegrationTest {
+
+    private static final long PRICE = 1_000L;
+    private static final int CARD_PAYMENTS = 12;
+
+    @Autowired PaymentFacadeService paymentFacadeService;
+    @Autowired OrderRepository orderRepository;
+    @Autowired PaymentRepository paymentRepository;
+    @Autowired BalanceRepository balanceRepository;
+    @Autowired MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("카드 결제가 대행사 응답을 기다리는 동안에도 잔액 결제는 바로 처리된다")
+    void slowCardGateway_doesNotStarveBalancePayments() throws Exception {
+        // given
+        Long userId = ThreadLocalRandom.current().nextLong(3_000_000L, 4_000_000L);
+        balanceRepository.save(Balance.createNew(null, userId, Money.wons(PRICE * 10)));
+        List<UUID> cardOrderIds = new ArrayList<>();
+        for (int i = 0; i < CARD_PAYMENTS; i++) {
+            cardOrderIds.add(saveOrder(userId));
+        }
+        UUID balanceOrderId = saveOrder(userId);
+
+        ExecutorService callers = Executors.newFixedThreadPool(CARD_PAYMENTS);
+        List<Future<PaymentResult>> cardPayments = new ArrayList<>();
+        for (UUID orderId : cardOrderIds) {
+            cardPayments.add(callers.submit(() -> paymentFacadeService.requestPayment(
+                    new RequestPaymentCommand(orderId, userId, PRICE, GatewayPaymentProcessor.METHOD))));
+        }
+        awaitActiveGatewayCalls(CARD_PAYMENTS);
+
+        // when
+        long startedAt = System.nanoTime();
+        PaymentResult balancePayment = paymentFacadeService.requestPayment(
+                new RequestPaymentCommand(balanceOrderId, userId, PRICE, BalancePaymentProcessor.METHOD));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        System.out.println("카드 결제 " + CARD_PAYMENTS + "건 대기 중 잔액 결제 처리 시간: " + elapsedMs + "ms");
+        assertThat(balancePayment.status()).isEqualTo("SUCCESS");
+        assertThat(elapsedMs).isLessThan(2_000);
+        assertThat(meterRegistry.get("payment.gateway.active").gauge().value()).isEqualTo(CARD_PAYMENTS);
+
+        for (Future<PaymentResult> cardPayment : cardPayments) {
+            assertThat(cardPayment.get(15, TimeUnit.SECONDS).status()).isEqualTo("SUCCESS");
+        }
+        callers.shutdown();
+
+        for (UUID orderId : cardOrderIds) {
+            assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+            Payment payment = paymentRepository.findByOrderId(orderId).orElseThrow();
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+            assertThat(payment.getMethod()).isEqualTo(GatewayPaymentProcessor.METHOD);
+        }
+        // 카드 결제는 잔액을 건드리지 않는다
+        assertThat(balanceRepository.findByUserId(userId).orElseThrow().getAmount()).isEqualTo(PRICE * 9);
+    }
+
+    private UUID saveOrder(Long userId) {
+        Order order = Order.create(userId, List.of(OrderItem.of(1L, 1, 270, Money.wons(PRICE))), Money.wons(PRICE), LocalDateTime.now());
+        return orderRepository.save(order).getId();
+    }
+
+    private void awaitActiveGatewayCalls(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("payment.gateway.active").gauge().value() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
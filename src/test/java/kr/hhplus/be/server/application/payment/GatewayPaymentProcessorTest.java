@@ -0,0 +1,162 @@
+package kr.hhplus.be.server.application.payment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderItem;
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentException;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
+import kr.hhplus.be.server.infrastructure.external.FakePaymentGatewayClient;
+import kr.hhplus.be.server.infrastructure.external.PaymentGatewayClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 응답을 지연시키는 FakePaymentGatewayClient 로 느린 대행사를 흉내 낸다.
+ */
+class GatewayPaymentProcessorTest {
+
+    private static final UUID ORDER_ID = UUID.fromString("01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GatewayPaymentProcessor processor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (processor != null) {
+            processor.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("대행사가 제한 시간 안에 승인하면 true")
+    void process_approved() {
+        // given
+        processor = processor(new FakePaymentGatewayClient(Duration.ofMillis(50)), 2, 2, Duration.ofSeconds(1));
+
+        // when
+        boolean approved = processor.process(command(10_000L), order(), payment(10_000L));
+
+        // then
+        assertThat(approved).isTrue();
+        assertThat(meterRegistry.get("payment.gateway.call").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("0원 이하 결제는 대행사가 거절해 false")
+    void process_declined() {
+        processor = processor(new FakePaymentGatewayClient(Duration.ZERO), 2, 2, Duration.ofSeconds(1));
+
+        assertThat(processor.process(command(0L), order(), payment(0L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("응답이 제한 시간을 넘기면 기다리지 않고 실패하고, 승인됐을 수 있으므로 취소를 요청한다")
+    void process_timeout_failsFastAndCancels() {
+        // given
+        PaymentGatewayClient slowGateway = spy(new FakePaymentGatewayClient(Duration.ofSeconds(2)));
+        processor = processor(slowGateway, 2, 2, Duration.ofMillis(100));
+        Payment payment = payment(10_000L);
+
+        // when
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> processor.process(command(10_000L), order(), payment))
+                .isInstanceOf(PaymentException.ExternalSystemException.class);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        assertThat(elapsedMs).isLessThan(1_000);
+        assertThat(meterRegistry.get("payment.gateway.timeout").counter().count()).isEqualTo(1.0);
+        verify(slowGateway, timeout(3_000)).cancel(payment.getId());
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도(스레드 + 대기열)를 넘는 요청은 기다리지 않고 거절한다")
+    void process_bulkheadFull_rejectsImmediately() throws Exception {
+        // given: 스레드 1개가 느린 호출을 처리하고 대기열 1칸도 차 있다
+        processor = processor(new FakePaymentGatewayClient(Duration.ofMillis(500)), 1, 1, Duration.ofSeconds(5));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        List<CompletableFuture<Boolean>> inFlight = List.of(
+                CompletableFuture.supplyAsync(() -> processor.process(command(10_000L), order(), payment(10_000L)), callers),
+                CompletableFuture.supplyAsync(() -> processor.process(command(10_000L), order(), payment(10_000L)), callers));
+        awaitQueued(1);
+
+        // when
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> processor.process(command(10_000L), order(), payment(10_000L)))
+                .isInstanceOf(PaymentException.GatewayBusyException.class);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        System.out.println("한도 초과 요청 거절까지 " + elapsedMs + "ms");
+        assertThat(elapsedMs).isLessThan(100);
+        assertThat(meterRegistry.get("payment.gateway.rejected").counter().count()).isEqualTo(1.0);
+        for (CompletableFuture<Boolean> call : inFlight) {
+            assertThat(call.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        callers.shutdown();
+    }
+
+    @Test
+    @DisplayName("결제 호출 한도가 가득 차 있어도 승인 취소는 거절되지 않고 전달된다")
+    void compensate_bulkheadFull_stillCancels() throws Exception {
+        // given: 스레드 1개와 대기열 1칸이 모두 느린 결제 호출로 차 있다
+        PaymentGatewayClient slowGateway = spy(new FakePaymentGatewayClient(Duration.ofMillis(500)));
+        processor = processor(slowGateway, 1, 1, Duration.ofSeconds(5));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture.supplyAsync(() -> processor.process(command(10_000L), order(), payment(10_000L)), callers);
+        }
+        awaitQueued(1);
+        Payment payment = payment(10_000L);
+
+        // when
+        processor.compensate(payment);
+
+        // then
+        verify(slowGateway, timeout(3_000)).cancel(payment.getId());
+        assertThat(meterRegistry.get("payment.gateway.rejected").counter().count()).isZero();
+        callers.shutdown();
+    }
+
+    private GatewayPaymentProcessor processor(PaymentGatewayClient client, int threads, int queueCapacity, Duration timeout) {
+        return new GatewayPaymentProcessor(client, meterRegistry, threads, queueCapacity, timeout, 1);
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("payment.gateway.queue.depth").gauge().value() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static RequestPaymentCommand command(long amount) {
+        return new RequestPaymentCommand(ORDER_ID, 100L, amount, GatewayPaymentProcessor.METHOD);
+    }
+
+    private static Order order() {
+        return Order.create(100L, List.of(OrderItem.of(1L, 1, 270, Money.wons(10_000))), Money.wons(10_000), LocalDateTime.now());
+    }
+
+    private static Payment payment(long amount) {
+        return Payment.create(ORDER_ID, Money.wons(amount), PaymentStatus.INITIATED, GatewayPaymentProcessor.METHOD);
+    }
+}
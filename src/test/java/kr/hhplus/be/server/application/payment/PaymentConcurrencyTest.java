@@ -25,6 +25,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
@@ -68,7 +69,7 @@ public class PaymentConcurrencyTest {
     private OrderRepository orderRepository;
 
     private final Long userId = 777L;
-    private String orderId;
+    private UUID orderId;
 
     private final long PRICE = 10_000L;
 
@@ -15,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,7 +54,8 @@ class PaymentFacadeServiceIntegrationTest {
         Order order = Order.create(
                 userId,
                 List.of(OrderItem.of(productId, 1, size, Money.wons(productPrice))),
-                Money.wons(productPrice)
+                Money.wons(productPrice),
+                LocalDateTime.now()
         );
         orderRepository.save(order);
 
@@ -87,7 +89,8 @@ class PaymentFacadeServiceIntegrationTest {
         Order order = Order.create(
                 lowBalanceUserId,
                 List.of(OrderItem.of(productId, 1, size, Money.wons(paymentAmount))),
-                Money.wons(paymentAmount)
+                Money.wons(paymentAmount),
+                LocalDateTime.now()
         );
         orderRepository.save(order);
 
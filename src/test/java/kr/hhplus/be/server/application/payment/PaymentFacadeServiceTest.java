@@ -3,21 +3,37 @@ package kr.hhplus.be.server.application.payment;
 import kr.hhplus.be.server.application.balance.BalanceService;
 import kr.hhplus.be.server.application.balance.DecreaseBalanceCommand;
 import kr.hhplus.be.server.application.order.OrderService;
+import kr.hhplus.be.server.domain.balance.BalanceException;
 import kr.hhplus.be.server.common.vo.Money;
 import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderException;
+import kr.hhplus.be.server.domain.order.OrderStatus;
 import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentException;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class PaymentFacadeServiceTest {
 
+    private static final UUID ORDER_ID = UUID.fromString("01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d");
+
     private PaymentService paymentService;
     private OrderService orderService;
     private BalanceService balanceService;
+    private GatewayPaymentProcessor gatewayProcessor;
+    private TransactionTemplate transactionTemplate;
 
     private PaymentFacadeService facadeService;
 
@@ -26,15 +42,23 @@ class PaymentFacadeServiceTest {
         paymentService = mock(PaymentService.class);
         orderService = mock(OrderService.class);
         balanceService = mock(BalanceService.class);
+        gatewayProcessor = mock(GatewayPaymentProcessor.class);
+        when(gatewayProcessor.method()).thenReturn(GatewayPaymentProcessor.METHOD);
+        when(gatewayProcessor.isExternal()).thenReturn(true);
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
-        facadeService = new PaymentFacadeService(paymentService, orderService, balanceService);
+        PaymentProcessorRegistry registry = new PaymentProcessorRegistry(
+                List.of(new BalancePaymentProcessor(balanceService), gatewayProcessor));
+        facadeService = new PaymentFacadeService(paymentService, orderService, balanceService, registry, transactionTemplate);
     }
 
     @Test
     @DisplayName("잔액 차감 후 결제 기록 및 주문 상태 변경")
     void requestPayment_success() {
         // Given
-        String orderId = "ORDER123";
+        UUID orderId = ORDER_ID;
         long userId = 1L;
         long amount = 10000L;
         String method = "BALANCE";
@@ -47,6 +71,7 @@ class PaymentFacadeServiceTest {
 
         Payment mockPayment = Payment.createSuccess(orderId, expectedMoney, method);
         when(paymentService.recordSuccess(any(PaymentCommand.class))).thenReturn(mockPayment);
+        when(balanceService.decreaseBalance(any())).thenReturn(true);
 
         // When
         PaymentResult result = facadeService.requestPayment(command);
@@ -61,4 +86,115 @@ class PaymentFacadeServiceTest {
         assertThat(result.amount()).isEqualTo(amount);
         assertThat(result.status()).isEqualTo("SUCCESS");
     }
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드는 주문을 잠금 조회하지 않고 상태 전이, 잔액 차감, 결제 기록 순으로 처리한다")
+    void requestPayment_conditionalUpdate_success() {
+        // Given
+        ReflectionTestUtils.setField(facadeService, "mode", PaymentFacadeService.CONDITIONAL_UPDATE_MODE);
+        RequestPaymentCommand command = new RequestPaymentCommand(ORDER_ID, 1L, 10000L, "BALANCE");
+        when(paymentService.recordSuccess(any(PaymentCommand.class)))
+                .thenReturn(Payment.createSuccess(ORDER_ID, Money.wons(10000L), "BALANCE"));
+
+        // When
+        PaymentResult result = facadeService.requestPayment(command);
+
+        // Then
+        var inOrder = inOrder(orderService, balanceService, paymentService);
+        inOrder.verify(orderService).confirmIfPayable(ORDER_ID);
+        inOrder.verify(balanceService).decreaseBalanceIfEnough(new DecreaseBalanceCommand(1L, 10000L));
+        inOrder.verify(paymentService).recordSuccess(PaymentCommand.from(command));
+        verify(orderService, never()).getOrderForPaymentWithLock(any());
+        verify(balanceService, never()).decreaseBalance(any());
+        assertThat(result.status()).isEqualTo("SUCCESS");
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드에서 잔액이 부족하면 결제를 기록하지 않는다")
+    void requestPayment_conditionalUpdate_notEnoughBalance() {
+        // Given
+        ReflectionTestUtils.setField(facadeService, "mode", PaymentFacadeService.CONDITIONAL_UPDATE_MODE);
+        RequestPaymentCommand command = new RequestPaymentCommand(ORDER_ID, 1L, 10000L, "BALANCE");
+        doThrow(new BalanceException.NotEnoughBalanceException())
+                .when(balanceService).decreaseBalanceIfEnough(any());
+
+        // When & Then
+        assertThatThrownBy(() -> facadeService.requestPayment(command))
+                .isInstanceOf(BalanceException.NotEnoughBalanceException.class);
+        verify(paymentService, never()).recordSuccess(any());
+    }
+
+    @Test
+    @DisplayName("카드 결제는 대행사 승인을 트랜잭션 밖에서 기다린 뒤, 짧은 트랜잭션으로 주문 전이와 결제 기록을 반영한다")
+    void requestPayment_card_callsGatewayOutsideTransaction() {
+        // Given
+        RequestPaymentCommand command = new RequestPaymentCommand(ORDER_ID, 1L, 10000L, "CARD");
+        Order order = mock(Order.class);
+        when(order.getId()).thenReturn(ORDER_ID);
+        when(orderService.getOrderForPayment(ORDER_ID)).thenReturn(order);
+        when(gatewayProcessor.process(eq(command), eq(order), any())).thenReturn(true);
+
+        // When
+        PaymentResult result = facadeService.requestPayment(command);
+
+        // Then
+        var inOrder = inOrder(orderService, gatewayProcessor, transactionTemplate, paymentService);
+        inOrder.verify(orderService).getOrderForPayment(ORDER_ID);
+        inOrder.verify(gatewayProcessor).process(eq(command), eq(order), any());
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(orderService).confirmIfPayable(ORDER_ID);
+        inOrder.verify(paymentService).record(argThat(Payment::isSuccess));
+        verify(orderService, never()).getOrderForPaymentWithLock(any());
+        verify(balanceService, never()).decreaseBalance(any());
+        assertThat(result.status()).isEqualTo("SUCCESS");
+        assertThat(result.method()).isEqualTo("CARD");
+    }
+
+    @Test
+    @DisplayName("카드 승인이 거절되면 주문은 그대로 두고 실패한 결제를 기록한다")
+    void requestPayment_card_declined() {
+        // Given
+        RequestPaymentCommand command = new RequestPaymentCommand(ORDER_ID, 1L, 10000L, "CARD");
+        Order order = mock(Order.class);
+        when(order.getId()).thenReturn(ORDER_ID);
+        when(orderService.getOrderForPayment(ORDER_ID)).thenReturn(order);
+        when(gatewayProcessor.process(eq(command), eq(order), any())).thenReturn(false);
+
+        // When
+        PaymentResult result = facadeService.requestPayment(command);
+
+        // Then
+        assertThat(result.status()).isEqualTo(PaymentStatus.FAILURE.name());
+        verify(paymentService).record(argThat(payment -> payment.getStatus() == PaymentStatus.FAILURE));
+        verify(orderService, never()).confirmIfPayable(any());
+    }
+
+    @Test
+    @DisplayName("승인 후 주문을 결제 완료로 바꾸지 못하면 대행사 승인을 취소하고 예외를 던진다")
+    void requestPayment_card_confirmFails_compensates() {
+        // Given
+        RequestPaymentCommand command = new RequestPaymentCommand(ORDER_ID, 1L, 10000L, "CARD");
+        Order order = mock(Order.class);
+        when(order.getId()).thenReturn(ORDER_ID);
+        when(orderService.getOrderForPayment(ORDER_ID)).thenReturn(order);
+        when(gatewayProcessor.process(eq(command), eq(order), any())).thenReturn(true);
+        doThrow(new OrderException.InvalidStateException(OrderStatus.CANCELLED, "payment"))
+                .when(orderService).confirmIfPayable(ORDER_ID);
+
+        // When & Then
+        assertThatThrownBy(() -> facadeService.requestPayment(command))
+                .isInstanceOf(OrderException.InvalidStateException.class);
+        verify(gatewayProcessor).compensate(any(Payment.class));
+        verify(paymentService, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 결제 수단은 거절한다")
+    void requestPayment_unsupportedMethod() {
+        RequestPaymentCommand command = new RequestPaymentCommand(ORDER_ID, 1L, 10000L, "POINT");
+
+        assertThatThrownBy(() -> facadeService.requestPayment(command))
+                .isInstanceOf(PaymentException.UnsupportedMethodException.class);
+        verifyNoInteractions(orderService, balanceService, paymentService);
+    }
 }
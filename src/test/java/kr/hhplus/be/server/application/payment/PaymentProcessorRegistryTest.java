@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.application.payment;
+
+import kr.hhplus.be.server.application.balance.BalanceService;
+import kr.hhplus.be.server.domain.payment.PaymentException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class PaymentProcessorRegistryTest {
+
+    private final BalancePaymentProcessor balanceProcessor = new BalancePaymentProcessor(mock(BalanceService.class));
+
+    @Test
+    @DisplayName("결제 수단 이름으로 프로세서를 찾는다 (대소문자 무시)")
+    void get_byMethod() {
+        PaymentProcessorRegistry registry = new PaymentProcessorRegistry(List.of(balanceProcessor));
+
+        assertThat(registry.get("BALANCE")).isSameAs(balanceProcessor);
+        assertThat(registry.get("balance")).isSameAs(balanceProcessor);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 결제 수단이면 UnsupportedMethodException")
+    void get_unknownMethod() {
+        PaymentProcessorRegistry registry = new PaymentProcessorRegistry(List.of(balanceProcessor));
+
+        assertThatThrownBy(() -> registry.get("POINT"))
+                .isInstanceOf(PaymentException.UnsupportedMethodException.class);
+        assertThatThrownBy(() -> registry.get(null))
+                .isInstanceOf(PaymentException.UnsupportedMethodException.class);
+    }
+
+    @Test
+    @DisplayName("같은 결제 수단의 프로세서가 둘이면 시작 시점에 실패한다")
+    void duplicateMethod_failsFast() {
+        assertThatThrownBy(() -> new PaymentProcessorRegistry(List.of(balanceProcessor, balanceProcessor)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -23,10 +25,10 @@ class PaymentServiceIntegrationTest {
     private PaymentRepository paymentRepository;
 
     @Test
-    @DisplayName("결제 성공 정보를 저장하고 실제 DB에 저장된다 (order-1 사용)")
+    @DisplayName("결제 성공 정보를 저장하고 실제 DB에 저장된다 (시드 주문 사용)")
     void recordSuccess_shouldPersistToDatabase_usingExistingOrder() {
         // given
-        String orderId = "order-1"; // 실제 DB에 존재하는 주문 ID
+        UUID orderId = UUID.fromString("01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d"); // 시드 데이터에 존재하는 주문 ID
         long amount = 398000L;
         String method = "CARD";
 
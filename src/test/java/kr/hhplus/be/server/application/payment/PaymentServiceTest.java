@@ -8,6 +8,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -26,7 +28,8 @@ class PaymentServiceTest {
     @DisplayName("결제 성공 정보를 저장하고 반환한다")
     void recordSuccess_shouldSavePaymentWithSuccessStatus() {
         // given
-        PaymentCommand command = new PaymentCommand("order-123", Money.wons(10000), "BALANCE");
+        UUID orderId = UUID.randomUUID();
+        PaymentCommand command = new PaymentCommand(orderId, Money.wons(10000), "BALANCE");
 
         // when
         Payment payment = paymentService.recordSuccess(command);
@@ -35,7 +38,7 @@ class PaymentServiceTest {
         verify(paymentRepository, times(1)).save(any(Payment.class));
 
         assertThat(payment).isNotNull();
-        assertThat(payment.getOrderId()).isEqualTo("order-123");
+        assertThat(payment.getOrderId()).isEqualTo(orderId);
         assertThat(payment.getAmount()).isEqualTo(10000L);
         assertThat(payment.getMethod()).isEqualTo("BALANCE");
         assertThat(payment.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
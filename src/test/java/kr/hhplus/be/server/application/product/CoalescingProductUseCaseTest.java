@@ -0,0 +1,88 @@
+package kr.hhplus.be.server.application.product;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.product.ProductException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class CoalescingProductUseCaseTest {
+
+    private static final int THREADS = 20;
+
+    private final ProductService delegate = mock(ProductService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CoalescingProductUseCase useCase = new CoalescingProductUseCase(delegate, meterRegistry);
+
+    @Test
+    @DisplayName("같은 키의 동시 조회는 한 번만 로딩하고 나머지는 결과를 공유한다")
+    void concurrentMisses_shareOneLoad() throws Exception {
+        // given
+        GetProductDetailCommand command = new GetProductDetailCommand(1L, 260);
+        ProductDetailResult expected = ProductDetailResult.from(new ProductInfo(1L, "Jordan 1", 200_000L, 5));
+        when(delegate.getProductDetail(command)).thenAnswer(invocation -> {
+            // 나머지 요청이 모두 합류할 때까지 로딩을 붙잡아 둔다
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (coalesced() < THREADS - 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            return expected;
+        });
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<ProductDetailResult>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> useCase.getProductDetail(command)));
+        }
+        List<ProductDetailResult> results = new ArrayList<>();
+        for (Future<ProductDetailResult> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(results).allMatch(expected::equals);
+        verify(delegate, times(1)).getProductDetail(command);
+        assertThat(coalesced()).isEqualTo(THREADS - 1);
+        System.out.println("coalesced = " + coalesced() + " / " + THREADS);
+    }
+
+    @Test
+    @DisplayName("로딩이 끝난 뒤의 조회는 새로 로딩한다")
+    void sequentialCalls_loadEachTime() {
+        GetProductDetailCommand command = new GetProductDetailCommand(1L, 260);
+        when(delegate.getProductDetail(command))
+                .thenReturn(ProductDetailResult.from(new ProductInfo(1L, "Jordan 1", 200_000L, 5)));
+
+        useCase.getProductDetail(command);
+        useCase.getProductDetail(command);
+
+        verify(delegate, times(2)).getProductDetail(command);
+        assertThat(coalesced()).isZero();
+    }
+
+    @Test
+    @DisplayName("로딩 실패는 호출자에게 원래 예외로 전달된다")
+    void failure_propagatesOriginalException() {
+        GetProductDetailCommand command = new GetProductDetailCommand(99L, 260);
+        when(delegate.getProductDetail(command)).thenThrow(new ProductException.NotFoundException(99L));
+
+        assertThatThrownBy(() -> useCase.getProductDetail(command))
+                .isInstanceOf(ProductException.NotFoundException.class);
+    }
+
+    private double coalesced() {
+        return meterRegistry.get("product.detail.singleflight").tag("result", "coalesced").counter().count();
+    }
+}
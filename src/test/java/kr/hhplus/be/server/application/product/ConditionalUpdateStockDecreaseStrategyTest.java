@@ -0,0 +1,88 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.ProductException;
+import kr.hhplus.be.server.domain.product.ProductStockChangedEvent;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.StockDecreaseFailure;
+import kr.hhplus.be.server.domain.product.StockQuantityDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalUpdateStockDecreaseStrategyTest {
+
+    @Mock
+    ProductStockRepository productStockRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    ConditionalUpdateStockDecreaseStrategy strategy;
+
+    @Test
+    @DisplayName("조건부 UPDATE가 한 행을 반영하면 차감 성공이며 재고 변경 이벤트를 발행한다")
+    void decrease_success() {
+        when(productStockRepository.decreaseIfEnough(1L, 270, 3)).thenReturn(1);
+
+        strategy.decrease(DecreaseStockCommand.of(1L, 270, 3));
+
+        verify(productStockRepository, never()).findByProductIdAndSizeForUpdate(any(), anyInt());
+        verify(eventPublisher).publishEvent(new ProductStockChangedEvent(1L, 270));
+    }
+
+    @Test
+    @DisplayName("반영된 행이 없고 재고 행이 있으면 재고 부족")
+    void decrease_fail_insufficient() {
+        when(productStockRepository.decreaseIfEnough(1L, 270, 5)).thenReturn(0);
+        when(productStockRepository.existsByProductIdAndSize(1L, 270)).thenReturn(true);
+
+        assertThatThrownBy(() -> strategy.decrease(DecreaseStockCommand.of(1L, 270, 5)))
+                .isInstanceOf(ProductException.InsufficientStockException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("반영된 행이 없고 재고 행도 없으면 재고 없음")
+    void decrease_fail_stock_not_found() {
+        when(productStockRepository.decreaseIfEnough(1L, 270, 1)).thenReturn(0);
+        when(productStockRepository.existsByProductIdAndSize(1L, 270)).thenReturn(false);
+
+        assertThatThrownBy(() -> strategy.decrease(DecreaseStockCommand.of(1L, 270, 1)))
+                .isInstanceOf(ProductException.NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("여러 줄은 UPDATE 배치 하나로 보내고 반영되지 않은 줄을 사유와 함께 알려준다")
+    void decreaseAll_reportsFailedLines() {
+        List<StockQuantityDelta> lines = List.of(
+                new StockQuantityDelta(1L, 270, 3),
+                new StockQuantityDelta(2L, 260, 5),
+                new StockQuantityDelta(3L, 250, 1));
+        when(productStockRepository.decreaseIfEnoughInBatch(lines)).thenReturn(new int[]{1, 0, 0});
+        when(productStockRepository.existsByProductIdAndSize(2L, 260)).thenReturn(true);
+        when(productStockRepository.existsByProductIdAndSize(3L, 250)).thenReturn(false);
+
+        assertThatThrownBy(() -> strategy.decreaseAll(List.of(
+                DecreaseStockCommand.of(1L, 270, 3),
+                DecreaseStockCommand.of(2L, 260, 5),
+                DecreaseStockCommand.of(3L, 250, 1))))
+                .isInstanceOfSatisfying(ProductException.StockDecreaseFailedException.class, e ->
+                        assertThat(e.getFailures()).containsExactly(
+                                StockDecreaseFailure.insufficient(2L, 260, 5),
+                                StockDecreaseFailure.notFound(3L, 250, 1)));
+        verify(productStockRepository, never()).decreaseIfEnough(any(), anyInt(), anyInt());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.application.product;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "stock.decrease-strategy=pessimistic-lock")
+class PessimisticLockStockLoadTest extends StockDecreaseLoadTestSupport {
+}
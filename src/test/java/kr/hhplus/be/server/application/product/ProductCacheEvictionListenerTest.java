@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.ProductChangedEvent;
+import kr.hhplus.be.server.domain.product.ProductStockChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.*;
+
+class ProductCacheEvictionListenerTest {
+
+    private final ProductCache productCache = mock(ProductCache.class);
+    private final ProductCacheEvictionListener listener = new ProductCacheEvictionListener(productCache);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 이벤트 수신 즉시 한 번 무효화한다")
+    void evictsImmediatelyWithoutTransaction() {
+        listener.on(new ProductChangedEvent(1L));
+
+        verify(productCache, times(1)).evictProduct(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 즉시 한 번, 트랜잭션 종료 후 한 번 더 무효화한다")
+    void evictsAgainAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        listener.on(new ProductStockChangedEvent(1L, 260));
+        verify(productCache, times(1)).evictStock(1L, 260);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(productCache, times(2)).evictStock(1L, 260);
+    }
+}
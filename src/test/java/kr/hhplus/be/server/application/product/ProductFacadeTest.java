@@ -38,8 +38,8 @@ class ProductFacadeTest {
         when(statisticsUseCase.getTopSellingProducts(criteria))
                 .thenReturn(List.of(info));
 
-        Product mockProduct = mockProduct();
-        when(productUseCase.findProduct(1L)).thenReturn(mockProduct);
+        Product mockProduct = mockProduct(1L, "NIKE DUNK", 139000L);
+        when(productUseCase.findProducts(List.of(1L))).thenReturn(List.of(mockProduct));
 
         // when
         List<PopularProductResult> results = productFacade.getPopularProducts(criteria);
@@ -53,14 +53,48 @@ class ProductFacadeTest {
         assertThat(result.salesCount()).isEqualTo(10);
 
         verify(statisticsUseCase).getTopSellingProducts(criteria);
-        verify(productUseCase).findProduct(1L);
+        verify(productUseCase).findProducts(List.of(1L));
+        verify(productUseCase, never()).findProduct(any());
     }
 
-    private Product mockProduct() {
+    @Test
+    @DisplayName("인기상품은 한 번에 조회하고 순위 순서를 유지하며 삭제된 상품은 제외한다")
+    void popular_product_keepsRankingAndSkipsDeleted() {
+        // given
+        PopularProductCriteria criteria = new PopularProductCriteria(3, 5);
+        when(statisticsUseCase.getTopSellingProducts(criteria)).thenReturn(List.of(
+                new ProductSalesInfo(3L, 30L),
+                new ProductSalesInfo(99L, 20L),
+                new ProductSalesInfo(1L, 10L)
+        ));
+        Product first = mockProduct(1L, "NIKE DUNK", 139000L);
+        Product third = mockProduct(3L, "SAMBA OG", 129000L);
+        when(productUseCase.findProducts(List.of(3L, 99L, 1L))).thenReturn(List.of(first, third));
+
+        // when
+        List<PopularProductResult> results = productFacade.getPopularProducts(criteria);
+
+        // then
+        assertThat(results).extracting(PopularProductResult::id).containsExactly(3L, 1L);
+        assertThat(results).extracting(PopularProductResult::salesCount).containsExactly(30L, 10L);
+        verify(productUseCase, times(1)).findProducts(anyList());
+    }
+
+    @Test
+    @DisplayName("판매 순위가 비어 있으면 상품을 조회하지 않는다")
+    void popular_product_emptyRanking() {
+        PopularProductCriteria criteria = new PopularProductCriteria(3, 5);
+        when(statisticsUseCase.getTopSellingProducts(criteria)).thenReturn(List.of());
+
+        assertThat(productFacade.getPopularProducts(criteria)).isEmpty();
+        verifyNoInteractions(productUseCase);
+    }
+
+    private Product mockProduct(Long id, String name, long price) {
         Product product = mock(Product.class);
-        when(product.getId()).thenReturn(1L);
-        when(product.getName()).thenReturn("NIKE DUNK");
-        when(product.getPrice()).thenReturn(139000L);
+        when(product.getId()).thenReturn(id);
+        when(product.getName()).thenReturn(name);
+        when(product.getPrice()).thenReturn(price);
         when(product.getReleaseDate()).thenReturn(LocalDate.now());
         when(product.getCreatedAt()).thenReturn(LocalDateTime.now());
         when(product.getUpdatedAt()).thenReturn(LocalDateTime.now());
@@ -8,6 +8,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -67,6 +71,44 @@ class ProductServiceIntegrationTest {
         assertThat(result.products().get(0).stockQuantity()).isGreaterThanOrEqualTo(0);
     }
 
+    @Test
+    @DisplayName("상품 목록의 재고는 사이즈별 재고의 합계이다")
+    void getProductList_shouldSumStockOfAllSizes() {
+        GetProductListCommand command = new GetProductListCommand(0, 20, "id,asc");
+
+        ProductListResult result = productService.getProductList(command);
+
+        int expected = productStockRepository.findAllByProductId(1L).stream()
+                .mapToInt(ProductStock::getStockQuantity)
+                .sum();
+        assertThat(result.products())
+                .filteredOn(info -> info.id().equals(1L))
+                .singleElement()
+                .extracting(ProductInfo::stockQuantity)
+                .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 조회하면 가격 내림차순으로 모든 상품을 중복 없이 한 번씩 반환한다")
+    void getProductListByCursor_shouldTraverseAllProducts() {
+        List<ProductInfo> collected = new ArrayList<>();
+        String cursor = "";
+        do {
+            ProductListResult page = productService.getProductListByCursor(
+                    new GetProductCursorListCommand(cursor, 5, "price,desc"));
+            collected.addAll(page.products());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        List<ProductInfo> expected = productService.getProductList(
+                new GetProductListCommand(0, 1000, null)).products();
+        assertThat(collected).extracting(ProductInfo::id)
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(expected.stream().map(ProductInfo::id).toList());
+        assertThat(collected).extracting(ProductInfo::price)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
     @Test
     @DisplayName("상품 재고 차감이 성공하면 실제 수량이 줄어든다")
     void decreaseStock_shouldDeductStockQuantity() {
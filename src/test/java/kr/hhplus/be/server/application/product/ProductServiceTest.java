@@ -1,5 +1,7 @@
 package kr.hhplus.be.server.application.product;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.exception.BusinessException;
 import kr.hhplus.be.server.common.vo.Money;
 import kr.hhplus.be.server.domain.product.*;
 import org.junit.jupiter.api.DisplayName;
@@ -7,12 +9,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -25,6 +32,10 @@ class ProductServiceTest {
     ProductRepository productRepository;
     @Mock
     ProductStockRepository productStockRepository;
+    @Mock
+    ProductStockShardRepository productStockShardRepository;
+    @Spy
+    ProductCache productCache = new ProductCache(new SimpleMeterRegistry(), Clock.systemUTC(), 100, Duration.ofSeconds(30));
 
     @InjectMocks
     ProductService productService;
@@ -35,15 +46,13 @@ class ProductServiceTest {
         // given
         Product product = Product.create("Jordan 1", "Nike", Money.wons(200_000),
                 LocalDate.of(2024, 1, 1), "image.jpg", "best seller");
+        ReflectionTestUtils.setField(product, "id", 1L);
 
         when(productRepository.findAll(any(PageRequest.class)))
                 .thenReturn(new PageImpl<>(List.of(product)));
 
-        when(productStockRepository.findAllByProductId(product.getId()))
-                .thenReturn(List.of(
-                        ProductStock.of(product.getId(), 270, 5),
-                        ProductStock.of(product.getId(), 280, 3)
-                ));
+        when(productStockRepository.findStockSummariesByProductIds(List.of(1L)))
+                .thenReturn(List.of(new ProductStockSummary(1L, 8L)));
 
         // when
         ProductListResult result = productService.getProductList(new GetProductListCommand(0, 10, null));
@@ -51,6 +60,44 @@ class ProductServiceTest {
         // then
         assertThat(result.products()).hasSize(1);
         assertThat(result.products().get(0).name()).isEqualTo("Jordan 1");
+        assertThat(result.products().get(0).stockQuantity()).isEqualTo(8);
+        verify(productStockRepository, never()).findAllByProductId(any());
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 시 재고는 페이지 단위로 한 번만 집계 조회한다")
+    void getProductList_aggregatesStockOncePerPage() {
+        // given
+        Product first = Product.create("Jordan 1", "Nike", Money.wons(200_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "best seller");
+        Product second = Product.create("Samba OG", "Adidas", Money.wons(129_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "retro");
+        ReflectionTestUtils.setField(first, "id", 1L);
+        ReflectionTestUtils.setField(second, "id", 2L);
+
+        when(productRepository.findAll(any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(List.of(first, second)));
+        when(productStockRepository.findStockSummariesByProductIds(List.of(1L, 2L)))
+                .thenReturn(List.of(new ProductStockSummary(1L, 12L)));
+
+        // when
+        ProductListResult result = productService.getProductList(new GetProductListCommand(0, 10, null));
+
+        // then
+        assertThat(result.products()).extracting(ProductInfo::stockQuantity).containsExactly(12, 0);
+        verify(productStockRepository, times(1)).findStockSummariesByProductIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("빈 페이지는 재고 집계 쿼리를 실행하지 않는다")
+    void getProductList_emptyPage_skipsStockQuery() {
+        when(productRepository.findAll(any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        ProductListResult result = productService.getProductList(new GetProductListCommand(0, 10, null));
+
+        assertThat(result.products()).isEmpty();
+        verifyNoInteractions(productStockRepository);
     }
 
 
@@ -69,6 +116,201 @@ class ProductServiceTest {
         assertThat(result.product().name()).isEqualTo("Jordan 1");
     }
 
+    @Test
+    @DisplayName("커서 조회 시 size+1건을 읽어 다음 페이지가 있으면 마지막 행 기준 커서를 반환한다")
+    void getProductListByCursor_returnsNextCursor() {
+        // given
+        Product first = Product.create("Jordan 1", "Nike", Money.wons(200_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "best seller");
+        Product second = Product.create("Samba OG", "Adidas", Money.wons(129_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "retro");
+        Product third = Product.create("Gel-Kayano", "Asics", Money.wons(129_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "runner");
+        ReflectionTestUtils.setField(first, "id", 1L);
+        ReflectionTestUtils.setField(second, "id", 5L);
+        ReflectionTestUtils.setField(third, "id", 3L);
+
+        when(productRepository.findAllByKeyset(ProductSortKey.PRICE, true, null, null, 3))
+                .thenReturn(List.of(first, second, third));
+        when(productStockRepository.findStockSummariesByProductIds(List.of(1L, 5L)))
+                .thenReturn(List.of());
+
+        // when
+        ProductListResult result = productService.getProductListByCursor(
+                new GetProductCursorListCommand("", 2, "price,desc"));
+
+        // then
+        assertThat(result.products()).extracting(ProductInfo::id).containsExactly(1L, 5L);
+        ProductCursor next = ProductCursor.decode(result.nextCursor());
+        assertThat(next.sortKey()).isEqualTo(ProductSortKey.PRICE);
+        assertThat(next.descending()).isTrue();
+        assertThat(next.typedLastValue()).isEqualTo(129_000L);
+        assertThat(next.lastId()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("커서를 넘기면 커서에 담긴 정렬과 마지막 행 이후부터 조회하고, 마지막 페이지면 nextCursor가 없다")
+    void getProductListByCursor_continuesFromCursor() {
+        // given
+        Product product = Product.create("Gel-Kayano", "Asics", Money.wons(129_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "runner");
+        ReflectionTestUtils.setField(product, "id", 3L);
+        String cursor = new ProductCursor(ProductSortKey.PRICE, true, "129000", 5L).encode();
+
+        when(productRepository.findAllByKeyset(ProductSortKey.PRICE, true, 129_000L, 5L, 3))
+                .thenReturn(List.of(product));
+        when(productStockRepository.findStockSummariesByProductIds(List.of(3L)))
+                .thenReturn(List.of(new ProductStockSummary(3L, 4L)));
+
+        // when
+        ProductListResult result = productService.getProductListByCursor(
+                new GetProductCursorListCommand(cursor, 2, "name,asc"));
+
+        // then
+        assertThat(result.products()).extracting(ProductInfo::stockQuantity).containsExactly(4);
+        assertThat(result.nextCursor()).isNull();
+        verify(productRepository, never()).findAll(any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외를 던진다")
+    void getProductListByCursor_invalidCursor() {
+        assertThatThrownBy(() -> productService.getProductListByCursor(
+                new GetProductCursorListCommand("not-a-cursor", 2, null)))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("커서 조회 페이지 크기가 1~100을 벗어나면 예외를 던진다")
+    void getProductListByCursor_invalidSize() {
+        assertThatThrownBy(() -> new GetProductCursorListCommand("", 0, null))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> new GetProductCursorListCommand("", -1, null))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> new GetProductCursorListCommand("", GetProductCursorListCommand.MAX_SIZE + 1, null))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("상품 상세는 캐시에서 읽어 반복 조회 시 DB를 다시 조회하지 않는다")
+    void getProductDetail_cached() {
+        // given
+        Product product = Product.create("Jordan 1", "Nike", Money.wons(200_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "best seller");
+        ReflectionTestUtils.setField(product, "id", 1L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productStockRepository.findByProductIdAndSize(1L, 260))
+                .thenReturn(Optional.of(ProductStock.of(1L, 260, 7)));
+
+        // when
+        productService.getProductDetail(new GetProductDetailCommand(1L, 260));
+        ProductDetailResult result = productService.getProductDetail(new GetProductDetailCommand(1L, 260));
+
+        // then
+        assertThat(result.product().stockQuantity()).isEqualTo(7);
+        verify(productRepository, times(1)).findById(1L);
+        verify(productStockRepository, times(1)).findByProductIdAndSize(1L, 260);
+    }
+
+    @Test
+    @DisplayName("재고가 무효화되면 다음 조회에서 재고만 다시 읽는다")
+    void getProductDetail_reloadsEvictedStock() {
+        // given
+        Product product = Product.create("Jordan 1", "Nike", Money.wons(200_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "best seller");
+        ReflectionTestUtils.setField(product, "id", 1L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productStockRepository.findByProductIdAndSize(1L, 260))
+                .thenReturn(Optional.of(ProductStock.of(1L, 260, 7)))
+                .thenReturn(Optional.of(ProductStock.of(1L, 260, 6)));
+        productService.getProductDetail(new GetProductDetailCommand(1L, 260));
+
+        // when
+        productCache.evictStock(1L, 260);
+        ProductDetailResult result = productService.getProductDetail(new GetProductDetailCommand(1L, 260));
+
+        // then
+        assertThat(result.product().stockQuantity()).isEqualTo(6);
+        verify(productRepository, times(1)).findById(1L);
+        verify(productStockRepository, times(2)).findByProductIdAndSize(1L, 260);
+    }
+
+    @Test
+    @DisplayName("샤딩된 재고는 샤드 재고를 합쳐서 보여준다")
+    void getProductDetail_sumsShards() {
+        // given
+        Product product = Product.create("Jordan 1", "Nike", Money.wons(200_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "best seller");
+        ReflectionTestUtils.setField(product, "id", 1L);
+        ProductStock stock = ProductStock.of(1L, 260, 0);
+        stock.redistribute(9, 3);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productStockRepository.findByProductIdAndSize(1L, 260)).thenReturn(Optional.of(stock));
+        when(productStockShardRepository.sumQuantity(1L, 260)).thenReturn(9);
+
+        // when
+        ProductDetailResult result = productService.getProductDetail(new GetProductDetailCommand(1L, 260));
+
+        // then
+        assertThat(result.product().stockQuantity()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("여러 상품을 한 번에 조회하면 요청한 순서를 유지하고 없는 상품은 제외한다")
+    void findProducts_keepsRequestOrder() {
+        // given
+        Product first = Product.create("Jordan 1", "Nike", Money.wons(200_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "best seller");
+        Product second = Product.create("Samba OG", "Adidas", Money.wons(129_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "retro");
+        ReflectionTestUtils.setField(first, "id", 1L);
+        ReflectionTestUtils.setField(second, "id", 2L);
+        when(productRepository.findAllById(List.of(2L, 99L, 1L))).thenReturn(List.of(first, second));
+
+        // when
+        List<Product> products = productService.findProducts(List.of(2L, 99L, 1L));
+
+        // then
+        assertThat(products).extracting(Product::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("주문 상품 가격은 한 번의 조회로 가져온다")
+    void getOrderablePrices_singleQuery() {
+        // given
+        Product first = Product.create("Jordan 1", "Nike", Money.wons(200_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "best seller");
+        Product second = Product.create("Samba OG", "Adidas", Money.wons(129_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "retro");
+        ReflectionTestUtils.setField(first, "id", 1L);
+        ReflectionTestUtils.setField(second, "id", 2L);
+        when(productRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(second, first));
+
+        // when
+        Map<Long, Long> prices = productService.getOrderablePrices(List.of(1L, 2L));
+
+        // then
+        assertThat(prices).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 200_000L, 2L, 129_000L));
+        verify(productRepository, times(1)).findAllById(anyCollection());
+        verify(productRepository, never()).findById(any());
+        verifyNoInteractions(productStockRepository);
+    }
+
+    @Test
+    @DisplayName("주문 상품 가격 조회 시 출시 전이거나 없는 상품이 있으면 예외")
+    void getOrderablePrices_validates() {
+        Product unreleased = Product.create("Cloudstratus", "On", Money.wons(239_000),
+                LocalDate.now().plusDays(30), "image.jpg", "runner");
+        ReflectionTestUtils.setField(unreleased, "id", 12L);
+        when(productRepository.findAllById(List.of(12L))).thenReturn(List.of(unreleased));
+        when(productRepository.findAllById(List.of(99L))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> productService.getOrderablePrices(List.of(12L)))
+                .isInstanceOf(ProductException.NotReleasedException.class);
+        assertThatThrownBy(() -> productService.getOrderablePrices(List.of(99L)))
+                .isInstanceOf(ProductException.NotFoundException.class);
+    }
+
     @Test
     @DisplayName("상품 상세 조회 실패 - 존재하지 않는 상품")
     void getProductDetail_fail() {
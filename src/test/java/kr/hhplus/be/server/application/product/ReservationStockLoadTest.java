@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.application.product;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "stock.decrease-strategy=reservation")
+class ReservationStockLoadTest extends StockDecreaseLoadTestSupport {
+
+    @Autowired
+    StockReservationEngine reservationEngine;
+
+    @Override
+    protected void awaitStockPersisted() {
+        reservationEngine.flush();
+    }
+}
@@ -0,0 +1,124 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductException;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.ProductStockShard;
+import kr.hhplus.be.server.domain.product.ProductStockShardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 샤드 하나를 고른 차감이 경합에서 진 뒤의 동작을 실제 DB 락으로 확인한다.
+ * 락 없이 읽는 힌트 조회만 낡은 값으로 바꿔, 고른 샤드가 그 사이 다른 주문에 팔려 비어 있는 상황을 만든다.
+ */
+@SpringBootTest(properties = "stock.decrease-strategy=sharded")
+class ShardedStockDecreaseStrategyIntegrationTest {
+
+    private static final int SIZE = 270;
+
+    @Autowired StockService stockService;
+    @Autowired StockShardService stockShardService;
+    @Autowired ProductRepository productRepository;
+    @Autowired ProductStockRepository stockRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @MockitoSpyBean
+    ProductStockShardRepository shardRepository;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = productRepository.save(
+                Product.create("Drop Product", "Brand", Money.wons(10000), LocalDate.now().minusDays(1), null, null));
+        productId = product.getId();
+        stockRepository.save(ProductStock.of(productId, SIZE, 3));
+        stockShardService.reshard(productId, SIZE, 3);
+
+        // 실제 재고는 0번 샤드에만 남아 있고, 힌트는 1번 샤드에 재고가 있다고 본다
+        setShardQuantity(0, 2);
+        setShardQuantity(1, 0);
+        setShardQuantity(2, 0);
+        doReturn(List.of(
+                ProductStockShard.of(productId, SIZE, 0, 0),
+                ProductStockShard.of(productId, SIZE, 1, 2),
+                ProductStockShard.of(productId, SIZE, 2, 0)))
+                .when(shardRepository).findAll(productId, SIZE);
+    }
+
+    @Test
+    @DisplayName("고른 샤드가 비어 있고 더 낮은 샤드에만 재고가 있으면 그 샤드에서 차감한다")
+    void probedShardEmpty_takesFromLowerShard() {
+        stockService.decrease(DecreaseStockCommand.of(productId, SIZE, 2));
+
+        assertThat(shardQuantity(0)).isZero();
+        assertThat(shardRepository.sumQuantity(productId, SIZE)).isZero();
+        verify(shardRepository).findAllForUpdateBeforeSkipLocked(productId, SIZE, 1);
+    }
+
+    @Test
+    @DisplayName("더 낮은 샤드를 다른 트랜잭션이 잠그고 있으면 기다리지 않고 재고 부족으로 끝낸다")
+    void lowerShardLocked_skippedWithoutWaiting() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList(
+                    "SELECT id FROM product_stock_shard WHERE product_id = ? AND size = ? AND shard_no = 0 FOR UPDATE",
+                    productId, SIZE);
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> stockService.decrease(DecreaseStockCommand.of(productId, SIZE, 2)))
+                    .isInstanceOf(ProductException.InsufficientStockException.class);
+            assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(5);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        assertThat(shardQuantity(0)).isEqualTo(2);
+    }
+
+    private void setShardQuantity(int shardNo, int quantity) {
+        jdbcTemplate.update("UPDATE product_stock_shard SET stock_quantity = ? WHERE product_id = ? AND size = ? AND shard_no = ?",
+                quantity, productId, SIZE, shardNo);
+    }
+
+    private int shardQuantity(int shardNo) {
+        return jdbcTemplate.queryForObject(
+                "SELECT stock_quantity FROM product_stock_shard WHERE product_id = ? AND size = ? AND shard_no = ?",
+                Integer.class, productId, SIZE, shardNo);
+    }
+}
@@ -0,0 +1,190 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.ProductException;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockChangedEvent;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.ProductStockShard;
+import kr.hhplus.be.server.domain.product.ProductStockShardRepository;
+import kr.hhplus.be.server.domain.product.StockDecreaseFailure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedStockDecreaseStrategyTest {
+
+    @Mock
+    ProductStockRepository productStockRepository;
+
+    @Mock
+    ProductStockShardRepository productStockShardRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    ShardedStockDecreaseStrategy strategy;
+
+    @Test
+    @DisplayName("샤딩되지 않은 SKU는 재고 행을 조건부 UPDATE로 차감한다")
+    void notSharded_decreasesStockRow() {
+        when(productStockRepository.findByProductIdAndSize(1L, 270)).thenReturn(Optional.of(ProductStock.of(1L, 270, 10)));
+        when(productStockRepository.decreaseIfEnough(1L, 270, 2)).thenReturn(1);
+
+        strategy.decrease(DecreaseStockCommand.of(1L, 270, 2));
+
+        verifyNoInteractions(productStockShardRepository);
+        verify(eventPublisher).publishEvent(new ProductStockChangedEvent(1L, 270));
+    }
+
+    @Test
+    @DisplayName("락 없이 읽은 수량으로 혼자 감당할 수 있는 샤드를 골라 UPDATE 한 번으로 차감한다")
+    void sharded_decreasesCandidateShard() {
+        when(productStockRepository.findByProductIdAndSize(1L, 270)).thenReturn(Optional.of(shardedStock(3)));
+        when(productStockShardRepository.findAll(1L, 270)).thenReturn(List.of(
+                ProductStockShard.of(1L, 270, 0, 0),
+                ProductStockShard.of(1L, 270, 1, 5),
+                ProductStockShard.of(1L, 270, 2, 0)));
+        when(productStockShardRepository.decreaseIfEnough(1L, 270, 1, 2)).thenReturn(1);
+
+        strategy.decrease(DecreaseStockCommand.of(1L, 270, 2));
+
+        verify(productStockShardRepository, times(1)).decreaseIfEnough(anyLong(), anyInt(), anyInt(), anyInt());
+        verify(productStockShardRepository, never()).findAllForUpdate(any(), anyInt());
+        verify(productStockShardRepository, never()).findAllForUpdateFrom(any(), anyInt(), anyInt());
+        verify(eventPublisher).publishEvent(new ProductStockChangedEvent(1L, 270));
+    }
+
+    @Test
+    @DisplayName("어느 샤드도 혼자 부족하면 UPDATE 없이 모든 샤드를 잠그고 나눠서 차감한다")
+    void sharded_takesAcrossShards() {
+        List<ProductStockShard> shards = List.of(
+                ProductStockShard.of(1L, 270, 0, 2),
+                ProductStockShard.of(1L, 270, 1, 2));
+        when(productStockRepository.findByProductIdAndSize(1L, 270)).thenReturn(Optional.of(shardedStock(2)));
+        when(productStockShardRepository.findAll(1L, 270)).thenReturn(List.of(
+                ProductStockShard.of(1L, 270, 0, 2),
+                ProductStockShard.of(1L, 270, 1, 2)));
+        when(productStockShardRepository.findAllForUpdate(1L, 270)).thenReturn(shards);
+
+        strategy.decrease(DecreaseStockCommand.of(1L, 270, 3));
+
+        assertThat(shards).extracting(ProductStockShard::getStockQuantity).containsExactly(0, 1);
+        verify(productStockShardRepository).saveAll(shards);
+        verify(productStockShardRepository, never()).decreaseIfEnough(anyLong(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("고른 샤드의 UPDATE가 경합으로 실패하면 그 샤드 이상만 잠그고 나눠서 차감한다")
+    void sharded_probeLost_locksOnlyFromProbedShard() {
+        List<ProductStockShard> locked = List.of(
+                ProductStockShard.of(1L, 270, 1, 1),
+                ProductStockShard.of(1L, 270, 2, 1));
+        when(productStockRepository.findByProductIdAndSize(1L, 270)).thenReturn(Optional.of(shardedStock(3)));
+        when(productStockShardRepository.findAll(1L, 270)).thenReturn(List.of(
+                ProductStockShard.of(1L, 270, 0, 1),
+                ProductStockShard.of(1L, 270, 1, 2),
+                ProductStockShard.of(1L, 270, 2, 1)));
+        when(productStockShardRepository.decreaseIfEnough(1L, 270, 1, 2)).thenReturn(0);
+        when(productStockShardRepository.findAllForUpdateFrom(1L, 270, 1)).thenReturn(locked);
+
+        strategy.decrease(DecreaseStockCommand.of(1L, 270, 2));
+
+        assertThat(locked).extracting(ProductStockShard::getStockQuantity).containsExactly(0, 0);
+        verify(productStockShardRepository).saveAll(locked);
+        verify(productStockShardRepository, never()).findAllForUpdate(any(), anyInt());
+        verify(productStockShardRepository, never()).findAllForUpdateBeforeSkipLocked(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("경합에서 진 뒤 그 샤드 이상으로 부족하면 더 낮은 샤드 중 잠기지 않은 것에서 마저 차감한다")
+    void sharded_probeLost_fallsBackToLowerShards() {
+        ProductStockShard lower = ProductStockShard.of(1L, 270, 0, 3);
+        List<ProductStockShard> upper = List.of(
+                ProductStockShard.of(1L, 270, 1, 0),
+                ProductStockShard.of(1L, 270, 2, 1));
+        when(productStockRepository.findByProductIdAndSize(1L, 270)).thenReturn(Optional.of(shardedStock(3)));
+        when(productStockShardRepository.findAll(1L, 270)).thenReturn(List.of(
+                ProductStockShard.of(1L, 270, 0, 1),
+                ProductStockShard.of(1L, 270, 1, 2),
+                ProductStockShard.of(1L, 270, 2, 1)));
+        when(productStockShardRepository.decreaseIfEnough(1L, 270, 1, 2)).thenReturn(0);
+        when(productStockShardRepository.findAllForUpdateFrom(1L, 270, 1)).thenReturn(upper);
+        when(productStockShardRepository.findAllForUpdateBeforeSkipLocked(1L, 270, 1)).thenReturn(List.of(lower));
+
+        strategy.decrease(DecreaseStockCommand.of(1L, 270, 2));
+
+        assertThat(upper).extracting(ProductStockShard::getStockQuantity).containsExactly(0, 0);
+        assertThat(lower.getStockQuantity()).isEqualTo(2);
+        verify(eventPublisher).publishEvent(new ProductStockChangedEvent(1L, 270));
+    }
+
+    @Test
+    @DisplayName("경합에서 진 뒤 잠글 수 있는 샤드를 모두 합쳐도 부족하면 재고 부족")
+    void sharded_probeLost_lowerShardsLocked_insufficient() {
+        when(productStockRepository.findByProductIdAndSize(1L, 270)).thenReturn(Optional.of(shardedStock(2)));
+        when(productStockShardRepository.findAll(1L, 270)).thenReturn(List.of(
+                ProductStockShard.of(1L, 270, 0, 2),
+                ProductStockShard.of(1L, 270, 1, 2)));
+        when(productStockShardRepository.decreaseIfEnough(eq(1L), eq(270), anyInt(), eq(2))).thenReturn(0);
+        when(productStockShardRepository.findAllForUpdateFrom(eq(1L), eq(270), anyInt()))
+                .thenReturn(List.of(ProductStockShard.of(1L, 270, 1, 0)));
+        when(productStockShardRepository.findAllForUpdateBeforeSkipLocked(eq(1L), eq(270), anyInt()))
+                .thenReturn(List.of());
+
+        assertThatThrownBy(() -> strategy.decrease(DecreaseStockCommand.of(1L, 270, 2)))
+                .isInstanceOf(ProductException.InsufficientStockException.class);
+        verify(productStockShardRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("모든 샤드를 합쳐도 부족하면 재고 부족")
+    void sharded_insufficient() {
+        List<ProductStockShard> shards = List.of(
+                ProductStockShard.of(1L, 270, 0, 2),
+                ProductStockShard.of(1L, 270, 1, 2));
+        when(productStockRepository.findByProductIdAndSize(1L, 270)).thenReturn(Optional.of(shardedStock(2)));
+        when(productStockShardRepository.findAll(1L, 270)).thenReturn(shards);
+        when(productStockShardRepository.findAllForUpdate(1L, 270)).thenReturn(shards);
+
+        assertThatThrownBy(() -> strategy.decrease(DecreaseStockCommand.of(1L, 270, 5)))
+                .isInstanceOf(ProductException.InsufficientStockException.class);
+        verify(productStockShardRepository, never()).saveAll(anyList());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("여러 줄 차감은 실패한 줄을 모두 알려준다")
+    void decreaseAll_reportsFailedLines() {
+        when(productStockRepository.findByProductIdAndSize(1L, 270)).thenReturn(Optional.of(ProductStock.of(1L, 270, 1)));
+        when(productStockRepository.decreaseIfEnough(1L, 270, 2)).thenReturn(0);
+        when(productStockRepository.findByProductIdAndSize(2L, 260)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> strategy.decreaseAll(List.of(
+                DecreaseStockCommand.of(1L, 270, 2),
+                DecreaseStockCommand.of(2L, 260, 1))))
+                .isInstanceOfSatisfying(ProductException.StockDecreaseFailedException.class, e ->
+                        assertThat(e.getFailures()).containsExactly(
+                                StockDecreaseFailure.insufficient(1L, 270, 2),
+                                StockDecreaseFailure.notFound(2L, 260, 1)));
+    }
+
+    private ProductStock shardedStock(int shardCount) {
+        ProductStock stock = ProductStock.of(1L, 270, 0);
+        stock.redistribute(0, shardCount);
+        return stock;
+    }
+}
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.application.product;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "stock.decrease-strategy=sharded")
+class ShardedStockLoadTest extends StockDecreaseLoadTestSupport {
+
+    private static final int SHARDS = 8;
+
+    @Autowired
+    StockShardService stockShardService;
+
+    @Override
+    protected void prepareStock(Long productId, int size) {
+        stockShardService.reshard(productId, size, SHARDS);
+    }
+}
@@ -0,0 +1,118 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.application.order.CreateOrderCommand;
+import kr.hhplus.be.server.application.order.OrderFacadeService;
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.ProductStockSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 차감 방식별 주문 처리량 비교용 부하 테스트 골격.
+ * 하위 클래스가 stock.decrease-strategy 설정만 바꿔 같은 시나리오를 실행한다.
+ *
+ * <p>시나리오: 재고 100개인 한 사이즈에 200건의 1개 주문이 20개 스레드로 동시에 들어온다.</p>
+ * <p>검증 포인트: 정확히 100건만 성공하고 최종 재고는 0.</p>
+ */
+abstract class StockDecreaseLoadTestSupport {
+
+    private static final int SIZE = 270;
+    private static final int INIT_STOCK = 100;
+    private static final int ORDERS = 200;
+    private static final int THREADS = 20;
+
+    @Autowired
+    private OrderFacadeService orderFacadeService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockRepository stockRepository;
+
+    @Autowired
+    private StockDecreaseStrategy stockDecreaseStrategy;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = productRepository.save(Product.create(
+                "Load Test Product", "TestBrand", Money.wons(10000),
+                LocalDate.now().minusDays(1), null, null
+        ));
+        stockRepository.save(ProductStock.of(product.getId(), SIZE, INIT_STOCK));
+        this.productId = product.getId();
+        prepareStock(productId, SIZE);
+    }
+
+    /**
+     * 재고 행을 만든 뒤 방식별 준비(샤딩 등)가 필요하면 재정의한다.
+     */
+    protected void prepareStock(Long productId, int size) {
+    }
+
+    /**
+     * DB 반영이 지연되는 방식은 검증 전에 반영을 끝내도록 재정의한다.
+     */
+    protected void awaitStockPersisted() {
+    }
+
+    @Test
+    @DisplayName("동시 주문 부하에서 재고만큼만 성공하고 처리 시간을 출력한다")
+    void concurrentOrders() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch latch = new CountDownLatch(ORDERS);
+        AtomicInteger success = new AtomicInteger();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ORDERS; i++) {
+            long userId = 1000L + i;
+            executor.execute(() -> {
+                try {
+                    orderFacadeService.createOrder(new CreateOrderCommand(
+                            userId,
+                            List.of(new CreateOrderCommand.OrderItemCommand(productId, 1, SIZE)),
+                            null
+                    ));
+                    success.incrementAndGet();
+                } catch (Exception ignored) {
+                    // 재고 부족 실패는 정상 시나리오
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        executor.shutdown();
+        awaitStockPersisted();
+
+        // 샤딩된 재고도 포함한 총 재고
+        int remaining = stockRepository.findStockSummariesByProductIds(List.of(productId)).stream()
+                .mapToInt(ProductStockSummary::totalStockAsInt)
+                .sum();
+
+        System.out.printf("[%s] 주문 %d건 / 성공 %d건 / 남은 재고 %d / %d ms (%.1f orders/s)%n",
+                stockDecreaseStrategy.getClass().getSimpleName(), ORDERS, success.get(),
+                remaining, elapsedMs, ORDERS * 1000.0 / Math.max(elapsedMs, 1));
+
+        assertThat(success.get()).isEqualTo(INIT_STOCK);
+        assertThat(remaining).isZero();
+    }
+}
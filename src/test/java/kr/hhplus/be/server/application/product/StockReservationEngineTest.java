@@ -0,0 +1,173 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.ProductException;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.StockQuantityDelta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class StockReservationEngineTest {
+
+    private final ProductStockRepository productStockRepository = mock(ProductStockRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final StockReservationEngine engine = new StockReservationEngine(productStockRepository, eventPublisher);
+    private final ReservationStockDecreaseStrategy strategy = new ReservationStockDecreaseStrategy(engine);
+
+    @BeforeEach
+    void setUp() {
+        when(productStockRepository.findAllAfter(eq(0L), anyInt())).thenReturn(List.of(ProductStock.of(1L, 270, 10)));
+        when(productStockRepository.decreaseIfEnoughInBatch(anyList())).thenReturn(new int[]{1});
+        engine.preload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 예약은 가용 재고를 넘지 않는다")
+    void concurrentReservations_neverOversell() throws InterruptedException {
+        int threads = 16;
+        int attemptsPerThread = 1_000;
+        when(productStockRepository.findByProductIdAndSize(2L, 260))
+                .thenReturn(Optional.of(ProductStock.of(2L, 260, 5_000)));
+        AtomicInteger success = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    if (engine.tryReserve(2L, 260, 1)) {
+                        success.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        long elapsedMicros = (System.nanoTime() - start) / 1_000;
+        executor.shutdown();
+
+        assertThat(success.get()).isEqualTo(5_000);
+        assertThat(engine.availableQuantity(2L, 260)).isZero();
+        System.out.printf("재고 확인 %d건 / %d us%n", threads * attemptsPerThread, elapsedMicros);
+    }
+
+    @Test
+    @DisplayName("커밋된 예약만 모아서 한 번의 배치로 DB에 반영한다")
+    void committedReservations_flushedInBatch() {
+        TransactionSynchronizationManager.initSynchronization();
+        strategy.decrease(DecreaseStockCommand.of(1L, 270, 2));
+        strategy.decrease(DecreaseStockCommand.of(1L, 270, 3));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        engine.flush();
+
+        assertThat(engine.availableQuantity(1L, 270)).isEqualTo(5);
+        verify(productStockRepository, times(1)).decreaseIfEnoughInBatch(List.of(new StockQuantityDelta(1L, 270, 5)));
+    }
+
+    @Test
+    @DisplayName("주문 트랜잭션이 롤백되면 예약을 되돌리고 DB에 반영하지 않는다")
+    void rolledBackReservation_released() {
+        TransactionSynchronizationManager.initSynchronization();
+        strategy.decrease(DecreaseStockCommand.of(1L, 270, 4));
+        assertThat(engine.availableQuantity(1L, 270)).isEqualTo(6);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        engine.flush();
+
+        assertThat(engine.availableQuantity(1L, 270)).isEqualTo(10);
+        verify(productStockRepository, never()).decreaseIfEnoughInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("가용 재고보다 많이 요청하면 재고 부족")
+    void insufficient() {
+        assertThatThrownBy(() -> strategy.decrease(DecreaseStockCommand.of(1L, 270, 11)))
+                .isInstanceOf(ProductException.InsufficientStockException.class);
+        assertThat(engine.availableQuantity(1L, 270)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패한 차감분은 다음 주기에 다시 반영한다")
+    void failedFlush_retried() {
+        when(productStockRepository.decreaseIfEnoughInBatch(anyList()))
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(new int[]{1});
+        strategy.decrease(DecreaseStockCommand.of(1L, 270, 1));
+
+        engine.flush();
+        engine.flush();
+
+        verify(productStockRepository, times(2)).decreaseIfEnoughInBatch(List.of(new StockQuantityDelta(1L, 270, 1)));
+    }
+
+    @Test
+    @DisplayName("DB 재고가 확정 차감분보다 적으면 재시도하지 않고 해당 재고의 판매를 막는다")
+    void shortDbStock_blocksFurtherReservations() {
+        when(productStockRepository.decreaseIfEnoughInBatch(anyList())).thenReturn(new int[]{0});
+        strategy.decrease(DecreaseStockCommand.of(1L, 270, 3));
+
+        engine.flush();
+        engine.flush();
+
+        assertThat(engine.availableQuantity(1L, 270)).isZero();
+        assertThat(engine.tryReserve(1L, 270, 1)).isFalse();
+        verify(productStockRepository, times(1)).decreaseIfEnoughInBatch(anyList());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("재고는 페이지 단위로 나눠 적재한다")
+    void preload_pagesThroughStocks() {
+        List<ProductStock> firstPage = IntStream.rangeClosed(1, 1_000)
+                .mapToObj(i -> stockWithId((long) i, 100L + i))
+                .toList();
+        when(productStockRepository.findAllAfter(0L, 1_000)).thenReturn(firstPage);
+        when(productStockRepository.findAllAfter(1_000L, 1_000)).thenReturn(List.of(stockWithId(1_001L, 2_000L)));
+
+        engine.preload();
+
+        assertThat(engine.availableQuantity(101L, 270)).isEqualTo(10);
+        assertThat(engine.availableQuantity(2_000L, 270)).isEqualTo(10);
+        verify(productStockRepository, never()).findAllAfter(eq(1_001L), anyInt());
+    }
+
+    private ProductStock stockWithId(Long id, Long productId) {
+        ProductStock stock = ProductStock.of(productId, 270, 10);
+        ReflectionTestUtils.setField(stock, "id", id);
+        return stock;
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(status));
+    }
+}
@@ -14,9 +14,11 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -28,6 +30,7 @@ class StockServiceIntegrationTest {
     @Autowired ProductStockRepository stockRepository;
 
     private Long productId;
+    private Long otherProductId;
 
     @BeforeEach
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
@@ -37,6 +40,11 @@ class StockServiceIntegrationTest {
         productId = product.getId();
 
         stockRepository.save(ProductStock.of(productId, 270, 10));
+
+        Product other = productRepository.save(
+                Product.create("Other Product", "Brand", Money.wons(20000), LocalDate.now().minusDays(1), null, null));
+        otherProductId = other.getId();
+        stockRepository.save(ProductStock.of(otherProductId, 270, 100));
     }
 
     @Test
@@ -66,4 +74,36 @@ class StockServiceIntegrationTest {
         System.out.println("남은 재고: " + stock.getStockQuantity());
         assertThat(stock.getStockQuantity()).isZero(); // 정확히 2개 요청만 성공해야 함
     }
+
+    @Test
+    @DisplayName("같은 상품들을 반대 순서로 담은 주문이 동시에 들어와도 교착 상태 없이 모두 차감된다")
+    void decreaseAll_oppositeOrder_noDeadlock() throws InterruptedException {
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger failure = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            List<DecreaseStockCommand> cart = i % 2 == 0
+                    ? List.of(DecreaseStockCommand.of(productId, 270, 1), DecreaseStockCommand.of(otherProductId, 270, 1))
+                    : List.of(DecreaseStockCommand.of(otherProductId, 270, 1), DecreaseStockCommand.of(productId, 270, 1));
+            executor.submit(() -> {
+                try {
+                    stockService.decreaseAll(cart);
+                } catch (Exception e) {
+                    failure.incrementAndGet();
+                    System.out.println("실패: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(failure.get()).isZero();
+        assertThat(stockRepository.findByProductIdAndSize(productId, 270).orElseThrow().getStockQuantity()).isZero();
+        assertThat(stockRepository.findByProductIdAndSize(otherProductId, 270).orElseThrow().getStockQuantity()).isEqualTo(90);
+    }
 }
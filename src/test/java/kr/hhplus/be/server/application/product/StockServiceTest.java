@@ -2,15 +2,17 @@ package kr.hhplus.be.server.application.product;
 
 import kr.hhplus.be.server.domain.product.*;
 import kr.hhplus.be.server.common.vo.Money;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -20,14 +22,18 @@ import static org.mockito.Mockito.*;
 class StockServiceTest {
 
     @Mock
-    ProductRepository productRepository;
+    ProductStockRepository productStockRepository;
 
     @Mock
-    ProductStockRepository productStockRepository;
+    ApplicationEventPublisher eventPublisher;
 
-    @InjectMocks
     StockService stockService;
 
+    @BeforeEach
+    void setUp() {
+        stockService = new StockService(new PessimisticLockStockDecreaseStrategy(productStockRepository, eventPublisher));
+    }
+
     @Test
     @DisplayName("재고 차감 성공")
     void decrease_success() {
@@ -88,4 +94,64 @@ class StockServiceTest {
                 stockService.decrease(DecreaseStockCommand.of(productId, size, quantity)))
                 .isInstanceOf(ProductException.InsufficientStockException.class);
     }
+
+    @Test
+    @DisplayName("여러 줄 차감은 같은 줄을 합치고 (상품, 사이즈) 순으로 정렬해 한 번에 락을 잡는다")
+    void decreaseAll_locksInCanonicalOrder() {
+        // given
+        ProductStock first = ProductStock.of(1L, 270, 10);
+        ProductStock second = ProductStock.of(2L, 260, 10);
+        List<StockQuantityDelta> canonical = List.of(
+                new StockQuantityDelta(1L, 270, 3),
+                new StockQuantityDelta(2L, 260, 2));
+        when(productStockRepository.findAllForUpdate(canonical)).thenReturn(List.of(first, second));
+
+        // when
+        stockService.decreaseAll(List.of(
+                DecreaseStockCommand.of(2L, 260, 2),
+                DecreaseStockCommand.of(1L, 270, 1),
+                DecreaseStockCommand.of(1L, 270, 2)));
+
+        // then
+        assertThat(first.getStockQuantity()).isEqualTo(7);
+        assertThat(second.getStockQuantity()).isEqualTo(8);
+        verify(productStockRepository, times(1)).findAllForUpdate(anyList());
+        verify(productStockRepository, never()).findByProductIdAndSizeForUpdate(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("여러 줄 차감에 실패하면 실패한 줄을 모두 알려주고 어떤 줄도 차감하지 않는다")
+    void decreaseAll_reportsEveryFailedLine() {
+        // given
+        ProductStock enough = ProductStock.of(1L, 270, 10);
+        ProductStock lacking = ProductStock.of(2L, 260, 1);
+        when(productStockRepository.findAllForUpdate(anyList())).thenReturn(List.of(enough, lacking));
+
+        // expect
+        assertThatThrownBy(() -> stockService.decreaseAll(List.of(
+                DecreaseStockCommand.of(1L, 270, 3),
+                DecreaseStockCommand.of(2L, 260, 2),
+                DecreaseStockCommand.of(3L, 250, 1))))
+                .isInstanceOfSatisfying(ProductException.StockDecreaseFailedException.class, e ->
+                        assertThat(e.getFailures()).containsExactly(
+                                StockDecreaseFailure.insufficient(2L, 260, 2),
+                                StockDecreaseFailure.notFound(3L, 250, 1)));
+        assertThat(enough.getStockQuantity()).isEqualTo(10);
+        verify(productStockRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("재고 복원은 같은 줄을 합쳐 (상품, 사이즈) 순서의 배치 UPDATE 한 번으로 반영한다")
+    void restoreAll_batchesInCanonicalOrder() {
+        stockService.restoreAll(List.of(
+                new StockQuantityDelta(2L, 260, 1),
+                new StockQuantityDelta(1L, 270, 2),
+                new StockQuantityDelta(2L, 260, 3)));
+
+        verify(productStockRepository).increaseInBatch(List.of(
+                new StockQuantityDelta(1L, 270, 2),
+                new StockQuantityDelta(2L, 260, 4)));
+        verify(eventPublisher).publishEvent(new ProductStockChangedEvent(1L, 270));
+        verify(eventPublisher).publishEvent(new ProductStockChangedEvent(2L, 260));
+    }
 }
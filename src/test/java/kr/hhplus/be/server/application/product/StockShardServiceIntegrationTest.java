@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.ProductStockShard;
+import kr.hhplus.be.server.domain.product.ProductStockShardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "stock.decrease-strategy=sharded")
+class StockShardServiceIntegrationTest {
+
+    @Autowired StockShardService stockShardService;
+    @Autowired StockService stockService;
+    @Autowired ProductService productService;
+    @Autowired ProductRepository productRepository;
+    @Autowired ProductStockRepository stockRepository;
+    @Autowired ProductStockShardRepository shardRepository;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = productRepository.save(
+                Product.create("Drop Product", "Brand", Money.wons(10000), LocalDate.now().minusDays(1), null, null));
+        productId = product.getId();
+        stockRepository.save(ProductStock.of(productId, 270, 10));
+        stockRepository.save(ProductStock.of(productId, 280, 5));
+    }
+
+    @Test
+    @DisplayName("샤드로 나눠도 상세와 목록의 재고 합계는 그대로이고, 차감도 합계에 반영된다")
+    void reshard_keepsTotals() {
+        stockShardService.reshard(productId, 270, 4);
+
+        assertThat(shardRepository.findAll(productId, 270)).extracting(ProductStockShard::getStockQuantity)
+                .containsExactly(3, 3, 2, 2);
+        assertThat(detailStock(270)).isEqualTo(10);
+        assertThat(listStock()).isEqualTo(15);
+
+        stockService.decreaseAll(List.of(DecreaseStockCommand.of(productId, 270, 4)));
+
+        assertThat(detailStock(270)).isEqualTo(6);
+        assertThat(listStock()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("샤딩을 해제하면 남은 재고가 재고 행으로 돌아온다")
+    void unshard_restoresStockRow() {
+        stockShardService.reshard(productId, 270, 4);
+        stockService.decrease(DecreaseStockCommand.of(productId, 270, 1));
+
+        stockShardService.reshard(productId, 270, 1);
+
+        assertThat(shardRepository.findAll(productId, 270)).isEmpty();
+        ProductStock stock = stockRepository.findByProductIdAndSize(productId, 270).orElseThrow();
+        assertThat(stock.isSharded()).isFalse();
+        assertThat(stock.getStockQuantity()).isEqualTo(9);
+    }
+
+    private int detailStock(int size) {
+        return productService.getProductDetail(new GetProductDetailCommand(productId, size)).product().stockQuantity();
+    }
+
+    private int listStock() {
+        return stockRepository.findStockSummariesByProductIds(List.of(productId)).get(0).totalStockAsInt();
+    }
+}
@@ -0,0 +1,131 @@
+package kr.hhplus.be.server.application.productstatistics;
+
+import kr.hhplus.be.server.domain.productstatistics.ProductStatistics;
+import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsRepository;
+import kr.hhplus.be.server.infrastructure.product.ProductStatisticsJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 상품 집계: JVM 집계(기존) vs DB GROUP BY 집계 비교.
+ * 대량 데이터를 적재하므로 BENCHMARK=true 일 때만 실행한다.
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class PopularProductAggregationBenchmarkTest {
+
+    private static final long PRODUCT_ID_OFFSET = 1_000_000L;
+    private static final int DAYS = 10;
+    private static final int CHUNK = 5_000;
+    private static final int WARMUP = 2;
+    private static final int RUNS = 5;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ProductStatisticsRepository repository;
+
+    @Autowired
+    ProductStatisticsJpaRepository jpaRepository;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product_statistics WHERE product_id >= ?", PRODUCT_ID_OFFSET);
+    }
+
+    @ParameterizedTest(name = "{0} rows")
+    @ValueSource(ints = {100_000, 1_000_000})
+    @DisplayName("인기 상품 집계 경로별 응답 시간 비교")
+    void compareAggregationPaths(int rows) {
+        // given
+        LocalDate today = LocalDate.now();
+        insertStatistics(rows, today);
+        LocalDate from = today.minusDays(3);
+        int limit = 5;
+
+        // when
+        double legacyMs = measure(() -> aggregateInJvm(from, today, limit));
+        double sqlMs = measure(() -> repository.findTopSellingProducts(from, today, limit));
+
+        // then
+        assertThat(repository.findTopSellingProducts(from, today, limit))
+                .extracting(ProductSalesInfo::salesCount)
+                .containsExactlyElementsOf(aggregateInJvm(from, today, limit).stream()
+                        .map(ProductSalesInfo::salesCount)
+                        .toList());
+
+        System.out.printf("[%,d rows] JVM 집계: %.1f ms, DB 집계: %.1f ms (%.1fx)%n",
+                rows, legacyMs, sqlMs, legacyMs / sqlMs);
+    }
+
+    /**
+     * 기존 구현: 기간 내 모든 행을 엔티티로 적재한 뒤 JVM에서 그룹핑/정렬.
+     */
+    private List<ProductSalesInfo> aggregateInJvm(LocalDate from, LocalDate to, int limit) {
+        return jpaRepository.findByStatDateBetween(from, to).stream()
+                .collect(Collectors.groupingBy(
+                        ProductStatistics::getProductId,
+                        Collectors.summingInt(ProductStatistics::getSalesCount)
+                ))
+                .entrySet().stream()
+                .map(entry -> new ProductSalesInfo(entry.getKey(), (long) entry.getValue()))
+                .sorted(Comparator.comparing(ProductSalesInfo::salesCount).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private double measure(Supplier<?> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+        long total = 0;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            total += System.nanoTime() - start;
+        }
+        return total / (double) RUNS / 1_000_000;
+    }
+
+    private void insertStatistics(int rows, LocalDate today) {
+        int products = rows / DAYS;
+        StringBuilder sql = new StringBuilder();
+        int buffered = 0;
+        for (int p = 0; p < products; p++) {
+            for (int d = 0; d < DAYS; d++) {
+                if (buffered == 0) {
+                    sql.setLength(0);
+                    sql.append("INSERT INTO product_statistics (product_id, stat_date, sales_count, sales_amount) VALUES ");
+                } else {
+                    sql.append(',');
+                }
+                int salesCount = (p * 31 + d * 7) % 1_000;
+                sql.append('(').append(PRODUCT_ID_OFFSET + p)
+                        .append(",'").append(today.minusDays(d)).append("',")
+                        .append(salesCount).append(',').append(salesCount * 1_000L).append(')');
+                if (++buffered == CHUNK) {
+                    jdbcTemplate.execute(sql.toString());
+                    buffered = 0;
+                }
+            }
+        }
+        if (buffered > 0) {
+            jdbcTemplate.execute(sql.toString());
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.test.annotation.DirtiesContext;
 
@@ -29,8 +30,12 @@ class ProductStatisticsServiceIntegrationTest {
     @Autowired
     ProductStatisticsRepository repository;
 
+    @Autowired
+    SalesStatisticsBuffer salesBuffer;
+
     @Test
-    @DisplayName("오늘자 통계가 없을 경우 새로 생성되어 저장된다")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 커밋 후 버퍼에 반영되므로 트랜잭션 밖에서 검증
+    @DisplayName("오늘자 통계가 없을 경우 버퍼 반영 시 새로 생성되어 저장된다")
     void record_createsNewStatistics() {
         // given
         Long productId = 10L; // 실제 존재하는 제품 ID (예: Reebok Classic Leather)
@@ -42,20 +47,26 @@ class ProductStatisticsServiceIntegrationTest {
         repository.findByProductIdAndStatDate(productId, today)
                 .ifPresent(stat -> repository.delete(stat));
 
-        // when
-        service.record(new RecordSalesCommand(productId, quantity, unitAmount));
+        try {
+            // when
+            service.record(new RecordSalesCommand(productId, quantity, unitAmount));
+            salesBuffer.flush();
 
-        // then
-        ProductStatistics stats = repository.findByProductIdAndStatDate(productId, today)
-                .orElseThrow(() -> new AssertionError("통계가 저장되지 않았습니다"));
+            // then
+            ProductStatistics stats = repository.findByProductIdAndStatDate(productId, today)
+                    .orElseThrow(() -> new AssertionError("통계가 저장되지 않았습니다"));
 
-        assertThat(stats.getSalesCount()).isEqualTo(2);
-        assertThat(stats.getSalesAmount()).isEqualTo(20000L); // 2 * 10000
+            assertThat(stats.getSalesCount()).isEqualTo(2);
+            assertThat(stats.getSalesAmount()).isEqualTo(20000L); // 2 * 10000
+        } finally {
+            repository.findByProductIdAndStatDate(productId, today).ifPresent(repository::delete);
+        }
     }
 
 
     @Test
-    @DisplayName("오늘자 통계가 존재하면 판매량과 금액이 누적된다")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("오늘자 통계가 존재하면 버퍼 반영 시 판매량과 금액이 누적된다")
     void record_accumulatesIfStatisticsExists() {
         // given
         Long productId = 9L; // Vans Old Skool
@@ -67,13 +78,18 @@ class ProductStatisticsServiceIntegrationTest {
         existing.addSales(1, Money.wons(5000L));
         repository.save(existing);
 
-        // when
-        service.record(new RecordSalesCommand(productId, 2, 5000L));
-
-        // then
-        ProductStatistics stats = repository.findByProductIdAndStatDate(productId, today).orElseThrow();
-        assertThat(stats.getSalesCount()).isEqualTo(3);
-        assertThat(stats.getSalesAmount()).isEqualTo(15000L);
+        try {
+            // when
+            service.record(new RecordSalesCommand(productId, 2, 5000L));
+            salesBuffer.flush();
+
+            // then
+            ProductStatistics stats = repository.findByProductIdAndStatDate(productId, today).orElseThrow();
+            assertThat(stats.getSalesCount()).isEqualTo(3);
+            assertThat(stats.getSalesAmount()).isEqualTo(15000L);
+        } finally {
+            repository.findByProductIdAndStatDate(productId, today).ifPresent(repository::delete);
+        }
     }
 
     @Test
@@ -103,5 +119,25 @@ class ProductStatisticsServiceIntegrationTest {
         });
     }
 
+    @Test
+    @DisplayName("DB 집계는 기간 내 여러 날짜의 판매량을 상품별로 합산해 정렬한다")
+    void findTopSellingProducts_sumsSalesAcrossDays() {
+        // given
+        LocalDate today = LocalDate.now();
+        ProductStatistics first = new ProductStatistics(new ProductStatisticsId(11L, today), 50, Money.wons(0));
+        ProductStatistics second = new ProductStatistics(new ProductStatisticsId(11L, today.minusDays(1)), 50, Money.wons(0));
+        ProductStatistics third = new ProductStatistics(new ProductStatisticsId(12L, today), 80, Money.wons(0));
+        ProductStatistics outOfRange = new ProductStatistics(new ProductStatisticsId(12L, today.minusDays(10)), 500, Money.wons(0));
+        repository.saveAll(List.of(first, second, third, outOfRange));
+
+        // when
+        List<ProductSalesInfo> results = repository.findTopSellingProducts(today.minusDays(3), today, 2);
+
+        // then
+        assertThat(results).containsExactly(
+                new ProductSalesInfo(11L, 100L),
+                new ProductSalesInfo(12L, 80L)
+        );
+    }
 
 }
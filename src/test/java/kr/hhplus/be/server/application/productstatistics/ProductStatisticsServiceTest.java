@@ -1,20 +1,24 @@
 package kr.hhplus.be.server.application.productstatistics;
 
-import kr.hhplus.be.server.domain.productstatistics.ProductStatistics;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsRepository;
+import kr.hhplus.be.server.application.product.PopularProductCriteria;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,50 +26,66 @@ class ProductStatisticsServiceTest {
 
     @Mock
     ProductStatisticsRepository repository;
+    @Mock
+    SalesLeaderboard leaderboard;
+    @Mock
+    SalesStatisticsBuffer salesBuffer;
 
-    @InjectMocks
     ProductStatisticsService service;
 
+    @BeforeEach
+    void setUp() {
+        service = new ProductStatisticsService(repository, leaderboard, salesBuffer, Clock.systemDefaultZone());
+    }
+
     @Test
-    @DisplayName("오늘자 통계가 존재하지 않으면 새로 생성 후 저장한다")
-    void record_createsNewStatsIfNotExist() {
+    @DisplayName("판매 기록은 통계 행을 읽고 쓰지 않고 쓰기 지연 버퍼에 증분을 더한다")
+    void record_addsDeltaToBuffer() {
         // given
         Long productId = 1L;
         int quantity = 3;
         long amount = 10000;
         LocalDate today = LocalDate.now();
 
-        when(repository.findByProductIdAndStatDate(productId, today)).thenReturn(Optional.empty());
-
         // when
         service.record(new RecordSalesCommand(productId, quantity, amount));
 
         // then
-        verify(repository).save(argThat(stats ->
-                stats.getProductId().equals(productId) &&
-                        stats.getSalesCount() == quantity &&
-                        stats.getSalesAmount() == amount * quantity
-        ));
+        verify(salesBuffer).add(productId, today, quantity, amount * quantity);
+        verify(leaderboard).record(productId, today, quantity);
+        verifyNoInteractions(repository);
     }
 
     @Test
-    @DisplayName("오늘자 통계가 존재하면 누적 후 저장한다")
-    void record_updatesExistingStats() {
+    @DisplayName("리더보드가 지원하는 기간이면 DB를 조회하지 않고 리더보드로 응답한다")
+    void getTopSellingProducts_fromLeaderboard() {
         // given
-        Long productId = 1L;
-        int quantity = 2;
-        long amount = 5000;
-        LocalDate today = LocalDate.now();
+        PopularProductCriteria criteria = new PopularProductCriteria(3, 5);
+        when(leaderboard.supports(3)).thenReturn(true);
+        when(leaderboard.top(3, 5)).thenReturn(List.of(new ProductSalesInfo(1L, 10L)));
+
+        // when
+        var result = service.getTopSellingProducts(criteria);
+
+        // then
+        assertThat(result).isEqualTo(List.of(new ProductSalesInfo(1L, 10L)));
+        verify(repository, never()).findTopSellingProducts(any(), any(), anyInt());
+    }
 
-        ProductStatistics existing = ProductStatistics.create(productId, today);
-        when(repository.findByProductIdAndStatDate(productId, today)).thenReturn(Optional.of(existing));
+    @Test
+    @DisplayName("리더보드 윈도우를 넘는 기간은 DB 집계로 조회한다")
+    void getTopSellingProducts_fallsBackToRepository() {
+        // given
+        PopularProductCriteria criteria = new PopularProductCriteria(30, 5);
+        LocalDate today = LocalDate.now();
+        when(leaderboard.supports(30)).thenReturn(false);
+        when(repository.findTopSellingProducts(today.minusDays(30), today, 5))
+                .thenReturn(List.of(new ProductSalesInfo(2L, 7L)));
 
         // when
-        service.record(new RecordSalesCommand(productId, quantity, amount));
+        var result = service.getTopSellingProducts(criteria);
 
         // then
-        assertThat(existing.getSalesCount()).isEqualTo(quantity);
-        assertThat(existing.getSalesAmount()).isEqualTo(quantity * amount);
-        verify(repository).save(existing);
+        assertThat(result).isEqualTo(List.of(new ProductSalesInfo(2L, 7L)));
     }
 }
@@ -0,0 +1,118 @@
+package kr.hhplus.be.server.application.productstatistics;
+
+import kr.hhplus.be.server.common.TestClock;
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.productstatistics.ProductStatistics;
+import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsId;
+import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SalesLeaderboardTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 7, 10);
+
+    private final ProductStatisticsRepository repository = mock(ProductStatisticsRepository.class);
+    private final TestClock clock = TestClock.at("2025-07-10T12:00:00Z");
+    private final SalesLeaderboard leaderboard = new SalesLeaderboard(repository, clock, 3);
+
+    @Test
+    @DisplayName("기동 시 통계 테이블로 재구성하고 기간별 판매량 합계 순으로 상위 N개를 반환한다")
+    void rebuild_ranksByWindowTotal() {
+        // given
+        when(repository.findAllByStatDateBetween(TODAY.minusDays(3), TODAY)).thenReturn(List.of(
+                stats(1L, TODAY, 5),
+                stats(2L, TODAY, 3),
+                stats(2L, TODAY.minusDays(2), 10),
+                stats(3L, TODAY.minusDays(3), 20)
+        ));
+
+        // when
+        leaderboard.rebuild();
+
+        // then
+        assertThat(leaderboard.top(0, 5)).containsExactly(info(1L, 5), info(2L, 3));
+        assertThat(leaderboard.top(2, 2)).containsExactly(info(2L, 13), info(1L, 5));
+        assertThat(leaderboard.top(3, 5)).containsExactly(info(3L, 20), info(2L, 13), info(1L, 5));
+    }
+
+    @Test
+    @DisplayName("판매 기록은 즉시 순위에 반영된다")
+    void record_updatesRankingIncrementally() {
+        // given
+        when(repository.findAllByStatDateBetween(TODAY.minusDays(3), TODAY))
+                .thenReturn(List.of(stats(1L, TODAY, 5)));
+        leaderboard.rebuild();
+
+        // when
+        leaderboard.record(2L, TODAY, 4);
+        leaderboard.record(2L, TODAY, 4);
+
+        // then
+        assertThat(leaderboard.top(3, 5)).containsExactly(info(2L, 8), info(1L, 5));
+    }
+
+    @Test
+    @DisplayName("재구성 전에 기록된 판매는 스냅샷을 적용한 뒤 더해진다")
+    void recordBeforeReady_mergedAfterRebuild() {
+        // given
+        when(repository.findAllByStatDateBetween(TODAY.minusDays(3), TODAY))
+                .thenReturn(List.of(stats(1L, TODAY, 5)));
+        leaderboard.record(2L, TODAY, 4);
+        leaderboard.record(2L, TODAY, 3);
+        leaderboard.record(1L, TODAY, 1);
+
+        // when
+        leaderboard.rebuild();
+
+        // then
+        assertThat(leaderboard.top(0, 5)).containsExactly(info(2L, 7), info(1L, 6));
+    }
+
+    @Test
+    @DisplayName("자정이 지나면 윈도우를 벗어난 날짜의 판매량이 빠진다")
+    void roll_dropsExpiredBucket() {
+        // given
+        when(repository.findAllByStatDateBetween(TODAY.minusDays(3), TODAY)).thenReturn(List.of(
+                stats(1L, TODAY, 5),
+                stats(3L, TODAY.minusDays(3), 20)
+        ));
+        leaderboard.rebuild();
+
+        // when
+        clock.advance(Duration.ofHours(12));
+        leaderboard.roll();
+        leaderboard.record(1L, TODAY.plusDays(1), 1);
+
+        // then
+        assertThat(leaderboard.top(3, 5)).containsExactly(info(1L, 6));
+        assertThat(leaderboard.top(0, 5)).containsExactly(info(1L, 1));
+    }
+
+    @Test
+    @DisplayName("재구성 전이거나 윈도우를 넘는 기간은 지원하지 않는다")
+    void supports() {
+        assertThat(leaderboard.supports(3)).isFalse();
+
+        leaderboard.rebuild();
+
+        assertThat(leaderboard.supports(3)).isTrue();
+        assertThat(leaderboard.supports(4)).isFalse();
+    }
+
+    private static ProductStatistics stats(Long productId, LocalDate date, int salesCount) {
+        return new ProductStatistics(new ProductStatisticsId(productId, date), salesCount, Money.wons(0));
+    }
+
+    private static ProductSalesInfo info(Long productId, long salesCount) {
+        return new ProductSalesInfo(productId, salesCount);
+    }
+}
@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.application.productstatistics;
+
+import kr.hhplus.be.server.common.TestClock;
+import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsRepository;
+import kr.hhplus.be.server.domain.productstatistics.SalesDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class SalesStatisticsBufferTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 7, 10);
+
+    private final ProductStatisticsRepository repository = mock(ProductStatisticsRepository.class);
+    private final SalesStatisticsBuffer buffer =
+            new SalesStatisticsBuffer(repository, TestClock.at("2025-07-10T12:00:00Z"));
+
+    @Test
+    @DisplayName("같은 상품/날짜의 판매는 하나의 증분으로 합쳐 한 번의 배치로 반영한다")
+    void flush_mergesDeltasPerKey() {
+        buffer.add(1L, TODAY, 2, 20_000);
+        buffer.add(1L, TODAY, 1, 10_000);
+        buffer.add(2L, TODAY, 5, 50_000);
+
+        buffer.flush();
+
+        verify(repository, times(1)).upsertSales(argThat(deltas ->
+                deltas.size() == 2
+                        && deltas.contains(new SalesDelta(1L, TODAY, 3, 30_000))
+                        && deltas.contains(new SalesDelta(2L, TODAY, 5, 50_000))));
+    }
+
+    @Test
+    @DisplayName("반영할 증분이 없으면 DB에 쓰지 않는다")
+    void flush_skipsWhenEmpty() {
+        buffer.add(1L, TODAY, 1, 10_000);
+        buffer.flush();
+        buffer.flush();
+
+        verify(repository, times(1)).upsertSales(anyList());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증분은 버퍼에 남아 다음 주기에 함께 반영된다")
+    void flush_retainsDeltasOnFailure() {
+        doThrow(new RuntimeException("db down")).doNothing().when(repository).upsertSales(anyList());
+        buffer.add(1L, TODAY, 2, 20_000);
+
+        buffer.flush();
+        buffer.add(1L, TODAY, 1, 10_000);
+        buffer.flush();
+
+        verify(repository).upsertSales(List.of(new SalesDelta(1L, TODAY, 3, 30_000)));
+    }
+
+    @Test
+    @DisplayName("판매 기록과 반영이 동시에 일어나도 유실되는 증분이 없다")
+    void concurrentAddAndFlush_noLostUpdates() throws InterruptedException {
+        // given
+        List<SalesDelta> flushed = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> flushed.addAll(invocation.getArgument(0)))
+                .when(repository).upsertSales(anyList());
+
+        int threads = 8;
+        int salesPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < salesPerThread; j++) {
+                    buffer.add(1L, TODAY, 1, 1_000);
+                }
+                done.countDown();
+            });
+        }
+        executor.submit(() -> {
+            while (done.getCount() > 0) {
+                buffer.flush();
+            }
+        });
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        buffer.flush();
+
+        // then
+        long totalCount = flushed.stream().mapToLong(SalesDelta::salesCount).sum();
+        long totalAmount = flushed.stream().mapToLong(SalesDelta::salesAmount).sum();
+        assertThat(totalCount).isEqualTo((long) threads * salesPerThread);
+        assertThat(totalAmount).isEqualTo((long) threads * salesPerThread * 1_000);
+        System.out.println("판매 " + totalCount + "건 → 통계 쓰기 " + flushed.size() + "건");
+    }
+}
@@ -0,0 +1,91 @@
+package kr.hhplus.be.server.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.TestClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TestClock clock = TestClock.at("2025-01-01T00:00:00Z");
+    private final LocalCache<Long, String> cache =
+            new LocalCache<>("test", 2, Duration.ofSeconds(10), clock, registry);
+
+    @Test
+    @DisplayName("두 번째 조회부터는 loader를 호출하지 않고 hit로 기록된다")
+    void get_hitAfterFirstLoad() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, key -> "v" + loads.incrementAndGet());
+        String value = cache.get(1L, key -> "v" + loads.incrementAndGet());
+
+        assertThat(value).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+        assertThat(count("cache.gets", "result", "hit")).isEqualTo(1);
+        assertThat(count("cache.gets", "result", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 로딩한다")
+    void get_reloadsAfterTtl() {
+        cache.get(1L, key -> "old");
+        clock.advance(Duration.ofSeconds(11));
+
+        assertThat(cache.get(1L, key -> "new")).isEqualTo("new");
+        assertThat(count("cache.evictions", "cause", "expired")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 제거한다")
+    void get_evictsLeastRecentlyUsed() {
+        cache.get(1L, key -> "a");
+        cache.get(2L, key -> "b");
+        cache.get(1L, key -> "a");
+        cache.get(3L, key -> "c");
+
+        assertThat(cache.getIfPresent(2L)).isNull();
+        assertThat(cache.getIfPresent(1L)).isEqualTo("a");
+        assertThat(count("cache.evictions", "cause", "size")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로딩 중 무효화된 키는 로딩 결과를 저장하지 않는다")
+    void get_discardsLoadInvalidatedWhileLoading() {
+        String loaded = cache.get(1L, key -> {
+            cache.evict(1L);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("loader가 null을 반환하면 저장하지 않는다")
+    void get_doesNotCacheNull() {
+        assertThat(cache.get(1L, key -> null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("put으로 저장한 값은 loader 없이 조회되고, 최대 크기를 넘으면 오래된 항목부터 밀려난다")
+    void put_storesWithoutLoader() {
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.put(3L, "c");
+
+        assertThat(cache.getIfPresent(3L)).isEqualTo("c");
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(count("cache.evictions", "cause", "size")).isEqualTo(1);
+    }
+
+    private double count(String name, String tagKey, String tagValue) {
+        return registry.get(name).tag("cache", "test").tag(tagKey, tagValue).counter().count();
+    }
+}
@@ -0,0 +1,66 @@
+package kr.hhplus.be.server.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TimeOrderedIdsTest {
+
+    @Test
+    @DisplayName("UUIDv7 형식(version 7, RFC 4122 variant)으로 생성된다")
+    void next_isVersion7() {
+        UUID id = TimeOrderedIds.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("생성 시각이 상위 비트에 기록된다")
+    void next_embedsTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = TimeOrderedIds.next();
+
+        // 같은 밀리초 용량을 넘긴 직후라면 다음 밀리초를 빌려 쓸 수 있어 약간의 여유를 둔다
+        assertThat(TimeOrderedIds.timestampOf(id)).isBetween(before, System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 연속 생성해도 문자열 순서가 생성 순서와 같다")
+    void nextString_isMonotonic() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            ids.add(TimeOrderedIds.nextString());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복이 없다")
+    void next_isUniqueUnderConcurrency() throws InterruptedException {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(TimeOrderedIds.next());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(ids).hasSize(80_000);
+    }
+}
@@ -0,0 +1,36 @@
+package kr.hhplus.be.server.common.scheduler;
+
+import kr.hhplus.be.server.application.order.StockHoldReclaimResult;
+import kr.hhplus.be.server.application.order.StockHoldReclaimService;
+import kr.hhplus.be.server.common.TestClock;
+import kr.hhplus.be.server.domain.order.OrderPageKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+class StockHoldSweeperTest {
+
+    private final StockHoldReclaimService reclaimService = mock(StockHoldReclaimService.class);
+    private final TestClock clock = TestClock.at("2025-05-01T12:00:00Z");
+
+    @Test
+    @DisplayName("페이지가 가득 차면 마지막 키 다음부터 이어서 조회하고, 덜 찬 페이지에서 멈춘다")
+    void sweep_pagesUntilShortPage() {
+        StockHoldSweeper sweeper = new StockHoldSweeper(reclaimService, clock);
+        ReflectionTestUtils.setField(sweeper, "batchSize", 2);
+        LocalDateTime now = LocalDateTime.of(2025, 5, 1, 12, 0);
+        OrderPageKey firstLast = new OrderPageKey(UUID.randomUUID(), now.minusHours(2));
+        when(reclaimService.reclaimPage(now, null, 2)).thenReturn(new StockHoldReclaimResult(2, 2, firstLast));
+        when(reclaimService.reclaimPage(now, firstLast, 2))
+                .thenReturn(new StockHoldReclaimResult(1, 1, new OrderPageKey(UUID.randomUUID(), now.minusHours(1))));
+
+        sweeper.sweep();
+
+        verify(reclaimService, times(2)).reclaimPage(any(), any(), anyInt());
+    }
+}
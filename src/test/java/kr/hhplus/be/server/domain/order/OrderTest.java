@@ -4,6 +4,8 @@ import kr.hhplus.be.server.common.vo.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,7 +21,7 @@ class OrderTest {
                 OrderItem.of(1L, 1, 270, Money.wons(100000))
         );
 
-        Order order = Order.create(1L, items, Money.wons(100000));
+        Order order = Order.create(1L, items, Money.wons(100000), LocalDateTime.now());
 
         assertThat(order.getUserId()).isEqualTo(1L);
         assertThat(order.getUserId()).isEqualTo(1L);
@@ -34,19 +36,33 @@ class OrderTest {
     void cancel_order_should_change_status_to_cancelled() {
         Order order = Order.create(1L,
                 List.of(OrderItem.of(1L, 1, 270, Money.wons(100000))),
-                Money.wons(100000));
+                Money.wons(100000), LocalDateTime.now());
 
         order.cancel();
 
         assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
     }
 
+    @Test
+    @DisplayName("결제 완료된 주문도 취소할 수 있다")
+    void cancel_confirmed_order_should_change_status_to_cancelled() {
+        Order order = Order.create(1L,
+                List.of(OrderItem.of(1L, 1, 270, Money.wons(100000))),
+                Money.wons(100000), 5L, LocalDateTime.now());
+        order.markConfirmed();
+
+        order.cancel();
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(order.getCouponIssueId()).isEqualTo(5L);
+    }
+
     @Test
     @DisplayName("이미 취소된 주문은 다시 취소할 수 없다")
     void cancel_order_should_fail_if_not_created_status() {
         Order order = Order.create(1L,
                 List.of(OrderItem.of(1L, 1, 270, Money.wons(100000))),
-                Money.wons(100000));
+                Money.wons(100000), LocalDateTime.now());
 
         order.cancel(); // 상태를 CANCELLED로 전환
 
@@ -58,7 +74,7 @@ class OrderTest {
     void mark_order_as_confirmed_should_change_status_to_confirmed() {
         Order order = Order.create(1L,
                 List.of(OrderItem.of(1L, 1, 270, Money.wons(100000))),
-                Money.wons(100000));
+                Money.wons(100000), LocalDateTime.now());
 
         order.markConfirmed();
 
@@ -70,7 +86,7 @@ class OrderTest {
     void mark_confirmed_should_fail_if_not_created_status() {
         Order order = Order.create(1L,
                 List.of(OrderItem.of(1L, 1, 270, Money.wons(100000))),
-                Money.wons(100000));
+                Money.wons(100000), LocalDateTime.now());
 
         order.markConfirmed(); // CONFIRMED 상태
 
@@ -81,7 +97,7 @@ class OrderTest {
     @DisplayName("주문 아이템이 비어있으면 주문 생성에 실패한다")
     void create_order_should_fail_when_no_items() {
         assertThatThrownBy(() ->
-                Order.create(1L, List.of(), Money.wons(0))
+                Order.create(1L, List.of(), Money.wons(0), LocalDateTime.now())
         ).isInstanceOf(OrderException.EmptyItemException.class);
     }
 
@@ -94,9 +110,26 @@ class OrderTest {
         );
 
         // 총 합계: 170,000
-        Order order = Order.create(1L, items, Money.wons(170000));
+        Order order = Order.create(1L, items, Money.wons(170000), LocalDateTime.now());
 
         assertThat(order.getTotalAmount()).isEqualTo(170000);
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("미결제 주문은 생성 후 보유 시간이 지나면 재고 보유가 만료되고, 결제된 주문은 만료되지 않는다")
+    void stock_hold_expires_only_for_unpaid_orders() {
+        Order order = Order.create(1L,
+                List.of(OrderItem.of(1L, 1, 270, Money.wons(100000))),
+                Money.wons(100000), LocalDateTime.now());
+        Duration ttl = Duration.ofMinutes(15);
+        LocalDateTime expiresAt = order.stockHoldExpiresAt(ttl);
+
+        assertThat(expiresAt).isEqualTo(order.getCreatedAt().plusMinutes(15));
+        assertThat(order.isStockHoldExpired(ttl, expiresAt.minusSeconds(1))).isFalse();
+        assertThat(order.isStockHoldExpired(ttl, expiresAt)).isTrue();
+
+        order.markConfirmed();
+        assertThat(order.isStockHoldExpired(ttl, expiresAt.plusHours(1))).isFalse();
+    }
+}
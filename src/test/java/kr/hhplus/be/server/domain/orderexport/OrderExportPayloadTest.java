@@ -6,6 +6,7 @@ import kr.hhplus.be.server.domain.order.OrderItem;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,7 +23,7 @@ class OrderExportPayloadTest {
         int size = 270;
 
         OrderItem orderItem = OrderItem.of(123L, quantity, size, Money.wons(price));
-        Order order = Order.create(userId, List.of(orderItem), Money.wons(price * quantity));
+        Order order = Order.create(userId, List.of(orderItem), Money.wons(price * quantity), LocalDateTime.now());
 
         // when
         OrderExportPayload payload = OrderExportPayload.from(order);
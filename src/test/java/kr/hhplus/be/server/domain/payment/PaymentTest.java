@@ -4,7 +4,10 @@ import kr.hhplus.be.server.common.vo.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class PaymentTest {
 
@@ -12,7 +15,7 @@ class PaymentTest {
     @DisplayName("성공 상태의 결제 객체 생성 테스트")
     void create_success_payment() {
         // given
-        String orderId = "order-123";
+        UUID orderId = UUID.randomUUID();
         Money amount = Money.wons(10000);
         String method = "BALANCE";
 
@@ -32,7 +35,7 @@ class PaymentTest {
     @DisplayName("실패 상태의 결제 객체 생성 테스트")
     void create_failure_payment() {
         // given
-        String orderId = "order-456";
+        UUID orderId = UUID.randomUUID();
         Money amount = Money.wons(5000);
         String method = "BALANCE";
 
@@ -47,4 +50,37 @@ class PaymentTest {
         assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILURE);
         assertThat(payment.isSuccess()).isFalse();
     }
+
+    @Test
+    @DisplayName("성공한 결제는 취소 상태로 바꿀 수 있다")
+    void cancel_success_payment() {
+        Payment payment = Payment.createSuccess(UUID.randomUUID(), Money.wons(5000), "BALANCE");
+
+        payment.cancel();
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("성공하지 않은 결제는 취소할 수 없다")
+    void cancel_failure_payment_should_fail() {
+        Payment payment = Payment.createFailure(UUID.randomUUID(), Money.wons(5000), "BALANCE");
+
+        assertThatThrownBy(payment::cancel).isInstanceOf(PaymentException.InvalidStateException.class);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILURE);
+    }
+
+    @Test
+    @DisplayName("승인 전 결제는 승인 결과에 따라 성공 또는 실패로 바뀌고, 이미 끝난 결제는 바꿀 수 없다")
+    void mark_initiated_payment() {
+        Payment approved = Payment.create(UUID.randomUUID(), Money.wons(5000), PaymentStatus.INITIATED, "CARD");
+        Payment declined = Payment.create(UUID.randomUUID(), Money.wons(5000), PaymentStatus.INITIATED, "CARD");
+
+        approved.markSuccess();
+        declined.markFailure();
+
+        assertThat(approved.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(declined.getStatus()).isEqualTo(PaymentStatus.FAILURE);
+        assertThatThrownBy(approved::markFailure).isInstanceOf(PaymentException.InvalidStateException.class);
+    }
 }
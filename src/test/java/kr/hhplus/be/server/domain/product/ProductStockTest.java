@@ -3,6 +3,8 @@ package kr.hhplus.be.server.domain.product;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -46,4 +48,30 @@ class ProductStockTest {
         assertThat(stock.isAvailable(2)).isTrue();
         assertThat(stock.isAvailable(4)).isFalse();
     }
+
+    @Test
+    @DisplayName("재고를 샤드로 나누면 합계는 유지되고 나머지는 앞 샤드부터 하나씩 더 받는다")
+    void redistribute_splits_total_evenly() {
+        ProductStock stock = ProductStock.of(1L, 270, 10);
+
+        List<ProductStockShard> shards = stock.redistribute(10, 3);
+
+        assertThat(stock.isSharded()).isTrue();
+        assertThat(stock.getStockQuantity()).isZero();
+        assertThat(shards).extracting(ProductStockShard::getShardNo).containsExactly(0, 1, 2);
+        assertThat(shards).extracting(ProductStockShard::getStockQuantity).containsExactly(4, 3, 3);
+    }
+
+    @Test
+    @DisplayName("샤드 수를 1 이하로 바꾸면 샤딩을 해제하고 재고 행으로 되돌린다")
+    void redistribute_unshard() {
+        ProductStock stock = ProductStock.of(1L, 270, 0);
+        stock.redistribute(10, 4);
+
+        List<ProductStockShard> shards = stock.redistribute(7, 0);
+
+        assertThat(shards).isEmpty();
+        assertThat(stock.isSharded()).isFalse();
+        assertThat(stock.getStockQuantity()).isEqualTo(7);
+    }
 }
@@ -11,6 +11,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -44,6 +45,22 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.status").value("CREATED"));
     }
 
+    @Test
+    @DisplayName("원스텝 구매 - 결제 완료 상태의 주문을 돌려준다")
+    void checkout_success() throws Exception {
+        OrderRequest.OrderItemRequest item = new OrderRequest.OrderItemRequest(1L, 1, 270);
+        OrderRequest request = new OrderRequest(USER_ID, List.of(item), null);
+
+        mockMvc.perform(post("/api/v1/orders/checkout")
+                        .header("X-USER-ID", String.valueOf(USER_ID))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.userId").value(USER_ID))
+                .andExpect(jsonPath("$.data.status").value("CONFIRMED"));
+    }
+
     @Test
     @DisplayName("주문 생성 실패 - 빈 주문 항목 리스트")
     void createOrder_emptyItems_shouldFail() throws Exception {
@@ -99,4 +116,16 @@ class OrderControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isUnprocessableEntity());
     }
+
+    @Test
+    @DisplayName("사용자 주문 목록 조회 - 경로의 사용자 ID로 조회한다")
+    void getOrders_byUserIdPath() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/users/{userId}", USER_ID)
+                        .header("X-USER-ID", String.valueOf(USER_ID))
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.orders").isArray())
+                .andExpect(jsonPath("$.data.orders[0].userId").value(USER_ID));
+    }
 }
@@ -14,7 +14,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -31,17 +33,17 @@ class PaymentApiIntegrationTest {
     private OrderRepository orderRepository;
 
 
-    private String setupOrder() {
+    private UUID setupOrder() {
         // 단일 상품 주문 아이템 구성
         OrderItem item = OrderItem.of(1L, 1, 270, Money.wons(1000L));
-        Order order = Order.create(100L, List.of(item), Money.wons(1000L));
+        Order order = Order.create(100L, List.of(item), Money.wons(1000L), LocalDateTime.now());
         return orderRepository.save(order).getId();
     }
 
     @Test
     @DisplayName("결제 요청 성공")
     void requestPayment_success() throws Exception {
-        String randomOrderId = setupOrder();
+        UUID randomOrderId = setupOrder();
 
         // 미리 주문 삽입하거나 테스트 환경에서 주문 생성 처리 필요
         PaymentRequest request = new PaymentRequest(randomOrderId, 100L, "BALANCE", 1000L);
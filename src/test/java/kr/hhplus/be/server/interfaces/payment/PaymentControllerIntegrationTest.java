@@ -13,7 +13,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,16 +35,16 @@ class PaymentControllerIntegrationTest {
     @Autowired
     private OrderRepository orderRepository;
 
-    private String setupOrder() {
+    private UUID setupOrder() {
         // 단일 상품 주문 아이템 구성
         OrderItem item = OrderItem.of(1L, 1, 270, Money.wons(1000L));
-        Order order = Order.create(100L, List.of(item), Money.wons(1000L));
+        Order order = Order.create(100L, List.of(item), Money.wons(1000L), LocalDateTime.now());
         return orderRepository.save(order).getId();
     }
     @Test
     @DisplayName("결제 성공")
     void requestPayment_success() throws Exception {
-        String orderId = setupOrder();
+        UUID orderId = setupOrder();
         PaymentRequest request = new PaymentRequest(orderId, USER_ID, "BALANCE", 1000L);
 
         mockMvc.perform(post("/api/v1/payments")
@@ -58,7 +60,7 @@ class PaymentControllerIntegrationTest {
     @Test
     @DisplayName("잔액 부족 - 결제 실패")
     void requestPayment_insufficientBalance() throws Exception {
-        String orderId = setupOrder();
+        UUID orderId = setupOrder();
         PaymentRequest request = new PaymentRequest(orderId, USER_ID, "BALANCE", 99999999L);
 
         mockMvc.perform(post("/api/v1/payments")
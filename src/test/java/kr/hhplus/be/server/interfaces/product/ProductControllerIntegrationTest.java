@@ -31,6 +31,25 @@ class ProductControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.products").isArray());
     }
 
+    @Test
+    @DisplayName("커서 모드 상품 목록 조회 시 nextCursor를 반환한다")
+    void getProductsByCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/products?cursor=&size=5&sort=createdAt,desc")
+                        .header("X-USER-ID", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.products.length()").value(5))
+                .andExpect(jsonPath("$.data.nextCursor").isString());
+    }
+
+    @Test
+    @DisplayName("커서 모드에서 페이지 크기가 0이면 400을 반환한다")
+    void getProductsByCursor_zeroSize_badRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/products?cursor=&size=0")
+                        .header("X-USER-ID", "100"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("상품 상세 조회 성공")
     void getProductDetail() throws Exception {
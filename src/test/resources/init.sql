@@ -19,9 +19,21 @@ CREATE TABLE product_stock (
                                product_id BIGINT NOT NULL,
                                size INT NOT NULL,
                                stock_quantity INT NOT NULL,
+                               shard_count INT NOT NULL DEFAULT 0,
                                updated_at DATETIME NOT NULL
 );
 
+-- ProductStockShard (product_stock.shard_count > 0 인 한정 발매 SKU의 재고를 나눠 담는다)
+CREATE TABLE product_stock_shard (
+                                     id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                     product_id BIGINT NOT NULL,
+                                     size INT NOT NULL,
+                                     shard_no INT NOT NULL,
+                                     stock_quantity INT NOT NULL,
+                                     updated_at DATETIME NOT NULL,
+                                     CONSTRAINT uq_product_size_shard UNIQUE (product_id, size, shard_no)
+);
+
 
 CREATE TABLE balance (
                          id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -55,11 +67,12 @@ CREATE TABLE coupon_issue (
 );
 
 CREATE TABLE orders (
-                        id VARCHAR(64) PRIMARY KEY,
+                        id BINARY(16) PRIMARY KEY,
                         user_id BIGINT NOT NULL,
                         total_amount BIGINT NOT NULL,
                         status VARCHAR(20) NOT NULL,
-                        created_at DATETIME NOT NULL
+                        created_at DATETIME NOT NULL,
+                        coupon_issue_id BIGINT NULL
 );
 
 
@@ -69,14 +82,14 @@ CREATE TABLE order_item (
                             quantity INT NOT NULL,
                             size INT NOT NULL,
                             price BIGINT NOT NULL,
-                            order_id VARCHAR(64)
+                            order_id BINARY(16)
 
 );
 
 
 CREATE TABLE order_history (
                                id BIGINT AUTO_INCREMENT PRIMARY KEY,
-                               order_id VARCHAR(64) NOT NULL,
+                               order_id BINARY(16) NOT NULL,
                                status VARCHAR(20) NOT NULL,
                                memo TEXT,
                                changed_at DATETIME NOT NULL
@@ -84,8 +97,8 @@ CREATE TABLE order_history (
 
 
 CREATE TABLE payment (
-                         id VARCHAR(64) PRIMARY KEY,
-                         order_id VARCHAR(64) NOT NULL,
+                         id BINARY(16) PRIMARY KEY,
+                         order_id BINARY(16) NOT NULL,
                          amount BIGINT NOT NULL,
                          status VARCHAR(20) NOT NULL,
                          method VARCHAR(50) NOT NULL,
@@ -123,6 +136,36 @@ CREATE TABLE product_statistics (
 );
 
 
+CREATE TABLE idempotency_key (
+                                 key_id VARCHAR(120) PRIMARY KEY,
+                                 scope VARCHAR(20) NOT NULL,
+                                 request_hash CHAR(64) NOT NULL,
+                                 response_body LONGTEXT,
+                                 created_at DATETIME NOT NULL,
+                                 started_at DATETIME(6) NOT NULL,
+                                 INDEX idx_idempotency_created_at (created_at)
+);
+
+-- 엔티티마다 id 블록 할당 행을 따로 둔다 (init/01-schema.sql 참고)
+CREATE TABLE id_generator (
+                              name VARCHAR(64) PRIMARY KEY,
+                              next_val BIGINT NOT NULL
+);
+
+ALTER TABLE product_stock ADD CONSTRAINT uq_product_size UNIQUE (product_id, size);
+
+CREATE INDEX idx_product_price_id_desc ON product (price DESC, id DESC);
+CREATE INDEX idx_product_created_at_id_desc ON product (created_at DESC, id DESC);
+CREATE INDEX idx_stat_date_product_sales ON product_statistics (stat_date, product_id, sales_count);
+
+-- 만료된 미결제 주문 회수용 (status, created_at) 인덱스
+CREATE INDEX idx_orders_status_created_at ON orders (status, created_at);
+
+-- 사용자 주문 목록 키셋 페이지네이션용 (user_id, created_at, id) 인덱스와 주문 상품 일괄 조회용 인덱스
+CREATE INDEX idx_orders_user_created_id ON orders (user_id, created_at DESC, id DESC);
+CREATE INDEX idx_order_item_order_id ON order_item (order_id);
+
+
 
 INSERT INTO product (id, name, brand, price, release_date, image_url, description, created_at, updated_at)
 VALUES
@@ -177,24 +220,32 @@ VALUES
 
 INSERT INTO orders (id, user_id, total_amount, status, created_at)
 VALUES
-    ('order-1', 100, 398000, 'CONFIRMED', NOW()),
-    ('order-2', 101, 169000, 'CREATED', NOW());
+    (UUID_TO_BIN('01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d'), 100, 398000, 'CONFIRMED', NOW()),
+    (UUID_TO_BIN('01928f4e-6a10-7b3c-9d4e-5f6a7b8c9d0e'), 101, 169000, 'CREATED', NOW());
 
 
 INSERT INTO order_item (id, product_id, quantity, size, price, order_id)
 VALUES
-    (1, 1, 1, 270, 199000, 'order-1'),
-    (2, 2, 1, 275, 169000, 'order-1');
+    (1, 1, 1, 270, 199000, UUID_TO_BIN('01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d')),
+    (2, 2, 1, 275, 169000, UUID_TO_BIN('01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d'));
 
 INSERT INTO payment (id, order_id, amount, status, method, created_at)
 VALUES
-    ('pay-1', 'order-1', 398000, 'SUCCESS', 'CARD', NOW());
+    (UUID_TO_BIN('01928f4e-6a3b-7c1d-9e2f-3a4b5c6d7e8f'), UUID_TO_BIN('01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d'), 398000, 'SUCCESS', 'CARD', NOW());
 
 INSERT INTO order_event (id, aggregate_type, event_type, payload, status, created_at)
 VALUES
-    (UUID_TO_BIN(UUID()), 'ORDER', 'PAYMENT_COMPLETED', '{"orderId":"order-1"}', 'PENDING', NOW());
+    (UUID_TO_BIN(UUID()), 'ORDER', 'PAYMENT_COMPLETED', '{"orderId":"01928f4e-69f0-7a2b-8c3d-4e5f6a7b8c9d"}', 'PENDING', NOW());
 
 INSERT INTO product_statistics (product_id, stat_date, sales_count, sales_amount)
 VALUES
     (1, CURRENT_DATE, 1, 199000),
     (2, CURRENT_DATE, 1, 169000);
+
+-- id 블록 할당 시작값 (시드 데이터의 최대 id 다음부터)
+INSERT INTO id_generator (name, next_val)
+SELECT 'order_item', COALESCE(MAX(id), 0) + 1 FROM order_item
+UNION ALL SELECT 'order_history', COALESCE(MAX(id), 0) + 1 FROM order_history
+UNION ALL SELECT 'balance', COALESCE(MAX(id), 0) + 1 FROM balance
+UNION ALL SELECT 'balance_history', COALESCE(MAX(id), 0) + 1 FROM balance_history
+UNION ALL SELECT 'coupon_issue', COALESCE(MAX(id), 0) + 1 FROM coupon_issue;